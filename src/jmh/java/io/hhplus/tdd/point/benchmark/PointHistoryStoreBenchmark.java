@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryStoreProperties;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.TransactionType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 내역 저장소 벤치마크
+ * - OBJECT : 유저별 로그에 PointHistory 객체를 보관 (PointHistoryTable 의 목록과 같은 객체 구성)
+ * - COLUMNAR : 유저별 로그를 열 단위 청크로 보관하고 가득 찬 청크는 압축 (ColumnarPointHistoryLog)
+ * - 지연 없는 저장소(SimulatedPointHistoryRepository) 위에서 조회용 저장소 자체의 비용만 측정
+ * - 셋업 시 내역을 모두 적재한 뒤 GC 후 힙 사용량 차이로 내역당 힙 사용량을 출력
+ * - scan : 유저 한 명의 전체 내역을 훑어 합계 계산 (Throughput 에 rowsPerUser 를 곱하면 초당 훑은 내역 수)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Threads(4)
+public class PointHistoryStoreBenchmark {
+
+    private static final TransactionType[] TYPES = {TransactionType.CHARGE, TransactionType.USE};
+
+    @Param({"10000"})
+    public int users;
+
+    @Param({"1000"})
+    public int rowsPerUser;
+
+    @Param({"OBJECT", "COLUMNAR"})
+    public PointHistoryStoreProperties.Type store;
+
+    private IndexedPointHistoryRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        repository = new IndexedPointHistoryRepository(
+                new SimulatedPointHistoryRepository(LatencyProfile.none()), store);
+        //유저들의 요청이 섞여 들어오는 것처럼 번갈아 저장 (유저별 id 간격 = 유저 수)
+        long millis = System.currentTimeMillis();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int row = 0; row < rowsPerUser; row++) {
+            for (long userId = 1; userId <= users; userId++) {
+                millis += random.nextInt(3);
+                repository.save(userId, random.nextLong(1, 100_000), TYPES[random.nextInt(2)], millis);
+            }
+        }
+        long rows = (long) users * rowsPerUser;
+        long used = usedHeap() - before;
+        System.out.printf("%n[%s] 내역 %d건 힙 사용량 : %dMB (내역당 %d바이트)%n", store, rows, used >> 20, used / rows);
+    }
+
+    @Benchmark
+    public long scan() {
+        long sum = 0L;
+        for (PointHistory history : repository.findAllByUserId(nextUserId())) {
+            sum += history.amount();
+        }
+        return sum;
+    }
+
+    //커서 조회 : 내역 중간 이후 20건
+    @Benchmark
+    public long page() {
+        long userId = nextUserId();
+        long after = (long) users * (rowsPerUser / 2) + userId;
+        try (Stream<PointHistory> histories = repository.streamByUserId(userId,
+                PointHistoryQuery.of(after, null, null, null))) {
+            return histories.limit(20).mapToLong(PointHistory::amount).sum();
+        }
+    }
+
+    private long nextUserId() {
+        return ThreadLocalRandom.current().nextLong(1, users + 1L);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
@@ -0,0 +1,136 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.AtomicPointUpdater;
+import io.hhplus.tdd.point.service.PointCommandApplier;
+import io.hhplus.tdd.point.service.PointCommandQueue;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.UserLockManager;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+
+/**
+ * PointService 충전/사용/조회/내역 조회 벤치마크
+ * - 스레드 수는 하위 클래스(@Threads 1/8/64)로 나눠 측정
+ * - throttleMillis 로 테이블 지연 시간을 조절 (0 이면 LatencyProfile.none 으로 우리 코드의 비용만 측정)
+ * - mode, cache 로 동시성 제어 방식과 조회 캐시 적용 여부를 비교
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public abstract class PointServiceBenchmark {
+
+    private static final long INITIAL_POINT = Long.MAX_VALUE / 4;
+    private static final int INITIAL_HISTORIES = 100;
+
+    @Param({"1000"})
+    public int users;
+
+    @Param({"uniform", "zipf"})
+    public String distribution;
+
+    @Param({"0"})
+    public long throttleMillis;
+
+    @Param({"LOCK", "ACTOR", "COALESCE", "CAS"})
+    public PointMutationProperties.Mode mode;
+
+    @Param({"false", "true"})
+    public boolean cache;
+
+    private PointService pointService;
+    private PointCommandQueue pointCommandQueue;
+    private UserIdDistribution userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        UserPointTable userPointTable = new UserPointTable();
+        //CAS 모드는 원자적 갱신을 지원하는 배열 저장소에서만 동작
+        UserPointRepository userPointRepository = mode == PointMutationProperties.Mode.CAS
+                ? new PrimitiveUserPointRepository(users)
+                : new SimulatedUserPointRepository(
+                        LatencyProfile.uniformMillis(throttleMillis * 2 / 3), LatencyProfile.uniformMillis(throttleMillis));
+        //배열 저장소에는 캐시를 두지 않는다. (UserPointRepositoryConfig 와 같이, 캐시는 원자적 갱신을 지원하지 않는다)
+        //CAS 모드의 cache=true 는 cache=false 와 같은 구성으로 측정된다.
+        if (cache && mode != PointMutationProperties.Mode.CAS) {
+            userPointRepository = new CachedUserPointRepository(userPointRepository, users);
+        }
+        PointHistoryRepository pointHistoryRepository =
+                new IndexedPointHistoryRepository(
+                        new SimulatedPointHistoryRepository(LatencyProfile.uniformMillis(throttleMillis)));
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointCommitPublisher pointCommitPublisher = PointCommitPublisher.none();
+        pointCommandQueue = new PointCommandQueue(new PointCommandApplier(userPointTable, userPointRepository,
+                pointHistoryRepository, pointMetrics, pointCommitPublisher),
+                pointMetrics, new PointMutationProperties(mode, 64, 100, 1L));
+        UserLockManager userLockManager = new UserLockManager();
+        pointService = new PointService(userPointTable, userPointRepository, pointHistoryRepository,
+                userLockManager, pointCommandQueue, pointMetrics, pointCommitPublisher,
+                new AtomicPointUpdater(userPointTable, userPointRepository, pointHistoryRepository,
+                        userLockManager, pointMetrics, pointCommitPublisher, mode == PointMutationProperties.Mode.CAS),
+                PointShardRouter.disabled(), HotUserRouter.disabled());
+        userIds = UserIdDistribution.of(distribution, users);
+
+        //사용 요청이 실패하지 않도록 충분한 포인트와 조회할 내역을 미리 적재
+        for (long id = 1; id <= users; id++) {
+            userPointRepository.save(id, INITIAL_POINT);
+            for (int i = 0; i < INITIAL_HISTORIES; i++) {
+                pointHistoryRepository.save(id, 1L, CHARGE, System.currentTimeMillis());
+            }
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pointCommandQueue.close();
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return pointService.charge(userIds.next(), 1L);
+    }
+
+    @Benchmark
+    public UserPoint use() {
+        return pointService.use(userIds.next(), 1L);
+    }
+
+    @Benchmark
+    public UserPoint select() {
+        return pointService.select(userIds.next());
+    }
+
+    @Benchmark
+    public List<PointHistory> selectPointHistory() {
+        return pointService.selectPointHistory(userIds.next());
+    }
+}
@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+@Threads(1)
+public class PointServiceThreads1Benchmark extends PointServiceBenchmark {
+}
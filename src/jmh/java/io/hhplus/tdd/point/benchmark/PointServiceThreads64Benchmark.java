@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+@Threads(64)
+public class PointServiceThreads64Benchmark extends PointServiceBenchmark {
+}
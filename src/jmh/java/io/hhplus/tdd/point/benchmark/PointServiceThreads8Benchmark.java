@@ -0,0 +1,7 @@
+package io.hhplus.tdd.point.benchmark;
+
+import org.openjdk.jmh.annotations.Threads;
+
+@Threads(8)
+public class PointServiceThreads8Benchmark extends PointServiceBenchmark {
+}
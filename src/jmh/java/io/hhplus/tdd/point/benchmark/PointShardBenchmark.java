@@ -0,0 +1,84 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.shard.LocalPointShard;
+import io.hhplus.tdd.point.shard.PointShardRing;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+
+/**
+ * 샤드 수에 따른 충전 처리량 비교
+ * - 샤드마다 저장소와 처리 스레드 1개를 두어 샤드 수가 곧 병렬 처리 단위가 되도록 한다.
+ * - 벤치마크 스레드는 코어 수만큼(@Threads(MAX)) 두고, 샤드 수를 코어 수까지 늘리며 처리량 증가를 확인
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Threads(Threads.MAX)
+public class PointShardBenchmark {
+
+    @Param({"1000"})
+    public int users;
+
+    @Param({"uniform"})
+    public String distribution;
+
+    @Param({"0"})
+    public long throttleMillis;
+
+    @Param({"1", "2", "4", "8"})
+    public int shards;
+
+    private PointShardRouter pointShardRouter;
+    private UserIdDistribution userIds;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        List<LocalPointShard> localShards = new ArrayList<>(shards);
+        for (int i = 0; i < shards; i++) {
+            localShards.add(LocalPointShard.of("shard-" + i, new UserPointTable(),
+                    new SimulatedUserPointRepository(LatencyProfile.uniformMillis(throttleMillis * 2 / 3),
+                            LatencyProfile.uniformMillis(throttleMillis)),
+                    new IndexedPointHistoryRepository(
+                            new SimulatedPointHistoryRepository(LatencyProfile.uniformMillis(throttleMillis))),
+                    pointMetrics, PointCommitPublisher.none(), 1, 1 << 16));
+        }
+        pointShardRouter = new PointShardRouter(new PointShardRing(localShards, 160));
+        userIds = UserIdDistribution.of(distribution, users);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        pointShardRouter.close();
+    }
+
+    @Benchmark
+    public UserPoint charge() {
+        return pointShardRouter.apply(userIds.next(), CHARGE, 1L).join();
+    }
+}
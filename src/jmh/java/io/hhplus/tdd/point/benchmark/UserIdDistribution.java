@@ -0,0 +1,47 @@
+package io.hhplus.tdd.point.benchmark;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 벤치마크 요청의 유저 id 분포
+ * - uniform : 모든 유저가 같은 확률
+ * - zipf : 순위 k 의 유저가 1/k^s 에 비례하는 확률 (소수의 유저에게 요청이 몰리는 실제 트래픽)
+ */
+final class UserIdDistribution {
+
+    private static final double ZIPF_EXPONENT = 1.0;
+
+    private final int users;
+    private final double[] cumulative; //zipf 누적 확률, uniform 이면 null
+
+    private UserIdDistribution(int users, double[] cumulative) {
+        this.users = users;
+        this.cumulative = cumulative;
+    }
+
+    static UserIdDistribution of(String name, int users) {
+        if (name.equals("uniform")) return new UserIdDistribution(users, null);
+        if (!name.equals("zipf")) throw new IllegalArgumentException("지원하지 않는 분포입니다. : " + name);
+
+        double[] cumulative = new double[users];
+        double sum = 0;
+        for (int rank = 1; rank <= users; rank++) {
+            sum += 1.0 / Math.pow(rank, ZIPF_EXPONENT);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < users; i++) {
+            cumulative[i] /= sum;
+        }
+        return new UserIdDistribution(users, cumulative);
+    }
+
+    //1 ~ users 사이의 유저 id
+    long next() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        if (cumulative == null) return random.nextInt(users) + 1L;
+
+        int index = Arrays.binarySearch(cumulative, random.nextDouble());
+        return (index >= 0 ? index : -index - 1) + 1L;
+    }
+}
@@ -0,0 +1,80 @@
+package io.hhplus.tdd.point.benchmark;
+
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 유저 포인트 저장소 벤치마크
+ * - MAP : UserPointTable 과 같은 ConcurrentHashMap<Long, UserPoint> (지연 없음)
+ * - PRIMITIVE : long 배열 저장소 (PrimitiveUserPointRepository)
+ * - 지연 없이 저장소 자체의 조회/저장 비용만 측정 (연산당 할당량은 -prof gc 로 비교)
+ * - 셋업 시 유저를 모두 적재한 뒤 GC 후 힙 사용량 차이로 유저당 힙 사용량을 출력
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(value = 1, jvmArgsAppend = {"-Xms8g", "-Xmx8g"})
+@Threads(8)
+public class UserPointStoreBenchmark {
+
+    @Param({"1000000", "10000000"})
+    public int users;
+
+    @Param({"MAP", "PRIMITIVE"})
+    public String store;
+
+    private UserPointRepository repository;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        long before = usedHeap();
+        repository = store.equals("MAP")
+                ? new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none())
+                : new PrimitiveUserPointRepository(users);
+        for (long id = 1; id <= users; id++) {
+            repository.save(id, id);
+        }
+        long used = usedHeap() - before;
+        System.out.printf("%n[%s] 유저 %d명 힙 사용량 : %dMB (유저당 %d바이트)%n", store, users, used >> 20, used / users);
+    }
+
+    @Benchmark
+    public UserPoint findById() {
+        return repository.findById(nextId());
+    }
+
+    @Benchmark
+    public UserPoint save() {
+        long id = nextId();
+        return repository.save(id, id);
+    }
+
+    private long nextId() {
+        return ThreadLocalRandom.current().nextLong(1, users + 1L);
+    }
+
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
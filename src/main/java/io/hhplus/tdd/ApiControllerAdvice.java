@@ -1,12 +1,30 @@
 package io.hhplus.tdd;
 
+import io.hhplus.tdd.point.service.PointAdmissionRejectedException;
+import io.hhplus.tdd.point.service.PointBatchTooLargeException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.servlet.mvc.method.annotation.ResponseEntityExceptionHandler;
 
 @RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 class ApiControllerAdvice extends ResponseEntityExceptionHandler {
+    //요청 수 제한으로 거절한 요청은 다시 시도할 시간을 알려준다.
+    @ExceptionHandler(value = PointAdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejected(PointAdmissionRejectedException e) {
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = PointBatchTooLargeException.class)
+    public ResponseEntity<ErrorResponse> handleBatchTooLarge(PointBatchTooLargeException e) {
+        return ResponseEntity.status(400).body(new ErrorResponse("400", e.getMessage()));
+    }
+
     @ExceptionHandler(value = Exception.class)
     public ResponseEntity<ErrorResponse> handleException(Exception e) {
         return ResponseEntity.status(500).body(new ErrorResponse("500", e.getMessage()));
@@ -0,0 +1,26 @@
+package io.hhplus.tdd;
+
+import io.hhplus.tdd.point.service.PointAdmissionRejectedException;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.reactive.result.method.annotation.ResponseEntityExceptionHandler;
+
+//reactive 프로필에서 ApiControllerAdvice 와 같은 오류 응답
+@RestControllerAdvice
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+class ReactiveApiControllerAdvice extends ResponseEntityExceptionHandler {
+    @ExceptionHandler(value = PointAdmissionRejectedException.class)
+    public ResponseEntity<ErrorResponse> handleAdmissionRejected(PointAdmissionRejectedException e) {
+        return ResponseEntity.status(429)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.retryAfterSeconds()))
+                .body(new ErrorResponse("429", e.getMessage()));
+    }
+
+    @ExceptionHandler(value = Exception.class)
+    public ResponseEntity<ErrorResponse> handleException(Exception e) {
+        return ResponseEntity.status(500).body(new ErrorResponse("500", e.getMessage()));
+    }
+}
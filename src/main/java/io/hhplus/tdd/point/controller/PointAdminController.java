@@ -0,0 +1,34 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.hot.HotUser;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.reconcile.PointReconciliationReport;
+import io.hhplus.tdd.point.reconcile.PointReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/admin/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class PointAdminController {
+
+    private final PointReconciliationService pointReconciliationService;
+    private final HotUserRouter hotUserRouter;
+
+    //전체 유저의 잔고를 기초 잔고 + 내역 합계와 비교해 불일치 유저를 반환
+    //repair=true 이면 불일치 유저의 잔고를 보정 (point.reconcile.repair-enabled=true 일 때만, 내역이 없는 유저는 제외)
+    @PostMapping("reconciliation")
+    public PointReconciliationReport reconcile(@RequestParam(defaultValue = "false") boolean repair) {
+        return pointReconciliationService.reconcile(repair);
+    }
+
+    //직전 구간에 충전/사용 요청이 가장 많았던 유저와 초당 요청 수 (hot=true 이고 point.hot.route=true 이면 hot user 경로로 처리 중)
+    @GetMapping("hot-users")
+    public List<HotUser> hotUsers() {
+        return hotUserRouter.topUsers();
+    }
+}
@@ -1,22 +1,47 @@
 package io.hhplus.tdd.point.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.hhplus.tdd.point.event.PointEventHub;
 import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointSummary;
+import io.hhplus.tdd.point.repository.TransactionType;
 import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointAdmissionControl;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointIdempotencyStore;
+import io.hhplus.tdd.point.service.PointOperation;
+import io.hhplus.tdd.point.service.PointOperationResult;
 import io.hhplus.tdd.point.service.PointService;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
 
 @RequiredArgsConstructor
 @RestController
 @RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class PointController {
 
     private static final Logger log = LoggerFactory.getLogger(PointController.class);
+    private static final int MAX_HISTORY_LIMIT = 1_000;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
     private final PointService pointService;
+    private final PointBatchService pointBatchService;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final PointEventHub pointEventHub;
+    private final PointAdmissionControl pointAdmissionControl;
+    private final ObjectMapper objectMapper;
 
     //특정 유저의 포인트 조회
     @GetMapping("{id}")
@@ -25,26 +50,90 @@ public class PointController {
     }
 
     //특정 유저의 포인트 충전/이용 내역을 조회하는 기능
+    //after(커서), from/to(updateMillis 범위), type 으로 필터링, limit 지정 시 최대 1000건
     @GetMapping("{id}/histories")
-    public List<PointHistory> history(@PathVariable long id) {
-        return pointService.selectPointHistory(id);
+    public List<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        PointHistoryQuery query = PointHistoryQuery.of(after, from, to, type);
+        int size = limit == null ? Integer.MAX_VALUE : Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+        return pointService.selectPointHistory(id, query, size);
+    }
+
+    //특정 유저의 충전/사용 합계, 내역 수, 마지막 내역 시각 조회 (내역 목록을 내려받아 합산하지 않아도 된다)
+    @GetMapping("{id}/summary")
+    public PointSummary summary(@PathVariable long id) {
+        return pointService.selectSummary(id);
+    }
+
+    //특정 유저의 포인트 내역을 한 줄에 하나씩(NDJSON) 읽는 대로 내려주는 기능, 전체 목록을 메모리에 만들지 않는다.
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> historyStream(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        PointHistoryQuery query = PointHistoryQuery.of(after, from, to, type);
+        StreamingResponseBody body = outputStream -> {
+            try (Stream<PointHistory> histories = pointService.streamPointHistory(id, query)) {
+                for (PointHistory pointHistory : (Iterable<PointHistory>) histories::iterator) {
+                    outputStream.write(objectMapper.writeValueAsBytes(pointHistory));
+                    outputStream.write('\n');
+                }
+            }
+        };
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    //특정 유저의 포인트 변경을 SSE 로 구독하는 기능, 충전/사용이 반영될 때마다 반영 후 포인트와 내역을 보낸다. (event: point)
+    @GetMapping(value = "{id}/events", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter events(@PathVariable long id) {
+        return pointEventHub.subscribe(id);
     }
 
     //특정 유저의 포인트를 충전하는 기능
+    //Idempotency-Key 헤더가 있으면 같은 키의 재요청은 다시 충전하지 않고 처음 요청의 결과를 반환
+    //유저별 요청 속도나 전체 동시 처리 수를 넘으면 처리하지 않고 429 응답
     @PatchMapping("{id}/charge")
-    public UserPoint charge(
+    public CompletableFuture<UserPoint> charge(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-        return pointService.charge(id, amount);
+        return pointAdmissionControl.execute(id, () -> {
+            if (idempotencyKey == null) return pointService.chargeAsync(id, amount);
+            return pointIdempotencyStore.execute(idempotencyKey, id, TransactionType.CHARGE, amount,
+                    () -> pointService.chargeAsync(id, amount));
+        });
     }
 
     //특정 유저의 포인트를 사용하는 기능
     @PatchMapping("{id}/use")
-    public UserPoint use(
+    public CompletableFuture<UserPoint> use(
             @PathVariable long id,
-            @RequestBody long amount
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
     ) {
-        return pointService.use(id, amount);
+        return pointAdmissionControl.execute(id, () -> {
+            if (idempotencyKey == null) return pointService.useAsync(id, amount);
+            return pointIdempotencyStore.execute(idempotencyKey, id, TransactionType.USE, amount,
+                    () -> pointService.useAsync(id, amount));
+        });
+    }
+
+    //여러 유저의 포인트를 한 번에 충전/사용하는 기능
+    //같은 유저의 항목은 요청 순서대로 처리하고, 항목별 성공/실패 결과를 요청 순서대로 반환
+    //요청 수 제한은 항목마다 해당 유저의 요청 한 건으로 계산, 최대 항목 수를 넘으면 처리하지 않고 400 응답
+    @PostMapping("batch")
+    public List<PointOperationResult> batch(@RequestBody List<PointOperation> operations) {
+        pointBatchService.checkSize(operations);
+        return pointAdmissionControl.execute(operations, () -> pointBatchService.apply(operations));
     }
 }
\ No newline at end of file
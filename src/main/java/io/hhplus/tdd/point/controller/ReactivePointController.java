@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.controller;
+
+import io.hhplus.tdd.point.reactive.ReactivePointService;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointAdmissionControl;
+import io.hhplus.tdd.point.service.PointIdempotencyStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.*;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+/**
+ * PointController 와 같은 요청/응답의 WebFlux 컨트롤러 (reactive 프로필)
+ * - 요청마다 스레드를 점유하지 않고, 테이블 호출은 ReactivePointService 의 스케줄러에서 수행
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/point")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactivePointController {
+
+    private static final int MAX_HISTORY_LIMIT = 1_000;
+    private static final String IDEMPOTENCY_KEY = "Idempotency-Key";
+    private final ReactivePointService reactivePointService;
+    private final PointIdempotencyStore pointIdempotencyStore;
+    private final PointAdmissionControl pointAdmissionControl;
+
+    @GetMapping("{id}")
+    public Mono<UserPoint> point(@PathVariable long id) {
+        return reactivePointService.select(id);
+    }
+
+    //내역은 JSON 배열로 읽는 대로 내려보낸다. (limit 지정 시 최대 1000건)
+    @GetMapping("{id}/histories")
+    public Flux<PointHistory> history(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Integer limit,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        PointHistoryQuery query = PointHistoryQuery.of(after, from, to, type);
+        int size = limit == null ? Integer.MAX_VALUE : Math.min(Math.max(limit, 1), MAX_HISTORY_LIMIT);
+        return reactivePointService.histories(id, query, size);
+    }
+
+    //한 줄에 하나씩(NDJSON)
+    @GetMapping(value = "{id}/histories/stream", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<PointHistory> historyStream(
+            @PathVariable long id,
+            @RequestParam(required = false) Long after,
+            @RequestParam(required = false) Long from,
+            @RequestParam(required = false) Long to,
+            @RequestParam(required = false) TransactionType type
+    ) {
+        return reactivePointService.histories(id, PointHistoryQuery.of(after, from, to, type), Integer.MAX_VALUE);
+    }
+
+    @PatchMapping("{id}/charge")
+    public Mono<UserPoint> charge(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        return mutate(id, TransactionType.CHARGE, amount, idempotencyKey, reactivePointService.charge(id, amount));
+    }
+
+    @PatchMapping("{id}/use")
+    public Mono<UserPoint> use(
+            @PathVariable long id,
+            @RequestBody long amount,
+            @RequestHeader(value = IDEMPOTENCY_KEY, required = false) String idempotencyKey
+    ) {
+        return mutate(id, TransactionType.USE, amount, idempotencyKey, reactivePointService.use(id, amount));
+    }
+
+    //요청 수 제한과 Idempotency-Key 처리는 MVC 와 같다. (action 은 구독할 때 실행)
+    private Mono<UserPoint> mutate(long id, TransactionType type, long amount, String idempotencyKey,
+                                   Mono<UserPoint> action) {
+        return Mono.fromFuture(() -> pointAdmissionControl.execute(id, () -> {
+            if (idempotencyKey == null) return action.toFuture();
+            return pointIdempotencyStore.execute(idempotencyKey, id, type, amount, action::toFuture);
+        }), true);
+    }
+}
@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.UserPoint;
+
+/**
+ * 충전/사용 반영 결과 이벤트 (SSE data)
+ *
+ * @param userPoint    반영 후 포인트
+ * @param pointHistory 반영된 내역
+ */
+public record PointEvent(
+        UserPoint userPoint,
+        PointHistory pointHistory
+) {
+}
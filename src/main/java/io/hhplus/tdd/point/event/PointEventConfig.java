@@ -0,0 +1,16 @@
+package io.hhplus.tdd.point.event;
+
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties(PointEventProperties.class)
+public class PointEventConfig {
+
+    //PointCommitListener 빈이므로 충전/사용 반영 결과가 자동으로 전달된다. (종료 시 close 로 모든 연결 종료)
+    @Bean
+    public PointEventHub pointEventHub(PointEventProperties properties) {
+        return new PointEventHub(properties.bufferSize(), properties.timeoutMillis(), properties.heartbeatSeconds());
+    }
+}
@@ -0,0 +1,213 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointCommitListener;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 유저별 포인트 변경을 SSE 구독자에게 전달하는 허브
+ * - 충전/사용 반영 시(유저 락 안) 구독자가 없으면 조회 한 번으로 끝나고, 있으면 구독자 큐에 넣기만 한다.
+ * - 전송은 구독자마다 한 번에 하나의 가상 스레드가 큐를 비우는 방식이라 대기 중인 구독자는 스레드를 점유하지 않는다.
+ * - 전송을 기다리는 이벤트가 bufferSize 를 넘는 느린 구독자는 연결을 끊는다. (클라이언트는 다시 연결해 최신 잔고를 조회)
+ *   응답 종료(complete)는 진행 중인 전송이 끝나기를 기다리므로 반영 스레드에서는 목록에서 빼기만 하고 전송 스레드에서 종료
+ * - heartbeat 주기마다 빈 주석을 보내 끊긴 연결을 찾아 정리
+ */
+public class PointEventHub implements PointCommitListener, MeterBinder, AutoCloseable {
+
+    static final String EVENT_NAME = "point";
+    private static final Subscriber[] NONE = new Subscriber[0];
+    private static final PointEvent HEARTBEAT = new PointEvent(null, null); //큐에 넣는 heartbeat 표시
+
+    private final int bufferSize;
+    private final long timeoutMillis;
+    //유저별 구독자 배열 (구독/해지 시에만 복사, 전달 시에는 잠금 없이 읽는다)
+    private final ConcurrentHashMap<Long, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    //전송은 응답 쓰기에서 막힐 수 있으므로 가상 스레드로 처리
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+    private final ScheduledExecutorService scheduler;
+
+    public PointEventHub(int bufferSize, long timeoutMillis, long heartbeatSeconds) {
+        this.bufferSize = bufferSize;
+        this.timeoutMillis = timeoutMillis;
+        if (heartbeatSeconds > 0) {
+            this.scheduler = Executors.newSingleThreadScheduledExecutor(
+                    runnable -> {
+                        Thread thread = new Thread(runnable, "point-event-heartbeat");
+                        thread.setDaemon(true);
+                        return thread;
+                    });
+            this.scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatSeconds, heartbeatSeconds, TimeUnit.SECONDS);
+        } else {
+            this.scheduler = null;
+        }
+    }
+
+    public SseEmitter subscribe(long userId) {
+        return subscribe(userId, new SseEmitter(timeoutMillis));
+    }
+
+    SseEmitter subscribe(long userId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, emitter);
+        emitter.onCompletion(() -> remove(subscriber));
+        emitter.onError(throwable -> remove(subscriber));
+        emitter.onTimeout(emitter::complete);
+
+        subscribers.compute(userId, (id, current) -> {
+            if (current == null) return new Subscriber[]{subscriber};
+            Subscriber[] added = Arrays.copyOf(current, current.length + 1);
+            added[current.length] = subscriber;
+            return added;
+        });
+        subscriberCount.incrementAndGet();
+        return emitter;
+    }
+
+    @Override
+    public void onCommit(UserPoint userPoint, PointHistory pointHistory) {
+        Subscriber[] targets = subscribers.getOrDefault(userPoint.id(), NONE);
+        if (targets.length == 0) return;
+
+        PointEvent event = new PointEvent(userPoint, pointHistory);
+        for (Subscriber subscriber : targets) {
+            offer(subscriber, event);
+        }
+    }
+
+    //현재 연결된 구독자 수
+    public int subscriberCount() {
+        return subscriberCount.get();
+    }
+
+    //느린 구독자로 보고 연결을 끊은 수
+    public long droppedCount() {
+        return dropped.get();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.events.subscribers", subscriberCount, AtomicInteger::get)
+                .description("포인트 변경 이벤트 구독자 수")
+                .register(registry);
+        FunctionCounter.builder("point.events.dropped", dropped, AtomicLong::get)
+                .description("전송이 밀려 연결을 끊은 구독자 수")
+                .register(registry);
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) scheduler.shutdownNow();
+        subscribers.values().forEach(targets -> {
+            for (Subscriber subscriber : targets) {
+                subscriber.emitter.complete();
+            }
+        });
+        executor.shutdown();
+    }
+
+    private void heartbeat() {
+        subscribers.values().forEach(targets -> {
+            for (Subscriber subscriber : targets) {
+                offer(subscriber, HEARTBEAT);
+            }
+        });
+    }
+
+    private void offer(Subscriber subscriber, PointEvent event) {
+        if (subscriber.closed.get()) return;
+        if (subscriber.pending.incrementAndGet() > bufferSize) {
+            drop(subscriber);
+            return;
+        }
+        subscriber.events.add(event);
+        if (subscriber.scheduled.compareAndSet(false, true)) {
+            executor.execute(() -> drain(subscriber));
+        }
+    }
+
+    //한 구독자의 큐는 한 번에 하나의 스레드만 비우므로 이벤트 순서가 유지된다.
+    private void drain(Subscriber subscriber) {
+        do {
+            PointEvent event;
+            while ((event = subscriber.events.poll()) != null) {
+                subscriber.pending.decrementAndGet();
+                if (subscriber.closed.get()) continue;
+                try {
+                    subscriber.emitter.send(event == HEARTBEAT
+                            ? SseEmitter.event().comment("")
+                            : SseEmitter.event().name(EVENT_NAME).data(event));
+                } catch (IOException | IllegalStateException e) {
+                    //연결이 끊겼거나 이미 종료된 응답
+                    disconnect(subscriber);
+                }
+            }
+            subscriber.scheduled.set(false);
+            //scheduled 를 내리는 사이 추가된 이벤트는 여기서 이어서 처리
+        } while (!subscriber.events.isEmpty() && subscriber.scheduled.compareAndSet(false, true));
+    }
+
+    //반영 스레드(유저 락 안)에서 호출되므로 응답 종료는 전송 스레드에 맡긴다.
+    //느린 구독자의 전송은 꽉 찬 소켓에서 막혀 있을 수 있고, complete 는 그 전송이 끝나기를 기다린다.
+    private void drop(Subscriber subscriber) {
+        if (!remove(subscriber)) return;
+        dropped.incrementAndGet();
+        try {
+            executor.execute(subscriber.emitter::complete);
+        } catch (RejectedExecutionException e) {
+            //종료 중에는 전송 스레드가 없으므로 바로 종료
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void disconnect(Subscriber subscriber) {
+        remove(subscriber);
+        subscriber.emitter.complete();
+    }
+
+    //목록에서 뺐으면 true (이미 빠진 구독자는 false)
+    private boolean remove(Subscriber subscriber) {
+        if (!subscriber.closed.compareAndSet(false, true)) return false;
+        subscribers.computeIfPresent(subscriber.userId, (id, current) -> {
+            Subscriber[] remaining = Arrays.stream(current)
+                    .filter(target -> target != subscriber)
+                    .toArray(Subscriber[]::new);
+            return remaining.length == 0 ? null : remaining;
+        });
+        subscriberCount.decrementAndGet();
+        return true;
+    }
+
+    private static final class Subscriber {
+        private final long userId;
+        private final SseEmitter emitter;
+        private final Queue<PointEvent> events = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger pending = new AtomicInteger(); //큐에 넣었지만 아직 보내지 않은 이벤트 수
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private Subscriber(long userId, SseEmitter emitter) {
+            this.userId = userId;
+            this.emitter = emitter;
+        }
+    }
+}
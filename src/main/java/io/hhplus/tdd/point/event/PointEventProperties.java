@@ -0,0 +1,20 @@
+package io.hhplus.tdd.point.event;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 변경 이벤트(SSE) 설정
+ *
+ * @param bufferSize        구독자마다 전송을 기다릴 수 있는 최대 이벤트 수, 넘으면 느린 구독자로 보고 연결을 끊는다.
+ *                          일괄 처리(point.mutation.max-batch)는 한 유저의 변경을 한 번에 전달하므로 그보다 크게 설정
+ * @param timeoutMillis     연결 유지 시간, 지나면 연결을 끊고 클라이언트가 다시 연결한다.
+ * @param heartbeatSeconds  변경이 없어도 이 주기로 빈 주석을 보내 끊긴 연결을 정리 (0 이면 보내지 않음)
+ */
+@ConfigurationProperties(prefix = "point.events")
+public record PointEventProperties(
+        @DefaultValue("256") int bufferSize,
+        @DefaultValue("1800000") long timeoutMillis,
+        @DefaultValue("30") long heartbeatSeconds
+) {
+}
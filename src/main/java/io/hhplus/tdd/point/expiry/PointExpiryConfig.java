@@ -0,0 +1,50 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.hhplus.tdd.point.service.UserLockManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.concurrent.Executors;
+
+@Configuration
+@ConditionalOnProperty(prefix = "point.expiry", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PointExpiryProperties.class)
+public class PointExpiryConfig {
+
+    //PointCommitListener 빈이므로 충전/사용 반영 결과가 자동으로 전달된다.
+    //만료는 유저 락으로 잔고를 갱신하므로 락 없이 처리하는 모드나 샤드별 테이블을 쓰는 샤드 모드와는 함께 쓸 수 없다.
+    @Bean
+    public PointLotLedger pointLotLedger(PointExpiryProperties properties,
+                                         PointMutationProperties pointMutationProperties,
+                                         Environment environment) {
+        if (pointMutationProperties.mode() != PointMutationProperties.Mode.LOCK) {
+            throw new IllegalStateException("포인트 만료는 point.mutation.mode=lock 에서만 사용할 수 있습니다.");
+        }
+        if (environment.getProperty("point.shard.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("포인트 만료는 샤드 모드(point.shard.enabled)와 함께 사용할 수 없습니다.");
+        }
+        return new PointLotLedger(properties.ttl().toMillis());
+    }
+
+    //MeterBinder 빈이므로 point.expiry.* 지표는 자동으로 등록된다. (종료 시 close 로 스레드 정리)
+    @Bean
+    public PointExpiryScheduler pointExpiryScheduler(PointExpiryProperties properties,
+                                                     PointLotLedger pointLotLedger,
+                                                     UserPointRepository userPointRepository,
+                                                     PointHistoryRepository pointHistoryRepository,
+                                                     UserLockManager userLockManager,
+                                                     PointCommitPublisher pointCommitPublisher) {
+        PointExpiryScheduler scheduler = new PointExpiryScheduler(pointLotLedger, userPointRepository,
+                pointHistoryRepository, userLockManager, pointCommitPublisher, properties.tickMillis(),
+                Executors.newFixedThreadPool(properties.threads()));
+        scheduler.start();
+        return scheduler;
+    }
+}
@@ -0,0 +1,23 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+/**
+ * 포인트 유효기간 설정
+ *
+ * @param enabled    true : 충전 묶음별로 유효기간을 추적하고 만료 시 EXPIRE 내역과 함께 잔고에서 차감
+ * @param ttl        충전 후 유효기간
+ * @param tickMillis 타이밍 휠의 한 틱 (만료 시각보다 최대 한 틱 늦게 소멸)
+ * @param threads    만료 반영(유저 락, 조회/저장)에 사용할 스레드 수
+ */
+@ConfigurationProperties(prefix = "point.expiry")
+public record PointExpiryProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("365d") Duration ttl,
+        @DefaultValue("1000") long tickMillis,
+        @DefaultValue("4") int threads
+) {
+}
@@ -0,0 +1,143 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.UserLockManager;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.hhplus.tdd.point.repository.TransactionType.EXPIRE;
+
+/**
+ * 충전 묶음(lot)을 만료 시각에 소멸시키는 스케줄러
+ * - 만료 스레드 하나가 tickMillis 마다 새 묶음을 타이밍 휠에 넣고 휠을 현재 틱까지 진행 (전체 내역을 훑지 않는다)
+ * - 이번 틱에 만료된 묶음은 유저별로 모아 유저 락 안에서 한 번의 조회/저장과 EXPIRE 내역 한 건으로 반영
+ * - 유저별 반영은 executor 에서 처리하므로 테이블 지연 동안 휠 진행이 멈추지 않고,
+ *   충전/사용 요청과는 해당 유저의 락에서만 만난다.
+ * - 반영 결과는 PointCommitPublisher 로 전달해 저널/SSE 에도 기록된다.
+ */
+public class PointExpiryScheduler implements MeterBinder, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointExpiryScheduler.class);
+
+    private final PointLotLedger pointLotLedger;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final PointCommitPublisher pointCommitPublisher;
+    private final long tickMillis;
+    private final Executor executor;
+    private final TimingWheel<PointLot> wheel;
+    private final AtomicLong expiredPoints = new AtomicLong();
+    private volatile int scheduledLots; //휠은 만료 스레드만 읽으므로 지표용으로 복사
+    private ScheduledExecutorService ticker;
+
+    public PointExpiryScheduler(PointLotLedger pointLotLedger,
+                                UserPointRepository userPointRepository,
+                                PointHistoryRepository pointHistoryRepository,
+                                UserLockManager userLockManager,
+                                PointCommitPublisher pointCommitPublisher,
+                                long tickMillis,
+                                Executor executor) {
+        this.pointLotLedger = pointLotLedger;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.pointCommitPublisher = pointCommitPublisher;
+        this.tickMillis = tickMillis;
+        this.executor = executor;
+        this.wheel = new TimingWheel<>(System.currentTimeMillis() / tickMillis);
+    }
+
+    //만료 스레드 시작 (테스트에서는 시작하지 않고 advance 를 직접 호출)
+    public synchronized void start() {
+        if (ticker != null) return;
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-expiry-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleWithFixedDelay(this::tick, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.expiry.scheduled", this, scheduler -> scheduler.scheduledLots)
+                .description("만료를 기다리는 충전 묶음 수")
+                .register(registry);
+        FunctionCounter.builder("point.expiry.expired", expiredPoints, AtomicLong::get)
+                .description("유효기간이 지나 소멸한 포인트")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) ticker.shutdownNow();
+        if (executor instanceof ExecutorService executorService) executorService.shutdown();
+    }
+
+    //nowMillis 까지 휠을 진행하고 만료된 묶음을 유저별로 모아 반영 요청
+    void advance(long nowMillis) {
+        pointLotLedger.drainUnscheduled(lot -> wheel.schedule(deadlineTick(lot.expireAtMillis), lot));
+        Map<Long, List<PointLot>> due = new HashMap<>();
+        wheel.advance(nowMillis / tickMillis,
+                lot -> due.computeIfAbsent(lot.userId, id -> new ArrayList<>()).add(lot));
+        scheduledLots = wheel.size();
+        due.forEach((userId, lots) -> executor.execute(() -> expire(userId, lots)));
+    }
+
+    private void tick() {
+        try {
+            advance(System.currentTimeMillis());
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 처리 실패", e);
+        }
+    }
+
+    //잔고는 항상 남은 묶음 합계 이상이지만, 음수 잔고가 되지 않도록 잔고만큼만 소멸
+    private void expire(long userId, List<PointLot> lots) {
+        try {
+            userLockManager.executeWithLock(userId, () -> {
+                long amount = pointLotLedger.expire(userId, lots);
+                if (amount == 0L) return null;
+                long balance = userPointRepository.findById(userId).point();
+                long expired = Math.min(amount, balance);
+                if (expired <= 0L) return null;
+
+                long updateMillis = System.currentTimeMillis();
+                pointCommitPublisher.prepare(new PointHistory(0L, userId, expired, EXPIRE, updateMillis),
+                        balance - expired);
+                PointHistory pointHistory = pointHistoryRepository.save(userId, expired, EXPIRE, updateMillis);
+                UserPoint userPoint = userPointRepository.save(userId, balance - expired);
+                pointCommitPublisher.publish(userPoint, pointHistory);
+                expiredPoints.addAndGet(expired);
+                return userPoint;
+            });
+        } catch (RuntimeException e) {
+            log.error("포인트 만료 반영 실패 : userId={}", userId, e);
+        }
+    }
+
+    //만료 시각 이후의 첫 틱
+    private long deadlineTick(long expireAtMillis) {
+        return Math.floorDiv(expireAtMillis + tickMillis - 1, tickMillis);
+    }
+}
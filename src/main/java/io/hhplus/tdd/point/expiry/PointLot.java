@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.expiry;
+
+/**
+ * 한 번의 충전으로 생긴 포인트 묶음(lot)
+ * - 사용하면 오래된 묶음부터 remaining 을 차감하고, 만료 시각에 남은 remaining 만 소멸
+ */
+final class PointLot {
+
+    final long userId;
+    final long expireAtMillis;
+    long remaining; //PointLotLedger 의 유저별 compute 안에서만 읽고 쓴다.
+
+    PointLot(long userId, long expireAtMillis, long remaining) {
+        this.userId = userId;
+        this.expireAtMillis = expireAtMillis;
+        this.remaining = remaining;
+    }
+}
@@ -0,0 +1,109 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointCommitListener;
+
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * 유저별 충전 묶음(lot) 장부 - UserPointTable 의 잔고와 함께 유효기간이 남은 포인트를 추적
+ * - 충전 반영 시 만료 시각(충전 시각 + ttl)을 가진 묶음을 뒤에 추가하고, 만료 스레드가 휠에 넣도록 대기 큐에 넣는다.
+ * - 사용 반영 시 오래된 묶음부터 차감 (ttl 이 고정이므로 추가 순서가 곧 만료 순서)
+ * - 만료(EXPIRE)는 PointExpiryScheduler 가 묶음을 먼저 정리한 뒤 반영하므로 여기서는 무시
+ * - 충전/사용 요청 스레드는 유저 단위 compute 와 대기 큐 추가만 하므로 휠과 만료 처리를 기다리지 않는다.
+ * 묶음에 없는 잔고(기능을 켜기 전 잔고, 저널로 복구한 잔고)는 만료되지 않는다.
+ */
+public class PointLotLedger implements PointCommitListener {
+
+    private final long ttlMillis;
+    private final ConcurrentHashMap<Long, ArrayDeque<PointLot>> lots = new ConcurrentHashMap<>();
+    //휠에 아직 넣지 않은 새 묶음 (여러 요청 스레드가 넣고 만료 스레드 하나가 꺼낸다)
+    private final Queue<PointLot> unscheduled = new ConcurrentLinkedQueue<>();
+
+    public PointLotLedger(long ttlMillis) {
+        this.ttlMillis = ttlMillis;
+    }
+
+    @Override
+    public void onCommit(UserPoint userPoint, PointHistory pointHistory) {
+        switch (pointHistory.type()) {
+            case CHARGE -> charge(pointHistory.userId(), pointHistory.amount(), pointHistory.updateMillis());
+            case USE -> consume(pointHistory.userId(), pointHistory.amount());
+            case EXPIRE -> {
+            }
+        }
+    }
+
+    //유효기간이 남은 포인트 합계
+    public long remaining(long userId) {
+        long[] remaining = new long[1];
+        lots.computeIfPresent(userId, (id, userLots) -> {
+            userLots.forEach(lot -> remaining[0] += lot.remaining);
+            return userLots;
+        });
+        return remaining[0];
+    }
+
+    //남은 묶음이 있는 유저 수
+    public int userCount() {
+        return lots.size();
+    }
+
+    //만료 대상 묶음의 남은 포인트를 0 으로 만들고 그 합계를 반환 (이미 사용된 묶음은 0)
+    long expire(long userId, List<PointLot> due) {
+        long[] expired = new long[1];
+        lots.computeIfPresent(userId, (id, userLots) -> {
+            for (PointLot lot : due) {
+                expired[0] += lot.remaining;
+                lot.remaining = 0L;
+            }
+            removeConsumed(userLots);
+            return userLots.isEmpty() ? null : userLots;
+        });
+        return expired[0];
+    }
+
+    void drainUnscheduled(Consumer<PointLot> action) {
+        PointLot lot;
+        while ((lot = unscheduled.poll()) != null) {
+            action.accept(lot);
+        }
+    }
+
+    private void charge(long userId, long amount, long chargedMillis) {
+        PointLot lot = new PointLot(userId, chargedMillis + ttlMillis, amount);
+        lots.compute(userId, (id, userLots) -> {
+            if (userLots == null) userLots = new ArrayDeque<>();
+            userLots.addLast(lot);
+            return userLots;
+        });
+        unscheduled.offer(lot);
+    }
+
+    private void consume(long userId, long amount) {
+        lots.computeIfPresent(userId, (id, userLots) -> {
+            long left = amount;
+            for (PointLot lot : userLots) {
+                if (left == 0L) break;
+                long taken = Math.min(left, lot.remaining);
+                lot.remaining -= taken;
+                left -= taken;
+            }
+            removeConsumed(userLots);
+            return userLots.isEmpty() ? null : userLots;
+        });
+    }
+
+    //앞쪽(오래된) 묶음 중 남은 포인트가 없는 묶음 정리
+    private static void removeConsumed(ArrayDeque<PointLot> userLots) {
+        while (!userLots.isEmpty() && userLots.peekFirst().remaining == 0L) {
+            userLots.pollFirst();
+        }
+    }
+}
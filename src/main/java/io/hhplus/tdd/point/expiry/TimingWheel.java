@@ -0,0 +1,105 @@
+package io.hhplus.tdd.point.expiry;
+
+import java.util.function.Consumer;
+
+/**
+ * 계층형 타이밍 휠 (hierarchical timing wheel)
+ * - 레벨마다 64칸, 아래 레벨 한 바퀴가 위 레벨 한 칸 (레벨 L 의 한 칸 = 64^L 틱)
+ * - 마감 틱과 현재 틱이 처음 달라지는 자리(6비트 단위)의 레벨에 넣으므로 등록은 O(1)
+ * - 틱이 위 레벨 칸의 시작에 닿으면 그 칸의 항목을 아래 레벨로 내려보내고(cascade), 0 레벨 칸에 닿으면 만료
+ *   항목마다 내려가는 횟수는 레벨 수 이하이므로 만료까지의 비용도 항목당 O(1)
+ * - 11 레벨(66비트)이면 long 범위의 모든 마감 틱을 넣을 수 있어 넘침(overflow) 목록이 필요 없다.
+ * - 스레드 안전하지 않으므로 한 스레드에서만 사용
+ */
+final class TimingWheel<T> {
+
+    private static final int BITS = 6;
+    private static final int SLOTS = 1 << BITS;
+    private static final int MASK = SLOTS - 1;
+    private static final int LEVELS = 11;
+
+    //레벨별 칸마다 항목의 단일 연결 리스트 (head)
+    private final Node<T>[][] wheels;
+    private long currentTick;
+    private int size;
+
+    @SuppressWarnings("unchecked")
+    TimingWheel(long startTick) {
+        this.wheels = new Node[LEVELS][SLOTS];
+        this.currentTick = startTick;
+    }
+
+    //이미 지난 마감 틱은 다음 틱에 만료
+    void schedule(long deadlineTick, T value) {
+        insert(new Node<>(Math.max(deadlineTick, currentTick + 1), value));
+        size++;
+    }
+
+    //tick 까지 한 틱씩 진행하며 마감 틱이 된 항목을 expired 로 전달
+    void advance(long tick, Consumer<T> expired) {
+        while (currentTick < tick) {
+            long now = ++currentTick;
+            //아래 비트가 모두 0 인 레벨까지 현재 칸을 비워 아래 레벨로 내려보낸다.
+            for (int level = 1; level < LEVELS && (now & ((1L << (BITS * level)) - 1)) == 0; level++) {
+                int slot = slot(now, level);
+                Node<T> node = wheels[level][slot];
+                wheels[level][slot] = null;
+                while (node != null) {
+                    Node<T> next = node.next;
+                    if (node.deadlineTick <= now) expire(node, expired);
+                    else insert(node);
+                    node = next;
+                }
+            }
+            int slot = slot(now, 0);
+            Node<T> node = wheels[0][slot];
+            wheels[0][slot] = null;
+            while (node != null) {
+                Node<T> next = node.next;
+                expire(node, expired);
+                node = next;
+            }
+        }
+    }
+
+    long currentTick() {
+        return currentTick;
+    }
+
+    //등록 후 아직 만료되지 않은 항목 수
+    int size() {
+        return size;
+    }
+
+    private void insert(Node<T> node) {
+        long diff = node.deadlineTick ^ currentTick;
+        int level = 0;
+        while (level < LEVELS - 1 && (diff >>> (BITS * (level + 1))) != 0) {
+            level++;
+        }
+        int slot = slot(node.deadlineTick, level);
+        node.next = wheels[level][slot];
+        wheels[level][slot] = node;
+    }
+
+    private void expire(Node<T> node, Consumer<T> expired) {
+        node.next = null;
+        size--;
+        expired.accept(node.value);
+    }
+
+    private static int slot(long tick, int level) {
+        return (int) ((tick >>> (BITS * level)) & MASK);
+    }
+
+    private static final class Node<T> {
+        private final long deadlineTick;
+        private final T value;
+        private Node<T> next;
+
+        private Node(long deadlineTick, T value) {
+            this.deadlineTick = deadlineTick;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,66 @@
+package io.hhplus.tdd.point.hot;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 유저 id 별 요청 수를 고정 크기 카운터 배열로 추정하는 count-min sketch
+ * - depth 개의 행마다 서로 다른 해시로 한 칸을 골라 증가시키고, 추정값은 그중 가장 작은 값
+ * - 해시 충돌로 실제보다 크게 추정할 수는 있어도 작게 추정하지는 않는다.
+ * - 증가는 모든 행의 칸을 원자적으로 올린다. 최솟값인 칸만 올리는 conservative update 는 추정값을 읽고 칸을 올리는
+ *   사이에 다른 스레드의 증가가 끼어들면 요청 수를 잃어 실제보다 작게 추정할 수 있으므로 사용하지 않는다.
+ *   (충돌로 인한 과대 추정은 width 로 줄인다.)
+ * - 유저 수와 무관하게 depth * width 개의 long 만 사용하고, 증가/추정 시 객체를 만들지 않는다.
+ */
+final class CountMinSketch {
+
+    private static final long[] SEEDS = {
+            0x9E3779B97F4A7C15L, 0xC2B2AE3D27D4EB4FL, 0x165667B19E3779F9L, 0xD6E8FEB86659FD93L,
+            0xFF51AFD7ED558CCDL, 0xC4CEB9FE1A85EC53L, 0x27D4EB2F165667C5L, 0x94D049BB133111EBL
+    };
+
+    private final int depth;
+    private final int mask;
+    private final AtomicLongArray counters;
+
+    CountMinSketch(int depth, int width) {
+        if (depth < 1 || depth > SEEDS.length) {
+            throw new IllegalArgumentException("depth 는 1 ~ " + SEEDS.length + " 사이여야 합니다. : " + depth);
+        }
+        if (width < 1 || Integer.bitCount(width) != 1) {
+            throw new IllegalArgumentException("width 는 2의 거듭제곱이어야 합니다. : " + width);
+        }
+        this.depth = depth;
+        this.mask = width - 1;
+        this.counters = new AtomicLongArray(depth * width);
+    }
+
+    //요청 한 건을 더하고 더한 뒤의 추정값을 반환
+    //모든 칸이 이 요청을 포함해 증가하므로 동시에 요청이 들어와도 추정값이 실제보다 작아지지 않는다.
+    long increment(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.incrementAndGet(index(row, key)));
+        }
+        return estimate;
+    }
+
+    long estimate(long key) {
+        long estimate = Long.MAX_VALUE;
+        for (int row = 0; row < depth; row++) {
+            estimate = Math.min(estimate, counters.get(index(row, key)));
+        }
+        return estimate;
+    }
+
+    void clear() {
+        for (int i = 0; i < counters.length(); i++) {
+            counters.set(i, 0L);
+        }
+    }
+
+    private int index(int row, long key) {
+        long h = (key ^ SEEDS[row]) * SEEDS[(row + 1) % SEEDS.length];
+        h ^= h >>> 31;
+        return row * (mask + 1) + ((int) h & mask);
+    }
+}
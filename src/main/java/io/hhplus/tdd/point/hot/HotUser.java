@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.hot;
+
+/**
+ * 직전 구간의 상위 유저
+ *
+ * @param userId            유저 id
+ * @param requestsPerSecond 초당 충전/사용 요청 수 (count-min sketch 추정값이므로 실제보다 클 수 있다)
+ * @param hot               hot user 여부 (LOCK 모드에서는 묶어서 반영하는 경로로 처리)
+ */
+public record HotUser(
+        long userId,
+        long requestsPerSecond,
+        boolean hot
+) {
+}
@@ -0,0 +1,42 @@
+package io.hhplus.tdd.point.hot;
+
+import io.hhplus.tdd.point.service.PointCommandApplier;
+import io.hhplus.tdd.point.service.PointCommandQueue;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.hhplus.tdd.point.service.UserLockManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(HotUserProperties.class)
+public class HotUserConfig {
+
+    //비활성이면 기록하지 않는 라우터, MeterBinder 빈이므로 point.hot.* 지표는 자동으로 등록된다. (종료 시 close 로 스레드 정리)
+    //전용 경로는 LOCK 모드에서만 사용 (ACTOR/COALESCE 는 이미 묶어서 처리, CAS 는 락이 없고, 샤드는 샤드 스레드가 처리)
+    @Bean
+    public HotUserRouter hotUserRouter(HotUserProperties properties,
+                                       PointCommandApplier pointCommandApplier,
+                                       PointMetrics pointMetrics,
+                                       UserLockManager userLockManager,
+                                       PointMutationProperties pointMutationProperties,
+                                       Environment environment) {
+        if (!properties.enabled()) return HotUserRouter.disabled();
+        HotUserTracker tracker = new HotUserTracker(properties.topK(), properties.depth(), properties.width(),
+                properties.windowMillis(), properties.requestsPerSecond());
+        tracker.start();
+
+        boolean route = properties.route()
+                && pointMutationProperties.mode() == PointMutationProperties.Mode.LOCK
+                && !environment.getProperty("point.shard.enabled", Boolean.class, false);
+        if (!route) return new HotUserRouter(tracker, null);
+        PointCommandQueue queue = new PointCommandQueue(pointCommandApplier, pointMetrics,
+                new PointMutationProperties(PointMutationProperties.Mode.COALESCE, properties.threads(),
+                        properties.maxBatch(), properties.coalesceWindowMillis()),
+                Threading.VIRTUAL.isActive(environment), userLockManager);
+        return new HotUserRouter(tracker, queue);
+    }
+}
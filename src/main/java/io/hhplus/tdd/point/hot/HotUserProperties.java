@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.hot;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * hot user 추적/처리 설정
+ *
+ * @param enabled              true : 충전/사용 요청을 유저별로 추정해 요청이 몰리는 유저를 추적
+ * @param topK                 추적하는 상위 유저 수
+ * @param depth                count-min sketch 의 행 수 (클수록 추정 오차가 작아질 확률이 높다)
+ * @param width                count-min sketch 의 행마다 카운터 수 (2의 거듭제곱, 클수록 충돌로 인한 과대 추정이 줄어든다)
+ * @param windowMillis         요청 수를 집계해 hot user 를 다시 정하는 구간
+ * @param requestsPerSecond    hot user 로 분류하는 초당 요청 수 (절반 아래로 떨어지면 해제)
+ * @param route                true : LOCK 모드에서 hot user 의 요청을 유저 락을 묶음마다 잡는 COALESCE 경로로 처리
+ * @param threads              hot user 경로에서 묶음을 반영하는 스레드 수
+ * @param maxBatch             hot user 경로에서 한 번의 조회/저장으로 묶어 처리하는 최대 요청 수
+ * @param coalesceWindowMillis hot user 경로에서 첫 요청 이후 같은 유저의 요청을 모으는 시간
+ */
+@ConfigurationProperties(prefix = "point.hot")
+public record HotUserProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("32") int topK,
+        @DefaultValue("4") int depth,
+        @DefaultValue("8192") int width,
+        @DefaultValue("1000") long windowMillis,
+        @DefaultValue("10") long requestsPerSecond,
+        @DefaultValue("false") boolean route,
+        @DefaultValue("8") int threads,
+        @DefaultValue("100") int maxBatch,
+        @DefaultValue("5") long coalesceWindowMillis
+) {
+}
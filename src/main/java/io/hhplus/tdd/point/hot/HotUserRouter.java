@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.hot;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointCommandQueue;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointService 의 충전/사용 요청을 hot user 추적기에 기록하고, hot user 의 요청을 전용 경로로 넘기는 라우터
+ * - 비활성 라우터(disabled)는 기록하지 않으며 모든 요청을 기존 경로로 처리한다.
+ * - 전용 경로(queue)가 없으면 기록만 한다. (LOCK 이외의 모드, point.hot.route=false)
+ * - 전용 경로는 유저 락 안에서 묶음을 반영하는 COALESCE 명령 큐이므로 hot user 로 바뀌는 중에
+ *   기존 경로에서 처리 중인 같은 유저의 요청과 겹치지 않는다.
+ */
+public class HotUserRouter implements MeterBinder, AutoCloseable {
+
+    private static final HotUserRouter DISABLED = new HotUserRouter(null, null);
+
+    private final HotUserTracker tracker;
+    private final PointCommandQueue queue;
+
+    public HotUserRouter(HotUserTracker tracker, PointCommandQueue queue) {
+        this.tracker = tracker;
+        this.queue = queue;
+    }
+
+    public static HotUserRouter disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return tracker != null;
+    }
+
+    //요청을 기록하고, 전용 경로로 처리해야 하면 true
+    public boolean route(long userId) {
+        return tracker != null && tracker.record(userId) && queue != null;
+    }
+
+    //다른 경로로 처리하는 요청은 기록만 한다.
+    public void record(long userId) {
+        if (tracker != null) tracker.record(userId);
+    }
+
+    public CompletableFuture<UserPoint> submit(long userId, TransactionType type, long amount) {
+        return queue.submit(userId, type, amount);
+    }
+
+    public List<HotUser> topUsers() {
+        return isEnabled() ? tracker.topUsers() : List.of();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (tracker != null) tracker.bindTo(registry);
+    }
+
+    @Override
+    public void close() {
+        if (tracker != null) tracker.close();
+        if (queue != null) queue.close();
+    }
+}
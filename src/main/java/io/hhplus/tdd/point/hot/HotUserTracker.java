@@ -0,0 +1,246 @@
+package io.hhplus.tdd.point.hot;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.MultiGauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 충전/사용 요청이 몰리는 유저(hot user) 추적 (heavy hitter)
+ * - 요청마다 count-min sketch 로 이번 구간(windowMillis)의 유저 요청 수를 추정
+ * - 추정값이 후보 기준(hot 기준의 절반) 이상이고 상위 K 의 최솟값보다 크면 상위 K 최소 힙에 반영
+ *   힙 락은 tryLock 으로 잡고, 다른 스레드가 쥐고 있으면 건너뛴다. (다음 요청이 더 큰 추정값으로 반영)
+ * - 구간이 끝나면 상위 K 의 초당 요청 수를 계산해 hot user 를 정하고, sketch 와 힙을 비운다.
+ *   hot 기준 이상이면 hot, 이미 hot 이던 유저는 기준의 절반 아래로 떨어질 때까지 hot 유지 (구간마다 오가지 않도록)
+ *   이미 hot 이던 유저가 상위 K 에서 밀려나도 sketch 추정값으로 같은 기준을 적용한다.
+ * - hot 여부는 정렬된 long 배열에서 이진 탐색하므로 요청마다 객체를 만들지 않는다.
+ * - 메모리는 유저 수와 무관하게 sketch 두 벌(depth * width)과 상위 K 배열로 고정
+ */
+public class HotUserTracker implements MeterBinder, AutoCloseable {
+
+    private final int capacity;
+    private final long windowMillis;
+    private final long hotRequestsPerSecond;
+    private final long candidateCount; //이번 구간에서 힙 후보가 되는 최소 추정값
+    private volatile CountMinSketch current;
+    private CountMinSketch spare;
+    //이번 구간의 상위 K (heapCounts 기준 최소 힙)
+    private final ReentrantLock heapLock = new ReentrantLock();
+    private final long[] heapIds;
+    private final long[] heapCounts;
+    private int heapSize;
+    private volatile long admitCount; //힙이 가득 찼을 때 들어오기 위한 최소 추정값
+    //직전 구간 기준 결과
+    private volatile long[] hotIds = new long[0]; //정렬됨
+    private volatile List<HotUser> topUsers = List.of();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hotRequests = new LongAdder();
+    private MultiGauge rateGauge;
+    private ScheduledExecutorService ticker;
+
+    public HotUserTracker(int capacity, int depth, int width, long windowMillis, long hotRequestsPerSecond) {
+        this.capacity = capacity;
+        this.windowMillis = windowMillis;
+        this.hotRequestsPerSecond = hotRequestsPerSecond;
+        this.candidateCount = Math.max(1L, hotRequestsPerSecond * windowMillis / 2_000L);
+        this.current = new CountMinSketch(depth, width);
+        this.spare = new CountMinSketch(depth, width);
+        this.heapIds = new long[capacity];
+        this.heapCounts = new long[capacity];
+    }
+
+    //windowMillis 마다 구간을 넘기는 데몬 스레드 시작
+    public synchronized void start() {
+        if (ticker != null) return;
+        ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "point-hot-user");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::rotate, windowMillis, windowMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //요청 한 건을 기록하고 유저가 hot user 인지 반환
+    public boolean record(long userId) {
+        requests.increment();
+        long count = current.increment(userId);
+        if (count >= candidateCount && count > admitCount) offer(userId, count);
+        boolean hot = isHot(userId);
+        if (hot) hotRequests.increment();
+        return hot;
+    }
+
+    public boolean isHot(long userId) {
+        long[] ids = hotIds;
+        return ids.length > 0 && Arrays.binarySearch(ids, userId) >= 0;
+    }
+
+    //직전 구간의 상위 유저와 상위 K 밖에서 hot 을 유지한 유저 (초당 요청 수 내림차순)
+    public List<HotUser> topUsers() {
+        return topUsers;
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.hot.users", this, tracker -> tracker.hotIds.length)
+                .description("hot user 로 분류된 유저 수")
+                .register(registry);
+        FunctionCounter.builder("point.hot.requests", hotRequests, LongAdder::sum)
+                .tag("type", "hot")
+                .description("hot user 의 충전/사용 요청 수")
+                .register(registry);
+        FunctionCounter.builder("point.hot.requests", requests, LongAdder::sum)
+                .tag("type", "all")
+                .description("추적한 전체 충전/사용 요청 수")
+                .register(registry);
+        //유저 태그는 상위 K 명으로 제한되고, 구간마다 빠진 유저의 값은 제거된다.
+        rateGauge = MultiGauge.builder("point.hot.rate")
+                .description("상위 유저의 초당 충전/사용 요청 수")
+                .register(registry);
+    }
+
+    @Override
+    public synchronized void close() {
+        if (ticker != null) ticker.shutdownNow();
+    }
+
+    //이번 구간을 마감하고 hot user 를 다시 정한다. (start 이후에는 windowMillis 마다 호출된다.)
+    //교체 직전 이전 sketch 에 더해지던 요청이 비운 뒤에 남을 수 있으나 두 구간 뒤 추정값을 조금 올릴 뿐이다.
+    public synchronized void rotate() {
+        CountMinSketch finished = current;
+        current = spare;
+
+        long[] ids;
+        long[] counts;
+        heapLock.lock();
+        try {
+            ids = Arrays.copyOf(heapIds, heapSize);
+            counts = Arrays.copyOf(heapCounts, heapSize);
+            heapSize = 0;
+            admitCount = 0L;
+        } finally {
+            heapLock.unlock();
+        }
+        List<HotUser> users = new ArrayList<>(ids.length);
+        long[] previousHot = hotIds;
+        long[] hot = new long[ids.length + previousHot.length];
+        int hotCount = 0;
+        for (int i = 0; i < ids.length; i++) {
+            long requestsPerSecond = counts[i] * 1_000L / windowMillis;
+            boolean isHot = isHot(ids[i], requestsPerSecond);
+            if (isHot) hot[hotCount++] = ids[i];
+            users.add(new HotUser(ids[i], requestsPerSecond, isHot));
+        }
+        //상위 K 에서 밀려난 hot user 도 sketch 추정값으로 다시 판단해 절반 기준(hysteresis)을 적용한다.
+        for (long userId : previousHot) {
+            if (contains(ids, userId)) continue;
+            long requestsPerSecond = finished.estimate(userId) * 1_000L / windowMillis;
+            if (!isHot(userId, requestsPerSecond)) continue;
+            hot[hotCount++] = userId;
+            users.add(new HotUser(userId, requestsPerSecond, true));
+        }
+        finished.clear();
+        spare = finished;
+
+        users.sort(Comparator.comparingLong(HotUser::requestsPerSecond).reversed());
+        long[] sortedHot = Arrays.copyOf(hot, hotCount);
+        Arrays.sort(sortedHot);
+        hotIds = sortedHot;
+        topUsers = List.copyOf(users);
+
+        if (rateGauge != null) {
+            rateGauge.register(users.stream()
+                    .map(user -> MultiGauge.Row.of(Tags.of("user", String.valueOf(user.userId())),
+                            user.requestsPerSecond()))
+                    .toList(), true);
+        }
+    }
+
+    //hot 기준 이상이거나, 이미 hot 이고 기준의 절반 이상이면 hot
+    private boolean isHot(long userId, long requestsPerSecond) {
+        return requestsPerSecond >= hotRequestsPerSecond
+                || isHot(userId) && requestsPerSecond * 2 >= hotRequestsPerSecond;
+    }
+
+    private static boolean contains(long[] ids, long userId) {
+        for (long id : ids) {
+            if (id == userId) return true;
+        }
+        return false;
+    }
+
+    //이미 힙에 있으면 추정값만 올리고, 없으면 빈자리나 최솟값 자리에 넣는다.
+    private void offer(long userId, long count) {
+        if (!heapLock.tryLock()) return;
+        try {
+            for (int i = 0; i < heapSize; i++) {
+                if (heapIds[i] != userId) continue;
+                if (count > heapCounts[i]) {
+                    heapCounts[i] = count;
+                    siftDown(i);
+                }
+                updateAdmitCount();
+                return;
+            }
+            if (heapSize < capacity) {
+                heapIds[heapSize] = userId;
+                heapCounts[heapSize] = count;
+                siftUp(heapSize++);
+            } else if (count > heapCounts[0]) {
+                heapIds[0] = userId;
+                heapCounts[0] = count;
+                siftDown(0);
+            }
+            updateAdmitCount();
+        } finally {
+            heapLock.unlock();
+        }
+    }
+
+    private void updateAdmitCount() {
+        admitCount = heapSize == capacity ? heapCounts[0] : 0L;
+    }
+
+    private void siftUp(int index) {
+        while (index > 0) {
+            int parent = (index - 1) >>> 1;
+            if (heapCounts[parent] <= heapCounts[index]) return;
+            swap(parent, index);
+            index = parent;
+        }
+    }
+
+    private void siftDown(int index) {
+        for (; ; ) {
+            int smallest = index;
+            int left = index * 2 + 1;
+            int right = left + 1;
+            if (left < heapSize && heapCounts[left] < heapCounts[smallest]) smallest = left;
+            if (right < heapSize && heapCounts[right] < heapCounts[smallest]) smallest = right;
+            if (smallest == index) return;
+            swap(smallest, index);
+            index = smallest;
+        }
+    }
+
+    private void swap(int i, int j) {
+        long id = heapIds[i];
+        long count = heapCounts[i];
+        heapIds[i] = heapIds[j];
+        heapCounts[i] = heapCounts[j];
+        heapIds[j] = id;
+        heapCounts[j] = count;
+    }
+}
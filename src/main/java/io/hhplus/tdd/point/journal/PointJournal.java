@@ -0,0 +1,437 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointCommitListener;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.CRC32C;
+
+/**
+ * 포인트 충전/사용 내역을 파일에 추가만 하는 저널 (write-ahead log)
+ * - 잔고와 내역을 저장하기 직전 변경 1건을 고정 크기(48바이트) 레코드로 메모리 매핑된 세그먼트 파일 끝에 기록
+ * - 디스크 반영(fsync)은 flushIntervalMillis 마다 모아서 한 번에 하고, 기록한 스레드는 반영될 때까지 기다린 뒤 응답 (group commit)
+ * - snapshotIntervalMillis 마다 유저별 잔고를 스냅샷 파일로 남겨 재시작 시 스냅샷 이후의 레코드만 다시 읽는다.
+ * - 레코드마다 CRC32C 를 함께 기록해 쓰다 만 마지막 레코드는 복구 시 버린다.
+ * - retainSegments 가 true 이면 내역 복구에 사용하므로 세그먼트를 지우지 않는다. (디스크 사용량이 기록 수에 비례해 늘어난다)
+ *   false 이면 스냅샷을 남긴 뒤와 복구 직후 스냅샷에 모두 포함된 세그먼트를 지운다. (기록 중인 마지막 세그먼트는 남긴다)
+ *
+ * 레코드 구성 : crc(4) type(1) 예약(3) id(8) userId(8) amount(8) updateMillis(8) balance(8)
+ * 스냅샷 구성 : magic(8) sequence(8) 이후 [userId(8) point(8)] 반복
+ */
+public class PointJournal implements PointCommitListener, Ordered, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournal.class);
+
+    static final int RECORD_SIZE = 48;
+    private static final int CRC_SIZE = 4;
+    private static final long SNAPSHOT_MAGIC = 0x504f494e54534e50L; //"POINTSNP"
+    private static final int SNAPSHOT_HEADER_SIZE = 16;
+    private static final int SNAPSHOT_ENTRY_SIZE = 16;
+    private static final String SEGMENT_PREFIX = "segment-";
+    private static final String SEGMENT_SUFFIX = ".log";
+    private static final String SNAPSHOT_PREFIX = "snapshot-";
+    private static final String SNAPSHOT_SUFFIX = ".bin";
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final Path directory;
+    private final int segmentRecords;
+    private final long flushIntervalMillis;
+    private final long snapshotIntervalMillis;
+    private final boolean retainSegments;
+
+    //기록 순서(sequence)와 세그먼트, 유저별 잔고는 appendLock 안에서만 변경
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final Map<Long, Long> balances = new HashMap<>();
+    private final ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+    private final CRC32C crc = new CRC32C();
+    private MappedByteBuffer segment;
+    private int segmentCount;
+    private long lastSequence;
+    private boolean closed;
+
+    //디스크 반영을 기다리는 스레드는 가상 스레드일 수 있으므로 synchronized 대신 Condition 으로 대기
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final Condition flushed = flushLock.newCondition();
+    private volatile long flushedSequence;
+
+    private volatile long snapshotSequence;
+    private ScheduledExecutorService scheduler;
+
+    public PointJournal(Path directory, int segmentBytes, long flushIntervalMillis, long snapshotIntervalMillis,
+                        boolean retainSegments) {
+        if (segmentBytes < RECORD_SIZE) {
+            throw new IllegalArgumentException("세그먼트 크기는 레코드 크기(" + RECORD_SIZE + "바이트) 이상이어야 합니다.");
+        }
+        this.directory = directory;
+        this.segmentRecords = segmentBytes / RECORD_SIZE;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.snapshotIntervalMillis = snapshotIntervalMillis;
+        this.retainSegments = retainSegments;
+    }
+
+    /**
+     * 최신 스냅샷과 이후 레코드로 유저별 잔고를 복구한 뒤 기록을 시작
+     * - historyConsumer 가 있으면 모든 세그먼트를 처음부터 읽어 내역을 기록 순서대로 전달
+     * - historyConsumer 가 없으면 스냅샷에 모두 포함된 세그먼트는 읽지 않는다.
+     * - 복구 후에는 항상 새 세그먼트에 기록하므로 쓰다 만 세그먼트에 이어 쓰지 않는다.
+     *   세그먼트를 보관하지 않으면 이때 스냅샷에 모두 포함된 이전 세그먼트를 지운다.
+     *
+     * @return 유저별 잔고 (userId -> point)
+     */
+    public Map<Long, Long> recover(Consumer<PointHistory> historyConsumer) throws IOException {
+        appendLock.lock();
+        try {
+            if (segment != null) throw new IllegalStateException("이미 복구된 저널입니다.");
+            Files.createDirectories(directory);
+            snapshotSequence = loadSnapshot();
+            lastSequence = snapshotSequence;
+
+            List<Path> segments = list(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+            for (int i = 0; i < segments.size(); i++) {
+                long start = sequenceOf(segments.get(i), SEGMENT_PREFIX, SEGMENT_SUFFIX);
+                long nextStart = i + 1 < segments.size()
+                        ? sequenceOf(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX)
+                        : Long.MAX_VALUE;
+                if (historyConsumer == null && nextStart <= snapshotSequence + 1) continue;
+                replay(segments.get(i), start, historyConsumer);
+            }
+
+            flushedSequence = lastSequence;
+            openSegment(lastSequence + 1);
+            deleteCoveredSegments(snapshotSequence);
+            startScheduler();
+            return Map.copyOf(balances);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    //잔고와 내역을 저장하기 전에 기록하고 디스크 반영까지 기다리므로, 반영된 변경은 항상 저널에 먼저 남아 있다.
+    //내역은 저장 전이라 id 가 0 이며, 내역 복구 시 복구 순서대로 id 를 다시 부여받는다.
+    @Override
+    public void beforeCommit(PointHistory pointHistory, long balance) {
+        append(pointHistory, balance);
+    }
+
+    //묶음은 모두 기록한 뒤 마지막 레코드가 디스크에 반영될 때까지 한 번만 기다린다.
+    @Override
+    public void beforeCommitAll(List<PointHistory> pointHistories, List<Long> balances) {
+        long sequence = 0L;
+        for (int i = 0; i < pointHistories.size(); i++) {
+            sequence = write(pointHistories.get(i), balances.get(i));
+        }
+        awaitFlushed(sequence);
+    }
+
+    //저장 전에 이미 기록했다.
+    @Override
+    public void onCommit(UserPoint userPoint, PointHistory pointHistory) {
+    }
+
+    @Override
+    public void onCommitAll(List<UserPoint> userPoints, List<PointHistory> pointHistories) {
+    }
+
+    //레코드를 기록하고 디스크에 반영될 때까지 대기
+    public void append(PointHistory pointHistory, long balance) {
+        awaitFlushed(write(pointHistory, balance));
+    }
+
+    //레코드를 기록하고 기록 순서를 반환 (디스크 반영은 기다리지 않는다)
+    long write(PointHistory pointHistory, long balance) {
+        appendLock.lock();
+        try {
+            if (segment == null) throw new IllegalStateException("복구(recover) 전에는 저널에 기록할 수 없습니다.");
+            if (closed) throw new IllegalStateException("종료된 저널에는 기록할 수 없습니다.");
+            if (segmentCount == segmentRecords) roll();
+
+            record.put(CRC_SIZE, (byte) pointHistory.type().ordinal())
+                    .putLong(8, pointHistory.id())
+                    .putLong(16, pointHistory.userId())
+                    .putLong(24, pointHistory.amount())
+                    .putLong(32, pointHistory.updateMillis())
+                    .putLong(40, balance);
+            crc.reset();
+            crc.update(record.array(), CRC_SIZE, RECORD_SIZE - CRC_SIZE);
+            record.putInt(0, (int) crc.getValue());
+            segment.put(segmentCount * RECORD_SIZE, record.array(), 0, RECORD_SIZE);
+            segmentCount++;
+
+            balances.put(pointHistory.userId(), balance);
+            return ++lastSequence;
+        } catch (IOException e) {
+            throw new UncheckedIOException("포인트 저널 기록에 실패했습니다.", e);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    //기록된 레코드를 디스크에 반영하고 반영을 기다리는 스레드를 깨운다.
+    void flush() {
+        MappedByteBuffer current;
+        long sequence;
+        appendLock.lock();
+        try {
+            current = segment;
+            sequence = lastSequence;
+        } finally {
+            appendLock.unlock();
+        }
+        if (current == null || sequence <= flushedSequence) return;
+        current.force();
+        markFlushed(sequence);
+    }
+
+    //디스크에 반영된 마지막 기록 순서
+    long flushedSequence() {
+        return flushedSequence;
+    }
+
+    /**
+     * 현재 유저별 잔고를 스냅샷 파일로 저장
+     * - 잔고 복사는 appendLock 안에서 하므로 스냅샷에는 sequence 까지의 레코드만 반영되어 있다.
+     * - sequence 까지 디스크에 반영한 뒤 임시 파일에 쓰고 이름을 바꿔(atomic move) 반쯤 쓰인 스냅샷이 남지 않게 한다.
+     * - 세그먼트를 보관하지 않으면 스냅샷에 모두 포함된 세그먼트를 지운다.
+     */
+    void snapshot() throws IOException {
+        long sequence;
+        long[] entries;
+        appendLock.lock();
+        try {
+            sequence = lastSequence;
+            if (sequence == snapshotSequence) return;
+            entries = new long[balances.size() * 2];
+            int index = 0;
+            for (Map.Entry<Long, Long> entry : balances.entrySet()) {
+                entries[index++] = entry.getKey();
+                entries[index++] = entry.getValue();
+            }
+        } finally {
+            appendLock.unlock();
+        }
+        flush();
+
+        Path target = directory.resolve(nameOf(SNAPSHOT_PREFIX, sequence, SNAPSHOT_SUFFIX));
+        Path temp = directory.resolve(target.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            ByteBuffer buffer = ByteBuffer.allocate(64 * 1024);
+            buffer.putLong(SNAPSHOT_MAGIC).putLong(sequence);
+            for (long value : entries) {
+                if (!buffer.hasRemaining()) writeFully(channel, buffer);
+                buffer.putLong(value);
+            }
+            writeFully(channel, buffer);
+            channel.force(true);
+        }
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE);
+        snapshotSequence = sequence;
+
+        //이전 스냅샷은 더 이상 필요 없다.
+        for (Path previous : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX)) {
+            if (sequenceOf(previous, SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX) < sequence) Files.deleteIfExists(previous);
+        }
+        deleteCoveredSegments(sequence);
+    }
+
+    @Override
+    public int getOrder() {
+        //다른 리스너보다 먼저 기록해 기록에 실패하면 다른 리스너에도 전달되지 않게 한다.
+        return Ordered.HIGHEST_PRECEDENCE;
+    }
+
+    //남은 레코드를 디스크에 반영하고, 스냅샷을 사용하면 마지막 스냅샷을 남긴 뒤 종료
+    @Override
+    public void close() throws IOException, InterruptedException {
+        if (scheduler != null) {
+            scheduler.shutdown();
+            scheduler.awaitTermination(10, TimeUnit.SECONDS);
+        }
+        appendLock.lock();
+        try {
+            if (closed) return;
+            closed = true;
+        } finally {
+            appendLock.unlock();
+        }
+        flush();
+        if (snapshotIntervalMillis > 0 && segment != null) snapshot();
+    }
+
+    private void awaitFlushed(long sequence) {
+        if (flushedSequence >= sequence) return;
+        flushLock.lock();
+        try {
+            while (flushedSequence < sequence) {
+                flushed.awaitUninterruptibly();
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void markFlushed(long sequence) {
+        flushLock.lock();
+        try {
+            if (sequence > flushedSequence) flushedSequence = sequence;
+            flushed.signalAll();
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    //가득 찬 세그먼트는 디스크에 반영한 뒤 다음 세그먼트로 넘어간다. (appendLock 안에서 호출)
+    private void roll() throws IOException {
+        segment.force();
+        long durable = lastSequence;
+        openSegment(lastSequence + 1);
+        markFlushed(durable);
+    }
+
+    //이전 실행에서 만들고 기록하지 못한 같은 이름의 세그먼트가 있으면 비우고 다시 사용
+    private void openSegment(long startSequence) throws IOException {
+        Path path = directory.resolve(nameOf(SEGMENT_PREFIX, startSequence, SEGMENT_SUFFIX));
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) segmentRecords * RECORD_SIZE);
+        }
+        segmentCount = 0;
+    }
+
+    //다음 세그먼트의 시작 순서가 sequence + 1 이하인 세그먼트는 모든 레코드가 스냅샷에 포함되어 있다.
+    //마지막 세그먼트는 다음 세그먼트가 없으므로 기록 중이어도 지워지지 않는다.
+    private void deleteCoveredSegments(long sequence) throws IOException {
+        if (retainSegments || sequence == 0L) return;
+        List<Path> segments = list(SEGMENT_PREFIX, SEGMENT_SUFFIX);
+        for (int i = 0; i + 1 < segments.size(); i++) {
+            if (sequenceOf(segments.get(i + 1), SEGMENT_PREFIX, SEGMENT_SUFFIX) > sequence + 1) return;
+            Files.deleteIfExists(segments.get(i));
+        }
+    }
+
+    //세그먼트의 레코드를 순서대로 읽다가 비어 있거나 CRC 가 맞지 않는 레코드를 만나면 멈춘다.
+    private void replay(Path path, long startSequence, Consumer<PointHistory> historyConsumer) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        byte[] bytes = new byte[RECORD_SIZE];
+        ByteBuffer view = ByteBuffer.wrap(bytes);
+        long sequence = startSequence;
+        for (int offset = 0; offset + RECORD_SIZE <= buffer.limit(); offset += RECORD_SIZE, sequence++) {
+            buffer.get(offset, bytes);
+            crc.reset();
+            crc.update(bytes, CRC_SIZE, RECORD_SIZE - CRC_SIZE);
+            int type = view.get(CRC_SIZE);
+            if (view.getInt(0) != (int) crc.getValue() || type < 0 || type >= TYPES.length) return;
+
+            long userId = view.getLong(16);
+            if (sequence > snapshotSequence) balances.put(userId, view.getLong(40));
+            if (historyConsumer != null) {
+                historyConsumer.accept(new PointHistory(
+                        view.getLong(8), userId, view.getLong(24), TYPES[type], view.getLong(32)));
+            }
+            lastSequence = Math.max(lastSequence, sequence);
+        }
+    }
+
+    //최신 스냅샷의 잔고를 적재하고 스냅샷에 반영된 마지막 기록 순서를 반환 (스냅샷이 없으면 0)
+    private long loadSnapshot() throws IOException {
+        for (Path temp : list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX + ".tmp")) {
+            Files.deleteIfExists(temp);
+        }
+        List<Path> snapshots = list(SNAPSHOT_PREFIX, SNAPSHOT_SUFFIX);
+        if (snapshots.isEmpty()) return 0L;
+
+        Path latest = snapshots.get(snapshots.size() - 1);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(latest, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        }
+        if (buffer.limit() < SNAPSHOT_HEADER_SIZE || buffer.getLong(0) != SNAPSHOT_MAGIC) {
+            throw new IllegalStateException("포인트 저널 스냅샷 형식이 올바르지 않습니다 : " + latest);
+        }
+        for (int offset = SNAPSHOT_HEADER_SIZE; offset + SNAPSHOT_ENTRY_SIZE <= buffer.limit(); offset += SNAPSHOT_ENTRY_SIZE) {
+            balances.put(buffer.getLong(offset), buffer.getLong(offset + 8));
+        }
+        return buffer.getLong(8);
+    }
+
+    private void startScheduler() {
+        AtomicInteger sequence = new AtomicInteger();
+        scheduler = Executors.newScheduledThreadPool(2, runnable -> {
+            Thread thread = new Thread(runnable, "point-journal-" + sequence.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                flush();
+            } catch (RuntimeException e) {
+                log.error("포인트 저널 디스크 반영 실패", e);
+            }
+        }, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+        if (snapshotIntervalMillis <= 0) return;
+        scheduler.scheduleWithFixedDelay(() -> {
+            try {
+                snapshot();
+            } catch (IOException | RuntimeException e) {
+                log.error("포인트 저널 스냅샷 저장 실패", e);
+            }
+        }, snapshotIntervalMillis, snapshotIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    //파일 이름의 기록 순서 기준으로 정렬된 목록
+    private List<Path> list(String prefix, String suffix) throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> {
+                        String name = path.getFileName().toString();
+                        return name.startsWith(prefix) && name.endsWith(suffix);
+                    })
+                    .sorted(Comparator.comparingLong(path -> sequenceOf(path, prefix, suffix)))
+                    .toList();
+        }
+    }
+
+    private static long sequenceOf(Path path, String prefix, String suffix) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(prefix.length(), name.length() - suffix.length()));
+    }
+
+    private static String nameOf(String prefix, long sequence, String suffix) {
+        return prefix + String.format("%020d", sequence) + suffix;
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        buffer.flip();
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+        buffer.clear();
+    }
+}
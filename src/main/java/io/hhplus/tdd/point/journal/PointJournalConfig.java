@@ -0,0 +1,44 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointOpeningBalances;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Map;
+
+@Configuration
+@ConditionalOnProperty(prefix = "point.journal", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(PointJournalProperties.class)
+public class PointJournalConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PointJournalConfig.class);
+
+    //PointService 가 만들어지기 전에 저널을 읽어 잔고와 내역을 복구하고, 이후 반영되는 변경을 기록 (종료 시 close 로 마지막 반영)
+    //잔고는 저장소의 restore 로 테이블 지연 없이 적재, 내역 없이 복구한 잔고는 대사 기준이 되는 기초 잔고로 남긴다.
+    @Bean
+    public PointJournal pointJournal(PointJournalProperties properties,
+                                     UserPointRepository userPointRepository,
+                                     PointHistoryRepository pointHistoryRepository,
+                                     PointOpeningBalances pointOpeningBalances) throws IOException {
+        PointJournal pointJournal = new PointJournal(Path.of(properties.directory()), properties.segmentBytes(),
+                properties.flushIntervalMillis(), properties.snapshotIntervalMillis(), properties.restoreHistory());
+
+        long startedAt = System.nanoTime();
+        Map<Long, Long> balances = pointJournal.recover(
+                properties.restoreHistory() ? pointHistoryRepository::restore : null);
+        long replayedAt = System.nanoTime();
+        balances.forEach(userPointRepository::restore);
+        if (!properties.restoreHistory()) balances.forEach(pointOpeningBalances::put);
+        log.info("포인트 저널 복구 완료 : 유저 {}명, 저널 읽기 {}ms, 잔고 적재 {}ms", balances.size(),
+                (replayedAt - startedAt) / 1_000_000L, (System.nanoTime() - replayedAt) / 1_000_000L);
+        return pointJournal;
+    }
+}
@@ -0,0 +1,28 @@
+package io.hhplus.tdd.point.journal;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 저널(write-ahead log) 설정
+ *
+ * @param enabled                저널 사용 여부 (기본값 false : 재시작 시 잔고와 내역이 모두 사라진다.)
+ * @param directory              세그먼트와 스냅샷 파일을 저장할 디렉터리
+ * @param segmentBytes           세그먼트 파일 하나의 크기, 가득 차면 다음 세그먼트 파일에 기록
+ * @param flushIntervalMillis    기록된 레코드를 모아서 디스크에 반영(fsync)하는 주기, 충전/사용 응답은 반영 후에 나간다.
+ * @param snapshotIntervalMillis 유저별 잔고 스냅샷 저장 주기 (0 이하 : 스냅샷 없이 모든 레코드를 다시 읽어 복구)
+ * @param restoreHistory         재시작 시 모든 세그먼트를 처음부터 읽어 내역 조회 저장소에 다시 적재할지 여부
+ *                               true : 모든 세그먼트를 보관하므로 디스크 사용량이 기록 수만큼 계속 늘어난다. (segmentBytes 단위)
+ *                               (기본값 false : 스냅샷과 스냅샷 이후 세그먼트만 읽어 잔고만 복구하고,
+ *                               스냅샷에 모두 포함된 세그먼트는 지운다. 이후 true 로 바꿔도 지운 내역은 복구할 수 없다.)
+ */
+@ConfigurationProperties(prefix = "point.journal")
+public record PointJournalProperties(
+        boolean enabled,
+        @DefaultValue("data/journal") String directory,
+        @DefaultValue("67108864") int segmentBytes,
+        @DefaultValue("2") long flushIntervalMillis,
+        @DefaultValue("60000") long snapshotIntervalMillis,
+        boolean restoreHistory
+) {
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.service.PointService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Schedulers;
+
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableConfigurationProperties(PointReactiveProperties.class)
+public class PointReactiveConfig {
+
+    //테이블 호출 전용 스케줄러, 종료 시 close 로 정리
+    @Bean
+    public ReactivePointService reactivePointService(PointService pointService, PointReactiveProperties properties) {
+        return new ReactivePointService(pointService,
+                Schedulers.newBoundedElastic(properties.threads(), properties.queueCapacity(), "point-reactive"));
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.reactive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 리액티브 API 설정 (reactive 프로필)
+ *
+ * @param threads       테이블 호출을 처리할 최대 스레드 수 (boundedElastic)
+ * @param queueCapacity 스레드가 모두 사용 중일 때 대기할 수 있는 최대 작업 수, 넘으면 요청을 실패시킨다.
+ */
+@ConfigurationProperties(prefix = "point.reactive")
+public record PointReactiveProperties(
+        @DefaultValue("256") int threads,
+        @DefaultValue("100000") int queueCapacity
+) {
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * PointService 를 Mono/Flux 로 감싼 논블로킹 파사드 (reactive 프로필)
+ * - 테이블 지연이 있는 호출은 이벤트 루프가 아닌 크기가 제한된 스케줄러(boundedElastic)에서 수행
+ * - 같은 유저의 충전/사용은 앞 요청이 끝난 뒤(성공/실패 무관) 이어서 스케줄러에 넣으므로
+ *   유저 락을 기다리며 스케줄러 스레드를 점유하지 않는다.
+ * - 내역은 저장소 스트림을 읽는 대로 Flux 로 내려보내고, 구독이 끝나거나 취소되면 스트림을 닫는다.
+ */
+public class ReactivePointService implements AutoCloseable {
+
+    private final PointService pointService;
+    private final Scheduler scheduler;
+    //유저별 마지막 충전/사용 (끝나면 제거)
+    private final ConcurrentHashMap<Long, CompletableFuture<UserPoint>> tails = new ConcurrentHashMap<>();
+
+    public ReactivePointService(PointService pointService, Scheduler scheduler) {
+        this.pointService = pointService;
+        this.scheduler = scheduler;
+    }
+
+    public Mono<UserPoint> select(long id) {
+        return Mono.fromCallable(() -> pointService.select(id)).subscribeOn(scheduler);
+    }
+
+    public Mono<UserPoint> charge(long id, long amount) {
+        return serialize(id, () -> pointService.charge(id, amount));
+    }
+
+    public Mono<UserPoint> use(long id, long amount) {
+        return serialize(id, () -> pointService.use(id, amount));
+    }
+
+    public Flux<PointHistory> histories(long id, PointHistoryQuery query, int limit) {
+        return Flux.fromStream(() -> pointService.streamPointHistory(id, query))
+                .take(limit)
+                .subscribeOn(scheduler);
+    }
+
+    //현재 충전/사용이 진행 중이거나 대기 중인 유저 수
+    public int pendingUsers() {
+        return tails.size();
+    }
+
+    @Override
+    public void close() {
+        scheduler.dispose();
+    }
+
+    //구독할 때 같은 유저의 마지막 요청 뒤에 연결, 구독이 취소되어도 이미 연결된 요청은 끝까지 처리해 순서를 지킨다.
+    private Mono<UserPoint> serialize(long id, Supplier<UserPoint> action) {
+        return Mono.defer(() -> {
+            @SuppressWarnings("unchecked")
+            CompletableFuture<UserPoint>[] next = new CompletableFuture[1];
+            tails.compute(id, (key, previous) -> {
+                CompletableFuture<UserPoint> ready = previous == null
+                        ? CompletableFuture.completedFuture(null)
+                        : previous.handle((userPoint, throwable) -> null);
+                next[0] = ready.thenCompose(ignored -> Mono.fromSupplier(action).subscribeOn(scheduler).toFuture());
+                return next[0];
+            });
+            CompletableFuture<UserPoint> result = next[0];
+            result.whenComplete((userPoint, throwable) -> tails.remove(id, result));
+            return Mono.fromFuture(result, true);
+        });
+    }
+}
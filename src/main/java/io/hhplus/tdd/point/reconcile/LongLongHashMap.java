@@ -0,0 +1,95 @@
+package io.hhplus.tdd.point.reconcile;
+
+import java.util.Arrays;
+
+/**
+ * long 키 -> long 합계 맵 (open addressing, 키/값 모두 원시 배열)
+ * - 유저마다 Long 키, Long 값, Map 노드 객체를 만들지 않고 합산
+ * - 한 스레드에서만 쓰고, 병렬 집계는 스레드마다 맵을 따로 만든 뒤 merge 로 합친다.
+ */
+final class LongLongHashMap {
+
+    private static final long EMPTY = Long.MIN_VALUE;
+    private static final double LOAD_FACTOR = 0.5;
+
+    private long[] keys;
+    private long[] values;
+    private int size;
+    //EMPTY 와 같은 키는 배열 밖에 따로 보관
+    private boolean hasEmptyKey;
+    private long emptyKeyValue;
+
+    LongLongHashMap() {
+        this(16);
+    }
+
+    LongLongHashMap(int capacity) {
+        int length = Integer.highestOneBit(Math.max(16, capacity) * 2 - 1);
+        this.keys = emptyKeys(length);
+        this.values = new long[length];
+    }
+
+    void add(long key, long delta) {
+        if (key == EMPTY) {
+            if (!hasEmptyKey) size++;
+            hasEmptyKey = true;
+            emptyKeyValue += delta;
+            return;
+        }
+        int index = indexOf(keys, key);
+        boolean added = keys[index] == EMPTY;
+        keys[index] = key;
+        values[index] += delta;
+        if (added && ++size > keys.length * LOAD_FACTOR) resize();
+    }
+
+    void merge(LongLongHashMap other) {
+        other.forEach(this::add);
+    }
+
+    int size() {
+        return size;
+    }
+
+    void forEach(EntryConsumer action) {
+        if (hasEmptyKey) action.accept(EMPTY, emptyKeyValue);
+        for (int i = 0; i < keys.length; i++) {
+            if (keys[i] != EMPTY) action.accept(keys[i], values[i]);
+        }
+    }
+
+    private void resize() {
+        long[] oldKeys = keys;
+        long[] oldValues = values;
+        keys = emptyKeys(oldKeys.length * 2);
+        values = new long[oldKeys.length * 2];
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] == EMPTY) continue;
+            int index = indexOf(keys, oldKeys[i]);
+            keys[index] = oldKeys[i];
+            values[index] = oldValues[i];
+        }
+    }
+
+    //키가 있는 칸 또는 키를 넣을 빈 칸
+    private static int indexOf(long[] keys, long key) {
+        int mask = keys.length - 1;
+        long h = key * 0x9E3779B97F4A7C15L;
+        int index = (int) (h ^ (h >>> 32)) & mask;
+        while (keys[index] != EMPTY && keys[index] != key) {
+            index = (index + 1) & mask;
+        }
+        return index;
+    }
+
+    private static long[] emptyKeys(int length) {
+        long[] keys = new long[length];
+        Arrays.fill(keys, EMPTY);
+        return keys;
+    }
+
+    @FunctionalInterface
+    interface EntryConsumer {
+        void accept(long key, long value);
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.reconcile;
+
+/**
+ * 잔고와 기초 잔고 + 내역 합계가 다른 유저
+ *
+ * @param balance        저장된 잔고
+ * @param openingBalance 내역 없이 적재된 기초 잔고 (초기 데이터, 내역 없이 복구한 잔고)
+ * @param historyNet     내역 합계 (충전 - 사용 - 소멸)
+ * @param repaired       잔고를 기초 잔고 + 내역 합계로 보정했는지 여부 (내역이 없는 유저는 보정하지 않는다)
+ */
+public record PointBalanceMismatch(
+        long userId,
+        long balance,
+        long openingBalance,
+        long historyNet,
+        boolean repaired
+) {
+}
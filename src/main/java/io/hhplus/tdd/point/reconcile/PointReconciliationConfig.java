@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryScanner;
+import io.hhplus.tdd.point.repository.PointOpeningBalances;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.hhplus.tdd.point.service.UserLockManager;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+@Configuration
+@EnableConfigurationProperties(PointReconciliationProperties.class)
+public class PointReconciliationConfig {
+
+    //공용 저장소를 대사하므로 샤드마다 테이블을 따로 두는 샤드 모드에서는 대상이 없다.
+    //전체 내역을 훑을 수 없는 저장소(write-behind)에서는 대사하지 않는다. (저장 대기 중인 내역이 합계와 요약에서 빠진다)
+    //CAS 모드에서는 잔고가 유저 락 밖에서 바뀌어 락 안에서 다시 읽어도 처리 중인 요청을 불일치로 보므로 대사하지 않는다.
+    //보정은 point.reconcile.repair-enabled 를 켜고 LOCK 모드에서 저널 없이 쓸 때만 허용
+    @Bean
+    public PointReconciliationService pointReconciliationService(PointReconciliationProperties properties,
+                                                                 UserPointRepository userPointRepository,
+                                                                 PointHistoryRepository pointHistoryRepository,
+                                                                 PointOpeningBalances pointOpeningBalances,
+                                                                 UserLockManager userLockManager,
+                                                                 PointMutationProperties pointMutationProperties,
+                                                                 Environment environment) {
+        PointHistoryScanner pointHistoryScanner = pointHistoryRepository instanceof PointHistoryScanner scanner
+                ? scanner
+                : null;
+        boolean repairable = properties.repairEnabled()
+                && pointHistoryScanner != null
+                && pointMutationProperties.mode() == PointMutationProperties.Mode.LOCK
+                && !environment.getProperty("point.shard.enabled", Boolean.class, false)
+                && !environment.getProperty("point.journal.enabled", Boolean.class, false)
+                && !environment.getProperty("point.history.write-behind.enabled", Boolean.class, false);
+        return new PointReconciliationService(userPointRepository, pointHistoryScanner, pointOpeningBalances,
+                userLockManager, properties.concurrency(), properties.maxReported(), repairable,
+                pointMutationProperties.mode() == PointMutationProperties.Mode.CAS);
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.reconcile;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 잔고/내역 대사 설정
+ *
+ * @param concurrency   잔고 조회를 동시에 수행할 최대 건수 (UserPointTable 은 호출마다 지연이 있으므로 가상 스레드로 동시 조회)
+ * @param maxReported   결과에 담을 불일치 유저 수 (불일치 수는 모두 센다)
+ * @param repairEnabled 잔고 보정(repair=true) 허용 여부, 잔고를 덮어쓰므로 기본값은 false
+ */
+@ConfigurationProperties(prefix = "point.reconcile")
+public record PointReconciliationProperties(
+        @DefaultValue("256") int concurrency,
+        @DefaultValue("1000") int maxReported,
+        @DefaultValue("false") boolean repairEnabled
+) {
+}
@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.reconcile;
+
+import java.util.List;
+
+/**
+ * 대사 결과
+ *
+ * @param users         대사한 유저 수 (내역, 잔고, 기초 잔고 중 하나라도 있는 유저)
+ * @param histories     훑은 내역 수
+ * @param mismatched    잔고와 기초 잔고 + 내역 합계가 다른 유저 수
+ * @param repaired      잔고를 보정한 유저 수
+ * @param scanMillis    내역과 유저 목록을 훑어 유저별 합계를 만든 시간
+ * @param elapsedMillis 잔고 비교와 보정까지 걸린 전체 시간
+ * @param mismatches    잔고와 기초 잔고 + 내역 합계가 다른 유저 (point.reconcile.max-reported 건까지)
+ */
+public record PointReconciliationReport(
+        long users,
+        long histories,
+        long mismatched,
+        long repaired,
+        long scanMillis,
+        long elapsedMillis,
+        List<PointBalanceMismatch> mismatches
+) {
+}
@@ -0,0 +1,156 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryScanner;
+import io.hhplus.tdd.point.repository.PointOpeningBalances;
+import io.hhplus.tdd.point.repository.PointSummary;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.UserLockManager;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+/**
+ * 잔고와 내역을 맞춰 보는 대사(reconciliation) 작업
+ * - 전체 내역을 한 번만 훑으면서 유저 단위로 나눠 병렬로 합산 (스레드마다 원시 배열 맵에 모은 뒤 병합)
+ * - 내역이 없어도 잔고가 저장된 유저와 기초 잔고가 있는 유저도 대상에 넣는다.
+ * - 유저별 기초 잔고 + 내역 합계(충전 - 사용 - 소멸)를 저장된 잔고와 비교, 잔고 조회는 가상 스레드로 concurrency 건씩 동시에 수행
+ * - 다르면 유저 락 안에서 잔고와 요약(summarize)을 다시 읽어 확인하므로 훑는 동안 반영된 요청은 불일치로 보지 않는다.
+ * - repair 이면 확인된 불일치 유저의 잔고를 기초 잔고 + 내역 합계로 보정 (내역을 기준으로 본다)
+ *   내역이 하나도 없는 유저는 잔고의 근거가 없으므로 보고만 하고 보정하지 않는다.
+ * 보정은 유저 락으로 충전/사용과 배제되는 LOCK 모드에서만, 잔고만 바꾸므로 저널과 함께 쓰지 않을 때만 가능하다.
+ * CAS 모드는 잔고를 유저 락 밖에서 내역 저장보다 먼저 바꾸므로 락 안에서 다시 읽어도 처리 중인 요청을 불일치로 보고한다.
+ * 결과를 믿을 수 없으므로 대사 자체를 거절한다.
+ */
+public class PointReconciliationService {
+
+    private static final Logger log = LoggerFactory.getLogger(PointReconciliationService.class);
+
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryScanner pointHistoryScanner; //전체 내역을 훑을 수 없는 저장소면 null
+    private final PointOpeningBalances pointOpeningBalances;
+    private final UserLockManager userLockManager;
+    private final int concurrency;
+    private final int maxReported;
+    private final boolean repairable;
+    private final boolean lockFreeBalance; //잔고가 유저 락 밖에서 바뀌는 모드 (CAS)
+
+    public PointReconciliationService(UserPointRepository userPointRepository,
+                                      PointHistoryScanner pointHistoryScanner,
+                                      PointOpeningBalances pointOpeningBalances,
+                                      UserLockManager userLockManager,
+                                      int concurrency,
+                                      int maxReported,
+                                      boolean repairable,
+                                      boolean lockFreeBalance) {
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryScanner = pointHistoryScanner;
+        this.pointOpeningBalances = pointOpeningBalances;
+        this.userLockManager = userLockManager;
+        this.concurrency = concurrency;
+        this.maxReported = maxReported;
+        this.repairable = repairable;
+        this.lockFreeBalance = lockFreeBalance;
+    }
+
+    public PointReconciliationReport reconcile(boolean repair) {
+        if (pointHistoryScanner == null) {
+            throw new IllegalStateException("전체 내역을 훑을 수 없는 저장소입니다. (point.history.write-behind 사용 중에는 대사할 수 없습니다.)");
+        }
+        if (lockFreeBalance) {
+            throw new IllegalStateException("CAS 모드에서는 잔고가 유저 락 밖에서 내역보다 먼저 바뀌므로 대사할 수 없습니다. (point.mutation.mode=cas)");
+        }
+        if (repair && !repairable) {
+            throw new IllegalStateException("잔고 보정은 point.reconcile.repair-enabled=true, point.mutation.mode=lock 이고 "
+                    + "샤드/저널/write-behind 를 사용하지 않을 때만 가능합니다.");
+        }
+        long startedAt = System.nanoTime();
+        HistoryFold fold;
+        try (Stream<PointHistory> histories = pointHistoryScanner.streamAll()) {
+            fold = histories.parallel().collect(HistoryFold::new, HistoryFold::add, HistoryFold::merge);
+        }
+        //내역이 없는 유저는 합계 0 으로 대상에 넣는다.
+        try (LongStream userIds = userPointRepository.userIds()) {
+            userIds.forEach(userId -> fold.nets.add(userId, 0L));
+        }
+        pointOpeningBalances.userIds().forEach(userId -> fold.nets.add(userId, 0L));
+        long scannedAt = System.nanoTime();
+
+        Queue<PointBalanceMismatch> mismatches = new ConcurrentLinkedQueue<>();
+        AtomicLong mismatched = new AtomicLong();
+        AtomicLong repaired = new AtomicLong();
+        Semaphore permits = new Semaphore(concurrency);
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            fold.nets.forEach((userId, net) -> {
+                permits.acquireUninterruptibly();
+                executor.execute(() -> {
+                    try {
+                        PointBalanceMismatch mismatch = verify(userId, net, repair);
+                        if (mismatch == null) return;
+                        if (mismatched.incrementAndGet() <= maxReported) mismatches.add(mismatch);
+                        if (mismatch.repaired()) repaired.incrementAndGet();
+                    } finally {
+                        permits.release();
+                    }
+                });
+            });
+        }
+
+        long finishedAt = System.nanoTime();
+        PointReconciliationReport report = new PointReconciliationReport(fold.nets.size(), fold.rows,
+                mismatched.get(), repaired.get(), (scannedAt - startedAt) / 1_000_000L,
+                (finishedAt - startedAt) / 1_000_000L, new ArrayList<>(mismatches));
+        log.info("포인트 대사 완료 : 유저 {}명, 내역 {}건, 불일치 {}명, 보정 {}명, 내역 합산 {}ms, 전체 {}ms",
+                report.users(), report.histories(), report.mismatched(), report.repaired(),
+                report.scanMillis(), report.elapsedMillis());
+        return report;
+    }
+
+    //기초 잔고 + 합계와 다르면 락 안에서 다시 읽어 확인한 뒤 (필요하면 보정해) 불일치로 반환
+    private PointBalanceMismatch verify(long userId, long net, boolean repair) {
+        long openingBalance = pointOpeningBalances.get(userId);
+        if (userPointRepository.findById(userId).point() == openingBalance + net) return null;
+        return userLockManager.executeWithLock(userId, () -> {
+            long balance = userPointRepository.findById(userId).point();
+            PointSummary summary = pointHistoryScanner.summarize(userId);
+            long historyNet = net(summary);
+            if (balance == openingBalance + historyNet) return null;
+            boolean repaired = repair && summary.transactionCount() > 0;
+            if (repaired) userPointRepository.save(userId, openingBalance + historyNet);
+            return new PointBalanceMismatch(userId, balance, openingBalance, historyNet, repaired);
+        });
+    }
+
+    private static long net(PointSummary summary) {
+        return summary.totalCharged() - summary.totalUsed() - summary.totalExpired();
+    }
+
+    //병렬 스트림의 분할마다 하나씩 만들어 합산한 뒤 병합
+    private static final class HistoryFold {
+        private final LongLongHashMap nets = new LongLongHashMap();
+        private long rows;
+
+        private void add(PointHistory history) {
+            nets.add(history.userId(), switch (history.type()) {
+                case CHARGE -> history.amount();
+                case USE, EXPIRE -> -history.amount();
+            });
+            rows++;
+        }
+
+        private void merge(HistoryFold other) {
+            nets.merge(other.nets);
+            rows += other.rows;
+        }
+    }
+}
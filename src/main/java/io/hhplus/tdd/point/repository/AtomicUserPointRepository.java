@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 원자적 갱신(CAS)을 지원하는 유저 포인트 저장소 (CAS 모드용)
+ * - 조회 후 저장 사이에 다른 갱신이 끼어들 수 없는 저장소만 구현한다. (point.store.type=primitive)
+ */
+public interface AtomicUserPointRepository extends UserPointRepository {
+
+    //현재 포인트에 operator 를 적용한 결과를 원자적으로 저장
+    UserPoint update(long id, LongUnaryOperator operator);
+}
@@ -0,0 +1,79 @@
+package io.hhplus.tdd.point.repository;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.util.stream.LongStream;
+
+/**
+ * 유저 포인트 조회 캐시 (read-through / write-through)
+ * - 조회 : 캐시에 없을 때만 원본 저장소를 조회해 캐시에 적재
+ * - 저장 : 원본 저장소에 저장한 결과로 캐시를 갱신하므로 조회 시 항상 마지막으로 저장된 포인트를 반환
+ * - 최대 크기를 넘으면 W-TinyLFU 정책으로 자주 쓰이지 않는 유저부터 제거
+ * - 원본 조회는 캐시 내부 락(compute) 밖에서 수행해 가상 스레드가 조회 지연 동안 캐리어 스레드에 고정(pinning)되지 않게 한다.
+ *   조회한 값은 비어 있을 때만 적재(putIfAbsent)하므로 그 사이 저장된 최신 값을 덮어쓰지 않는다.
+ */
+public class CachedUserPointRepository implements UserPointRepository, MeterBinder {
+
+    private final UserPointRepository delegate;
+    private final Cache<Long, UserPoint> cache;
+
+    public CachedUserPointRepository(UserPointRepository delegate, long maximumSize) {
+        this.delegate = delegate;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    @Override
+    public UserPoint findById(long id) {
+        UserPoint cached = cache.getIfPresent(id);
+        if (cached != null) return cached;
+
+        UserPoint loaded = delegate.findById(id);
+        UserPoint previous = cache.asMap().putIfAbsent(id, loaded);
+        return previous == null ? loaded : previous;
+    }
+
+    @Override
+    public UserPoint save(long id, long point) {
+        UserPoint userPoint = delegate.save(id, point);
+        cache.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public void restore(long id, long point) {
+        delegate.restore(id, point);
+        cache.invalidate(id);
+    }
+
+    @Override
+    public LongStream userIds() {
+        return delegate.userIds();
+    }
+
+    //적중/미적중/제거 건수
+    public CacheStats stats() {
+        return cache.stats();
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+    }
+
+    //적중/미적중/제거 건수를 cache.* 지표로 노출 (cache=user_point)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "user_point");
+    }
+}
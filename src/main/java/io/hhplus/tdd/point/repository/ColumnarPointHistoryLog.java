@@ -0,0 +1,266 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * 한 유저의 포인트 내역을 열(column) 단위로 보관하는 로그 (point.history.store.type=columnar)
+ * - 유저 id 는 로그가 알고 있으므로 저장하지 않는다.
+ * - 열린 청크 : id/amount/updateMillis 는 long 배열, 트랜잭션 종류는 byte 배열 (필요한 만큼만 두 배씩 늘린다)
+ * - CHUNK_ROWS 건이 차면 청크를 봉인(seal)해 한 byte 배열로 압축
+ *   id 는 앞 내역과의 차이, updateMillis 는 앞 내역과의 차이(zigzag), amount 는 zigzag 를 varint 로 기록
+ * - PointHistory 는 조회 결과로 돌려줄 때만 만들고, 조회는 청크를 차례로 풀어 읽는 Iterator
+ * - 커서(after) 조회는 봉인된 청크의 마지막 id 로 시작 청크를 이진 탐색해 앞 청크를 풀지 않는다.
+ * - 추가/요약은 로그 단위로 동기화, 조회는 락 안에서 봉인 청크 목록과 열린 청크의 복사본만 잡고 락 밖에서 읽는다.
+ */
+final class ColumnarPointHistoryLog implements UserHistoryLog {
+
+    static final int CHUNK_ROWS = 128;
+    private static final int INITIAL_ROWS = 4;
+    private static final TransactionType[] TYPES = TransactionType.values();
+
+    private final long userId;
+    private SealedChunk[] sealed = new SealedChunk[0];
+    private int sealedCount;
+    //열린 청크의 열
+    private long[] ids = new long[INITIAL_ROWS];
+    private long[] amounts = new long[INITIAL_ROWS];
+    private long[] millis = new long[INITIAL_ROWS];
+    private byte[] types = new byte[INITIAL_ROWS];
+    private int openRows;
+    //요약용 누적값
+    private int size;
+    private long totalCharged;
+    private long totalUsed;
+    private long totalExpired;
+    private long lastActivityMillis;
+
+    ColumnarPointHistoryLog(long userId) {
+        this.userId = userId;
+    }
+
+    @Override
+    public synchronized void append(PointHistory history) {
+        if (openRows == ids.length) {
+            int capacity = Math.min(CHUNK_ROWS, ids.length * 2);
+            ids = Arrays.copyOf(ids, capacity);
+            amounts = Arrays.copyOf(amounts, capacity);
+            millis = Arrays.copyOf(millis, capacity);
+            types = Arrays.copyOf(types, capacity);
+        }
+        ids[openRows] = history.id();
+        amounts[openRows] = history.amount();
+        millis[openRows] = history.updateMillis();
+        types[openRows] = (byte) history.type().ordinal();
+        openRows++;
+        size++;
+
+        switch (history.type()) {
+            case CHARGE -> totalCharged += history.amount();
+            case USE -> totalUsed += history.amount();
+            case EXPIRE -> totalExpired += history.amount();
+        }
+        lastActivityMillis = Math.max(lastActivityMillis, history.updateMillis());
+        if (openRows == CHUNK_ROWS) seal();
+    }
+
+    @Override
+    public synchronized PointSummary summary(long userId) {
+        return new PointSummary(userId, totalCharged, totalUsed, totalExpired, size, lastActivityMillis);
+    }
+
+    @Override
+    public synchronized int size() {
+        return size;
+    }
+
+    @Override
+    public List<PointHistory> snapshot() {
+        List<PointHistory> result = new ArrayList<>();
+        streamAfter(0L).forEach(result::add);
+        return Collections.unmodifiableList(result);
+    }
+
+    @Override
+    public Stream<PointHistory> streamAfter(long afterId) {
+        Cursor cursor;
+        synchronized (this) {
+            if (size == 0) return Stream.empty();
+            //봉인된 청크는 바뀌지 않고 배열에는 뒤에만 추가되므로 참조와 개수만 잡는다.
+            cursor = new Cursor(sealed, sealedCount, Arrays.copyOf(ids, openRows), Arrays.copyOf(amounts, openRows),
+                    Arrays.copyOf(millis, openRows), Arrays.copyOf(types, openRows), afterId);
+        }
+        return StreamSupport.stream(
+                Spliterators.spliteratorUnknownSize(cursor, Spliterator.ORDERED | Spliterator.NONNULL), false);
+    }
+
+    //열린 청크를 압축해 봉인하고, 열린 청크는 다시 작은 배열부터 시작 (내역이 뜸한 유저가 큰 배열을 계속 쥐지 않도록)
+    private void seal() {
+        if (sealedCount == sealed.length) sealed = Arrays.copyOf(sealed, Math.max(4, sealedCount * 2));
+        sealed[sealedCount++] = SealedChunk.encode(ids, amounts, millis, types, openRows);
+        ids = new long[INITIAL_ROWS];
+        amounts = new long[INITIAL_ROWS];
+        millis = new long[INITIAL_ROWS];
+        types = new byte[INITIAL_ROWS];
+        openRows = 0;
+    }
+
+    /**
+     * 봉인된 청크 : [id 차이 varint * n][amount zigzag varint * n][updateMillis 차이 zigzag varint * n][종류 byte * n]
+     * 첫 id 와 첫 updateMillis 는 필드로 두고 차이의 기준으로 사용
+     */
+    private record SealedChunk(int rows, long firstId, long lastId, long firstMillis,
+                               int amountsOffset, int millisOffset, int typesOffset, byte[] data) {
+
+        private static SealedChunk encode(long[] ids, long[] amounts, long[] millis, byte[] types, int rows) {
+            byte[] buffer = new byte[rows * (Long.BYTES + 2) * 3 + rows];
+            int position = 0;
+            for (int i = 0; i < rows; i++) {
+                position = writeVarint(buffer, position, i == 0 ? 0L : ids[i] - ids[i - 1]);
+            }
+            int amountsOffset = position;
+            for (int i = 0; i < rows; i++) {
+                position = writeVarint(buffer, position, zigzag(amounts[i]));
+            }
+            int millisOffset = position;
+            for (int i = 0; i < rows; i++) {
+                position = writeVarint(buffer, position, zigzag(i == 0 ? 0L : millis[i] - millis[i - 1]));
+            }
+            int typesOffset = position;
+            System.arraycopy(types, 0, buffer, position, rows);
+            position += rows;
+            return new SealedChunk(rows, ids[0], ids[rows - 1], millis[0],
+                    amountsOffset, millisOffset, typesOffset, Arrays.copyOf(buffer, position));
+        }
+
+        private static int writeVarint(byte[] buffer, int position, long value) {
+            while ((value & ~0x7FL) != 0L) {
+                buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+                value >>>= 7;
+            }
+            buffer[position++] = (byte) value;
+            return position;
+        }
+
+        private static long zigzag(long value) {
+            return (value << 1) ^ (value >> 63);
+        }
+    }
+
+    //봉인된 청크를 차례로 풀고, 마지막으로 열린 청크 복사본을 읽는 Iterator
+    private final class Cursor implements Iterator<PointHistory> {
+
+        private static final int ID = 0, AMOUNT = 1, MILLIS = 2;
+
+        private final SealedChunk[] chunks;
+        private final int chunkCount;
+        private final long[] openIds;
+        private final long[] openAmounts;
+        private final long[] openMillis;
+        private final byte[] openTypes;
+        private final long afterId;
+        private int chunkIndex;
+        //현재 봉인 청크에서 읽을 행과 열별 읽기 위치
+        private int row;
+        private final int[] positions = new int[3];
+        private long id;
+        private long updateMillis;
+        private PointHistory next;
+
+        private Cursor(SealedChunk[] chunks, int chunkCount, long[] openIds, long[] openAmounts,
+                       long[] openMillis, byte[] openTypes, long afterId) {
+            this.chunks = chunks;
+            this.chunkCount = chunkCount;
+            this.openIds = openIds;
+            this.openAmounts = openAmounts;
+            this.openMillis = openMillis;
+            this.openTypes = openTypes;
+            this.afterId = afterId;
+            this.chunkIndex = firstChunk(afterId);
+            startChunk();
+        }
+
+        @Override
+        public boolean hasNext() {
+            while (next == null) {
+                PointHistory candidate = read();
+                if (candidate == null) return false;
+                if (candidate.id() > afterId) next = candidate;
+            }
+            return true;
+        }
+
+        @Override
+        public PointHistory next() {
+            if (!hasNext()) throw new NoSuchElementException();
+            PointHistory result = next;
+            next = null;
+            return result;
+        }
+
+        //마지막 id 가 afterId 보다 큰 첫 봉인 청크 (모두 afterId 이하면 열린 청크)
+        private int firstChunk(long afterId) {
+            int low = 0, high = chunkCount;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (chunks[mid].lastId() <= afterId) low = mid + 1;
+                else high = mid;
+            }
+            return low;
+        }
+
+        private void startChunk() {
+            row = 0;
+            if (chunkIndex >= chunkCount) return;
+            SealedChunk chunk = chunks[chunkIndex];
+            positions[ID] = 0;
+            positions[AMOUNT] = chunk.amountsOffset();
+            positions[MILLIS] = chunk.millisOffset();
+            id = chunk.firstId();
+            updateMillis = chunk.firstMillis();
+        }
+
+        private PointHistory read() {
+            while (chunkIndex < chunkCount) {
+                SealedChunk chunk = chunks[chunkIndex];
+                if (row < chunk.rows()) return decode(chunk);
+                chunkIndex++;
+                startChunk();
+            }
+            if (row >= openIds.length) return null;
+            int index = row++;
+            return new PointHistory(openIds[index], userId, openAmounts[index], TYPES[openTypes[index]],
+                    openMillis[index]);
+        }
+
+        private PointHistory decode(SealedChunk chunk) {
+            byte[] data = chunk.data();
+            id += readVarint(data, ID);
+            long amount = readVarint(data, AMOUNT);
+            long millisDelta = readVarint(data, MILLIS);
+            updateMillis += (millisDelta >>> 1) ^ -(millisDelta & 1L);
+            TransactionType type = TYPES[data[chunk.typesOffset() + row++]];
+            return new PointHistory(id, userId, (amount >>> 1) ^ -(amount & 1L), type, updateMillis);
+        }
+
+        private long readVarint(byte[] data, int column) {
+            long value = 0L;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[positions[column]++];
+                value |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while (b < 0);
+            return value;
+        }
+    }
+}
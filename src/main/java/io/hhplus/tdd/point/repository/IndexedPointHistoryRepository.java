@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongFunction;
+import java.util.stream.Stream;
+
+/**
+ * 유저별 인덱스를 두는 포인트 내역 저장소
+ * - 저장은 원본 저장소(PointHistoryTable)에 한 뒤 유저별 내역 로그에 추가
+ * - 조회는 전체 테이블을 훑지 않고 해당 유저의 로그만 읽으므로 O(유저의 내역 수)
+ * - 요약(summarize)은 유저별 로그에 누적된 합계를 읽으므로 O(1)
+ * - 커서(after) 조회는 로그에서 시작 위치를 이진 탐색한 뒤 필요한 만큼만 읽는다.
+ * - 유저별 로그는 PointHistory 객체 목록(OBJECT) 또는 열 단위 압축 청크(COLUMNAR)로 보관
+ * - 복구(restore)된 내역이 있으면 이후 저장되는 내역의 id 는 복구된 마지막 id 다음부터 이어진다.
+ */
+public class IndexedPointHistoryRepository implements PointHistoryScanner {
+
+    private final PointHistoryRepository delegate;
+    private final LongFunction<UserHistoryLog> logFactory;
+    private final ConcurrentHashMap<Long, UserHistoryLog> logs = new ConcurrentHashMap<>();
+    //원본 테이블은 재시작 시 id 를 1부터 다시 부여하므로 복구된 마지막 id 만큼 밀어서 사용
+    private volatile long idOffset;
+
+    public IndexedPointHistoryRepository(PointHistoryRepository delegate) {
+        this(delegate, PointHistoryStoreProperties.Type.OBJECT);
+    }
+
+    public IndexedPointHistoryRepository(PointHistoryRepository delegate, PointHistoryStoreProperties.Type storeType) {
+        this.delegate = delegate;
+        this.logFactory = storeType == PointHistoryStoreProperties.Type.COLUMNAR
+                ? ColumnarPointHistoryLog::new
+                : userId -> new PointHistoryLog();
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        PointHistory saved = delegate.save(userId, amount, type, updateMillis);
+        PointHistory pointHistory = idOffset == 0L ? saved
+                : new PointHistory(saved.id() + idOffset, userId, amount, type, updateMillis);
+        logs.computeIfAbsent(userId, logFactory::apply).append(pointHistory);
+        return pointHistory;
+    }
+
+    //복구 시에는 원본 테이블에 다시 저장하지 않고 인덱스에만 추가 (시작 시 한 스레드에서 호출)
+    //id 가 없거나(write-behind 로 기록된 내역) 앞선 id 보다 작으면 마지막 id 다음 번호를 부여해 id 순서를 유지
+    @Override
+    public void restore(PointHistory pointHistory) {
+        long id = pointHistory.id() > idOffset ? pointHistory.id() : idOffset + 1;
+        idOffset = id;
+        PointHistory restored = id == pointHistory.id() ? pointHistory : new PointHistory(
+                id, pointHistory.userId(), pointHistory.amount(), pointHistory.type(), pointHistory.updateMillis());
+        logs.computeIfAbsent(restored.userId(), logFactory::apply).append(restored);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        UserHistoryLog log = logs.get(userId);
+        return log == null ? List.of() : log.snapshot();
+    }
+
+    //내역을 훑지 않고 유저별 로그의 누적값을 바로 읽는다.
+    @Override
+    public PointSummary summarize(long userId) {
+        UserHistoryLog log = logs.get(userId);
+        return log == null ? PointSummary.empty(userId) : log.summary(userId);
+    }
+
+    @Override
+    public Stream<PointHistory> streamByUserId(long userId, PointHistoryQuery query) {
+        UserHistoryLog log = logs.get(userId);
+        if (log == null) return Stream.empty();
+        return log.streamAfter(query.after()).filter(query::matches);
+    }
+
+    //유저별 로그 단위로 나눠 병렬로 읽는다. (로그마다 호출 시점까지의 내역)
+    @Override
+    public Stream<PointHistory> streamAll() {
+        return logs.values().parallelStream().flatMap(log -> log.streamAfter(0L));
+    }
+}
@@ -0,0 +1,76 @@
+package io.hhplus.tdd.point.repository;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 저장소 호출마다 흉내 낼 지연 시간 분포
+ * - none : 대기하지 않음 (우리 코드의 비용만 측정)
+ * - fixed : 항상 같은 시간
+ * - uniform : min ~ max 사이 임의 시간 (UserPointTable/PointHistoryTable 은 0 ~ 200/300ms)
+ * - recorded : 운영 환경에서 기록한 지연 시간 표본 중 하나를 임의로 골라 대기 (경험적 분포)
+ */
+@FunctionalInterface
+public interface LatencyProfile {
+
+    LatencyProfile NONE = () -> 0L;
+
+    //이번 호출에서 대기할 시간 (ns)
+    long nextNanos();
+
+    default void pause() {
+        long nanos = nextNanos();
+        if (nanos <= 0L) return;
+        try {
+            TimeUnit.NANOSECONDS.sleep(nanos);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    static LatencyProfile none() {
+        return NONE;
+    }
+
+    static LatencyProfile fixed(Duration latency) {
+        long nanos = latency.toNanos();
+        return nanos <= 0L ? NONE : () -> nanos;
+    }
+
+    static LatencyProfile uniform(Duration min, Duration max) {
+        long minNanos = min.toNanos();
+        long maxNanos = max.toNanos();
+        if (maxNanos <= 0L) return NONE;
+        if (maxNanos <= minNanos) return fixed(min);
+        return () -> ThreadLocalRandom.current().nextLong(minNanos, maxNanos);
+    }
+
+    //테이블과 같은 0 ~ maxMillis 분포, 0 이면 대기하지 않는다.
+    static LatencyProfile uniformMillis(long maxMillis) {
+        return uniform(Duration.ZERO, Duration.ofMillis(maxMillis));
+    }
+
+    static LatencyProfile recorded(List<Duration> samples) {
+        if (samples.isEmpty()) throw new IllegalArgumentException("지연 시간 표본이 없습니다.");
+        long[] nanos = samples.stream().mapToLong(Duration::toNanos).toArray();
+        return () -> nanos[ThreadLocalRandom.current().nextInt(nanos.length)];
+    }
+
+    //한 줄에 표본 하나(마이크로초), 빈 줄과 # 으로 시작하는 줄은 무시
+    static LatencyProfile recorded(Path samplesFile) {
+        try (var lines = Files.lines(samplesFile)) {
+            return recorded(lines.map(String::trim)
+                    .filter(line -> !line.isEmpty() && !line.startsWith("#"))
+                    .map(line -> Duration.ofNanos(TimeUnit.MICROSECONDS.toNanos(Long.parseLong(line))))
+                    .toList());
+        } catch (IOException e) {
+            throw new UncheckedIOException("지연 시간 표본 파일을 읽을 수 없습니다. : " + samplesFile, e);
+        }
+    }
+}
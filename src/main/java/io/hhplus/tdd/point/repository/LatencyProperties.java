@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * 테이블 지연 시간 설정
+ *
+ * @param mode            TABLE : UserPointTable/PointHistoryTable 을 그대로 사용 (내장 지연 포함, 기본값),
+ *                        SIMULATED : 테이블 대신 메모리 저장소를 쓰고 아래 프로필로 지연을 흉내 낸다.
+ * @param userPointSelect 포인트 조회 지연, 없으면 테이블과 같은 0 ~ 200ms
+ * @param userPointSave   포인트 저장 지연, 없으면 테이블과 같은 0 ~ 300ms
+ * @param historyInsert   내역 저장 지연, 없으면 테이블과 같은 0 ~ 300ms
+ */
+@ConfigurationProperties(prefix = "point.latency")
+public record LatencyProperties(
+        @DefaultValue("TABLE") Mode mode,
+        Profile userPointSelect,
+        Profile userPointSave,
+        Profile historyInsert
+) {
+
+    public enum Mode {
+        TABLE, SIMULATED
+    }
+
+    public enum Type {
+        NONE, FIXED, UNIFORM, RECORDED
+    }
+
+    //mode 에 따라 테이블 저장소 또는 지연을 흉내 내는 메모리 저장소
+    public UserPointRepository userPointRepository(UserPointTable userPointTable) {
+        if (mode == Mode.TABLE) return new UserPointTableRepository(userPointTable);
+        return new SimulatedUserPointRepository(userPointSelectProfile(), userPointSaveProfile());
+    }
+
+    public PointHistoryRepository pointHistoryRepository(PointHistoryTable pointHistoryTable) {
+        if (mode == Mode.TABLE) return new PointHistoryTableRepository(pointHistoryTable);
+        return new SimulatedPointHistoryRepository(historyInsertProfile());
+    }
+
+    public LatencyProfile userPointSelectProfile() {
+        return userPointSelect == null ? LatencyProfile.uniformMillis(200L) : userPointSelect.toLatencyProfile();
+    }
+
+    public LatencyProfile userPointSaveProfile() {
+        return userPointSave == null ? LatencyProfile.uniformMillis(300L) : userPointSave.toLatencyProfile();
+    }
+
+    public LatencyProfile historyInsertProfile() {
+        return historyInsert == null ? LatencyProfile.uniformMillis(300L) : historyInsert.toLatencyProfile();
+    }
+
+    /**
+     * @param type        지연 시간 분포
+     * @param fixed       FIXED 의 지연 시간
+     * @param min         UNIFORM 의 최소 지연 시간
+     * @param max         UNIFORM 의 최대 지연 시간
+     * @param samples     RECORDED 의 지연 시간 표본
+     * @param samplesFile RECORDED 의 표본 파일 (한 줄에 마이크로초 하나), samples 보다 우선
+     */
+    public record Profile(
+            @DefaultValue("NONE") Type type,
+            @DefaultValue("0ms") Duration fixed,
+            @DefaultValue("0ms") Duration min,
+            @DefaultValue("0ms") Duration max,
+            List<Duration> samples,
+            String samplesFile
+    ) {
+
+        public LatencyProfile toLatencyProfile() {
+            return switch (type) {
+                case NONE -> LatencyProfile.none();
+                case FIXED -> LatencyProfile.fixed(fixed);
+                case UNIFORM -> LatencyProfile.uniform(min, max);
+                case RECORDED -> samplesFile != null
+                        ? LatencyProfile.recorded(Path.of(samplesFile))
+                        : LatencyProfile.recorded(samples == null ? List.of() : samples);
+            };
+        }
+    }
+}
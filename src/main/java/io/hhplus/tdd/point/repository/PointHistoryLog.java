@@ -0,0 +1,85 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * 한 유저의 포인트 내역을 추가만 가능한(append-only) 청크 단위로 보관
+ * - 추가는 유저 단위로 동기화, 조회는 락 없이 size 까지의 스냅샷을 읽는다.
+ * - 청크를 다시 복사하지 않으므로 내역이 많아져도 추가 비용이 일정하다.
+ * - 충전/사용/소멸 합계와 마지막 내역 시각을 추가할 때마다 갱신해 요약 조회는 O(1)
+ */
+final class PointHistoryLog implements UserHistoryLog {
+
+    private static final int CHUNK_SIZE = 64;
+
+    private volatile PointHistory[][] chunks = new PointHistory[1][];
+    //chunks 와 청크 원소를 쓴 뒤에 size 를 갱신해야 조회 스레드가 size 까지 안전하게 읽을 수 있다.
+    private volatile int size;
+    //요약용 누적값, append 와 같은 락 안에서만 읽고 쓴다.
+    private long totalCharged;
+    private long totalUsed;
+    private long totalExpired;
+    private long lastActivityMillis;
+
+    @Override
+    public synchronized void append(PointHistory history) {
+        int index = size;
+        int chunk = index / CHUNK_SIZE;
+        PointHistory[][] current = chunks;
+        if (chunk == current.length) current = chunks = Arrays.copyOf(current, current.length * 2);
+        if (current[chunk] == null) current[chunk] = new PointHistory[CHUNK_SIZE];
+        current[chunk][index % CHUNK_SIZE] = history;
+        switch (history.type()) {
+            case CHARGE -> totalCharged += history.amount();
+            case USE -> totalUsed += history.amount();
+            case EXPIRE -> totalExpired += history.amount();
+        }
+        lastActivityMillis = Math.max(lastActivityMillis, history.updateMillis());
+        size = index + 1;
+    }
+
+    @Override
+    public synchronized PointSummary summary(long userId) {
+        return new PointSummary(userId, totalCharged, totalUsed, totalExpired, size, lastActivityMillis);
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public List<PointHistory> snapshot() {
+        int count = size;
+        if (count == 0) return List.of();
+        PointHistory[][] current = chunks;
+        List<PointHistory> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i += CHUNK_SIZE) {
+            result.addAll(Arrays.asList(current[i / CHUNK_SIZE]).subList(0, Math.min(CHUNK_SIZE, count - i)));
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    //복사 없이 청크를 바로 읽는다.
+    @Override
+    public Stream<PointHistory> streamAfter(long afterId) {
+        int count = size;
+        PointHistory[][] current = chunks;
+        int low = 0, high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (get(current, mid).id() <= afterId) low = mid + 1;
+            else high = mid;
+        }
+        return IntStream.range(low, count).mapToObj(index -> get(current, index));
+    }
+
+    private static PointHistory get(PointHistory[][] chunks, int index) {
+        return chunks[index / CHUNK_SIZE][index % CHUNK_SIZE];
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.repository;
+
+/**
+ * 포인트 내역 조회 조건
+ *
+ * @param after      이 id 보다 큰 내역만 조회 (커서, 0 이면 처음부터)
+ * @param fromMillis updateMillis 시작 (포함)
+ * @param toMillis   updateMillis 끝 (포함)
+ * @param type       트랜잭션 종류, null 이면 전체
+ */
+public record PointHistoryQuery(
+        long after,
+        long fromMillis,
+        long toMillis,
+        TransactionType type
+) {
+
+    public static final PointHistoryQuery ALL = new PointHistoryQuery(0L, Long.MIN_VALUE, Long.MAX_VALUE, null);
+
+    public static PointHistoryQuery of(Long after, Long fromMillis, Long toMillis, TransactionType type) {
+        return new PointHistoryQuery(
+                after == null ? 0L : after,
+                fromMillis == null ? Long.MIN_VALUE : fromMillis,
+                toMillis == null ? Long.MAX_VALUE : toMillis,
+                type
+        );
+    }
+
+    public boolean matches(PointHistory pointHistory) {
+        return pointHistory.id() > after
+                && pointHistory.updateMillis() >= fromMillis
+                && pointHistory.updateMillis() <= toMillis
+                && (type == null || pointHistory.type() == type);
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 내역 저장소
+ * - PointService 는 PointHistoryTable 대신 이 인터페이스를 통해 내역을 저장/조회한다.
+ * - 전체 내역을 훑을 수 있는 저장소는 PointHistoryScanner 를 구현한다.
+ */
+public interface PointHistoryRepository {
+
+    PointHistory save(long userId, long amount, TransactionType type, long updateMillis);
+
+    List<PointHistory> findAllByUserId(long userId);
+
+    //조건에 맞는 내역을 id 순서대로 하나씩 꺼내 볼 수 있는 스트림 (필요한 만큼만 읽는다)
+    default Stream<PointHistory> streamByUserId(long userId, PointHistoryQuery query) {
+        return findAllByUserId(userId).stream().filter(query::matches);
+    }
+
+    //유저의 충전/사용 합계, 기본 구현은 전체 내역을 훑어 계산
+    default PointSummary summarize(long userId) {
+        return PointSummary.of(userId, findAllByUserId(userId));
+    }
+
+    //복구용 : 이미 저장되었던 내역을 원본 테이블을 거치지 않고 조회용 저장소에만 다시 적재 (조회용 저장소가 없으면 무시)
+    default void restore(PointHistory pointHistory) {
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({WriteBehindProperties.class, LatencyProperties.class,
+        PointHistoryStoreProperties.class})
+public class PointHistoryRepositoryConfig {
+
+    @Bean
+    public PointHistoryRepository pointHistoryRepository(PointHistoryTable pointHistoryTable,
+                                                         WriteBehindProperties writeBehindProperties,
+                                                         LatencyProperties latencyProperties,
+                                                         PointHistoryStoreProperties pointHistoryStoreProperties,
+                                                         MeterRegistry meterRegistry) {
+        //조회는 PointHistoryTable 전체를 훑지 않도록 유저별 인덱스에서 처리 (point.history.store.type 에 따라 객체 또는 열 단위 보관)
+        //point.latency.mode=simulated 이면 테이블 대신 설정한 지연을 흉내 내는 메모리 저장소
+        PointHistoryRepository repository = new IndexedPointHistoryRepository(
+                new TimedPointHistoryRepository(latencyProperties.pointHistoryRepository(pointHistoryTable), meterRegistry),
+                pointHistoryStoreProperties.type());
+        if (!writeBehindProperties.enabled()) return repository;
+
+        //비동기 저장 사용 시 기본 저장소 앞에 write-behind 저장소를 둔다. (종료 시 close 로 남은 내역 저장)
+        return new WriteBehindPointHistoryRepository(
+                repository, writeBehindProperties.capacity(), writeBehindProperties.batchSize());
+    }
+}
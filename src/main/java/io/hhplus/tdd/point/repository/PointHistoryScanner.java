@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.stream.Stream;
+
+/**
+ * 전체 유저의 내역을 훑을 수 있는 포인트 내역 저장소 (대사용)
+ * - 유저 단위로 나눠 병렬로 읽을 수 있어야 하므로 조회용 인덱스가 있는 저장소만 구현한다. (IndexedPointHistoryRepository)
+ */
+public interface PointHistoryScanner extends PointHistoryRepository {
+
+    //전체 유저의 내역
+    Stream<PointHistory> streamAll();
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 내역 조회용 저장소 설정
+ *
+ * @param type OBJECT : 유저별 로그에 PointHistory 객체를 그대로 보관 (기본값)
+ *             COLUMNAR : 유저별 로그를 열 단위 원시 배열 청크로 보관하고 가득 찬 청크는 압축 (조회 시에만 객체 생성)
+ *             PointHistoryTable 은 자체 목록을 따로 가지므로 힙 절감은 point.latency.mode=simulated 에서 온전히 드러난다.
+ */
+@ConfigurationProperties(prefix = "point.history.store")
+public record PointHistoryStoreProperties(
+        @DefaultValue("OBJECT") Type type
+) {
+
+    public enum Type {
+        OBJECT, COLUMNAR
+    }
+}
@@ -0,0 +1,53 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * PointHistoryTable 에 바로 저장/조회하는 기본 저장소
+ * - 테이블은 id 증가와 목록 추가가 동기화되어 있지 않아 동시에 저장하면 id 가 중복되거나 목록이 깨진다.
+ *   테이블을 감싼 저장소가 여럿이어도 서로 배제되도록 테이블마다 하나의 락으로 한 번에 하나씩 저장/조회
+ * - 락은 테이블 지연(0~300ms) 동안 유지되므로 모든 유저의 내역 저장이 이 테이블에서 순차 처리된다.
+ *   (유저 락으로 병렬 처리되는 것은 잔고 조회/저장뿐이다.)
+ *   요청 스레드에서 빼려면 write-behind, 병렬 저장이 필요하면 point.latency.mode=simulated 의 메모리 저장소를 사용
+ * - synchronized 대신 ReentrantLock 을 사용해 가상 스레드가 지연 동안 락을 쥐거나 기다려도 캐리어 스레드를 점유(pinning)하지 않는다.
+ */
+public class PointHistoryTableRepository implements PointHistoryRepository {
+
+    //테이블 객체 기준 (테이블이 사라지면 락도 정리)
+    private static final Map<PointHistoryTable, ReentrantLock> TABLE_LOCKS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
+    private final PointHistoryTable pointHistoryTable;
+    private final ReentrantLock lock;
+
+    public PointHistoryTableRepository(PointHistoryTable pointHistoryTable) {
+        this.pointHistoryTable = pointHistoryTable;
+        this.lock = TABLE_LOCKS.computeIfAbsent(pointHistoryTable, table -> new ReentrantLock());
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        lock.lock();
+        try {
+            return pointHistoryTable.insert(userId, amount, type, updateMillis);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        lock.lock();
+        try {
+            return pointHistoryTable.selectAllByUserId(userId);
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * 내역 없이 적재된 잔고 (기초 잔고)
+ * - UserPointTable 의 초기 데이터(유저 1 : 100 포인트, 유저 2 : 50 포인트)와 내역 없이 저널에서 복구한 잔고
+ * - 내역은 기초 잔고 이후의 변경만 담으므로 유저의 잔고는 기초 잔고 + 내역 합계와 같아야 한다. (대사 기준)
+ */
+public class PointOpeningBalances {
+
+    //UserPointTable 의 초기 데이터 (메모리 저장소도 같은 데이터로 시작)
+    public static final Map<Long, Long> INITIAL_POINTS = Map.of(1L, 100L, 2L, 50L);
+
+    private final ConcurrentHashMap<Long, Long> balances = new ConcurrentHashMap<>(INITIAL_POINTS);
+
+    public long get(long userId) {
+        return balances.getOrDefault(userId, 0L);
+    }
+
+    //복구한 잔고는 그 이전의 기초 잔고와 내역을 모두 반영한 값이므로 기존 기초 잔고를 대신한다.
+    public void put(long userId, long point) {
+        balances.put(userId, point);
+    }
+
+    public LongStream userIds() {
+        return balances.keySet().stream().mapToLong(Long::longValue);
+    }
+}
@@ -0,0 +1,45 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.List;
+
+/**
+ * 유저의 포인트 충전/사용 요약
+ *
+ * @param totalCharged       충전 합계
+ * @param totalUsed          사용 합계
+ * @param totalExpired       유효기간이 지나 소멸한 합계
+ * @param transactionCount   충전/사용/소멸 내역 수
+ * @param lastActivityMillis 마지막 내역의 시각 (내역이 없으면 0)
+ */
+public record PointSummary(
+        long userId,
+        long totalCharged,
+        long totalUsed,
+        long totalExpired,
+        long transactionCount,
+        long lastActivityMillis
+) {
+
+    //소멸 내역이 없는 요약
+    public PointSummary(long userId, long totalCharged, long totalUsed, long transactionCount, long lastActivityMillis) {
+        this(userId, totalCharged, totalUsed, 0L, transactionCount, lastActivityMillis);
+    }
+
+    public static PointSummary empty(long userId) {
+        return new PointSummary(userId, 0L, 0L, 0L, 0L);
+    }
+
+    //내역 목록을 훑어 계산
+    public static PointSummary of(long userId, List<PointHistory> histories) {
+        long totalCharged = 0L, totalUsed = 0L, totalExpired = 0L, lastActivityMillis = 0L;
+        for (PointHistory history : histories) {
+            switch (history.type()) {
+                case CHARGE -> totalCharged += history.amount();
+                case USE -> totalUsed += history.amount();
+                case EXPIRE -> totalExpired += history.amount();
+            }
+            lastActivityMillis = Math.max(lastActivityMillis, history.updateMillis());
+        }
+        return new PointSummary(userId, totalCharged, totalUsed, totalExpired, histories.size(), lastActivityMillis);
+    }
+}
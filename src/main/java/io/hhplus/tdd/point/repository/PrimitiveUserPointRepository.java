@@ -0,0 +1,269 @@
+package io.hhplus.tdd.point.repository;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.LongUnaryOperator;
+import java.util.stream.LongStream;
+
+/**
+ * 유저별 포인트를 long 배열에 보관하는 메모리 저장소 (UserPointTable 대체)
+ * - 유저마다 객체(Long 키, UserPoint, Map 노드)를 만들지 않고 open addressing 배열의 한 칸(slot)에 long 4개로 저장
+ *   slot = [userId, version, point, updateMillis]
+ * - UserPoint 는 조회/저장 결과를 돌려줄 때만 만든다.
+ * - slot 갱신은 읽은 version 이 그대로일 때만 CAS 로 홀수로 바꾼 뒤 값을 쓰고 짝수로 되돌린다. (slot 단위 seqlock)
+ *   CAS 에 실패하면 다시 읽어 계산하므로 경합이 없으면 CAS 한 번으로 끝난다.
+ *   조회는 락 없이 읽고 읽는 사이 version 이 바뀌었으면 다시 읽는다.
+ * - 유저 id 의 해시로 나눈 세그먼트마다 배열을 따로 두고, 가득 차면 해당 세그먼트만 두 배로 늘린다.
+ *   갱신은 세그먼트의 읽기 락(공유), 확장은 쓰기 락(배타)으로 서로 배제한다.
+ * - 저장 지연이 없으므로 UserPointTable 의 지연을 흉내 내지 않는 메모리 배포용
+ * - UserPointTable 과 같이 유저 1(100 포인트), 유저 2(50 포인트)를 저장한 상태로 시작
+ */
+public class PrimitiveUserPointRepository implements AtomicUserPointRepository {
+
+    private static final VarHandle SLOTS = MethodHandles.arrayElementVarHandle(long[].class);
+    private static final long EMPTY = Long.MIN_VALUE; //비어 있는 slot 의 userId
+    private static final int STRIDE = 4;
+    private static final int KEY = 0, VERSION = 1, POINT = 2, UPDATE_MILLIS = 3;
+    private static final int SEGMENTS = 64;
+    private static final int MIN_SEGMENT_CAPACITY = 16;
+    private static final double LOAD_FACTOR = 0.75;
+    private static final int SPIN_LIMIT = 16;
+    private static final int FULL = Integer.MIN_VALUE; //claim 결과 : 빈 slot 없음 (~위치 값과 겹치지 않는다)
+
+    private final Segment[] segments = new Segment[SEGMENTS];
+
+    //expectedUsers 만큼은 확장 없이 저장할 수 있도록 미리 할당
+    public PrimitiveUserPointRepository(int expectedUsers) {
+        int capacity = MIN_SEGMENT_CAPACITY;
+        while (capacity * LOAD_FACTOR < (double) expectedUsers / SEGMENTS) {
+            capacity <<= 1;
+        }
+        for (int i = 0; i < SEGMENTS; i++) {
+            segments[i] = new Segment(capacity);
+        }
+        //UserPointTable 과 같은 초기 데이터
+        PointOpeningBalances.INITIAL_POINTS.forEach(this::save);
+    }
+
+    @Override
+    public UserPoint findById(long id) {
+        long[] value = new long[2];
+        if (!segmentOf(id).read(id, hash(id), value)) return UserPoint.empty(id);
+        return new UserPoint(id, value[0], value[1]);
+    }
+
+    @Override
+    public UserPoint save(long id, long point) {
+        long updateMillis = System.currentTimeMillis();
+        segmentOf(id).update(id, hash(id), current -> point, updateMillis);
+        return new UserPoint(id, point, updateMillis);
+    }
+
+    /**
+     * 현재 포인트에 operator 를 적용한 결과를 slot 단위로 원자적으로 저장 (없는 유저는 0 포인트에서 시작)
+     * - operator 가 예외를 던지면 저장하지 않고 예외를 그대로 전달
+     * - 경합 시 operator 가 여러 번 호출될 수 있으므로 부수 효과가 없어야 한다.
+     */
+    @Override
+    public UserPoint update(long id, LongUnaryOperator operator) {
+        long updateMillis = System.currentTimeMillis();
+        long point = segmentOf(id).update(id, hash(id), operator, updateMillis);
+        return new UserPoint(id, point, updateMillis);
+    }
+
+    //세그먼트마다 읽기 락을 잡고 저장이 끝난 slot 의 유저 id 를 모은다.
+    @Override
+    public LongStream userIds() {
+        LongStream.Builder ids = LongStream.builder();
+        for (Segment segment : segments) {
+            segment.collectIds(ids);
+        }
+        return ids.build();
+    }
+
+    //저장된 유저 수
+    public long size() {
+        long size = 0L;
+        for (Segment segment : segments) {
+            size += segment.size.get();
+        }
+        return size;
+    }
+
+    private Segment segmentOf(long id) {
+        if (id == EMPTY) throw new IllegalArgumentException("사용할 수 없는 유저 id 입니다. : " + id);
+        return segments[(int) (hash(id) >>> 58)]; //상위 6비트로 세그먼트, 하위 비트로 slot 선택
+    }
+
+    private static long hash(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return h ^ (h >>> 29);
+    }
+
+    private static final class Segment {
+
+        private final StampedLock resizeLock = new StampedLock();
+        private final AtomicInteger size = new AtomicInteger();
+        private volatile long[] slots;
+
+        private Segment(int capacity) {
+            this.slots = emptySlots(capacity);
+        }
+
+        //value[0] = point, value[1] = updateMillis, 저장된 적 없는 유저면 false
+        private boolean read(long id, long hash, long[] value) {
+            long stamp = resizeLock.tryOptimisticRead();
+            boolean found = readSlots(slots, id, hash, value);
+            if (resizeLock.validate(stamp)) return found;
+
+            //확장 중이었다면 확장이 끝난 뒤 다시 읽는다.
+            stamp = resizeLock.readLock();
+            try {
+                return readSlots(slots, id, hash, value);
+            } finally {
+                resizeLock.unlockRead(stamp);
+            }
+        }
+
+        private long update(long id, long hash, LongUnaryOperator operator, long updateMillis) {
+            for (; ; ) {
+                int base;
+                long point = 0L;
+                boolean grow;
+                long stamp = resizeLock.readLock();
+                try {
+                    long[] current = slots;
+                    base = claim(current, id, hash);
+                    grow = base == FULL
+                            || base < 0 && size.incrementAndGet() > current.length / STRIDE * LOAD_FACTOR;
+                    if (base != FULL) point = writeSlot(current, base < 0 ? ~base : base, operator, updateMillis);
+                } finally {
+                    resizeLock.unlockRead(stamp);
+                }
+                //확장은 읽기 락을 놓은 뒤에 하고, 빈 slot 이 없어 저장하지 못했다면 확장 후 다시 저장
+                if (grow) resize(base == FULL);
+                if (base != FULL) return point;
+            }
+        }
+
+        private void collectIds(LongStream.Builder ids) {
+            long stamp = resizeLock.readLock();
+            try {
+                long[] current = slots;
+                for (int base = 0; base < current.length; base += STRIDE) {
+                    long key = (long) SLOTS.getAcquire(current, base + KEY);
+                    if (key != EMPTY && (long) SLOTS.getAcquire(current, base + VERSION) != 0L) ids.add(key);
+                }
+            } finally {
+                resizeLock.unlockRead(stamp);
+            }
+        }
+
+        private static boolean readSlots(long[] slots, long id, long hash, long[] value) {
+            int capacity = slots.length / STRIDE;
+            int index = (int) hash & (capacity - 1);
+            for (int probe = 0; probe < capacity; probe++, index = (index + 1) & (capacity - 1)) {
+                int base = index * STRIDE;
+                long key = (long) SLOTS.getAcquire(slots, base + KEY);
+                if (key == EMPTY) return false;
+                if (key != id) continue;
+                for (; ; ) {
+                    long version = (long) SLOTS.getAcquire(slots, base + VERSION);
+                    if (version == 0L) return false; //자리만 잡고 아직 저장 전
+                    if ((version & 1L) == 1L) {
+                        Thread.onSpinWait();
+                        continue;
+                    }
+                    long point = (long) SLOTS.getOpaque(slots, base + POINT);
+                    long updateMillis = (long) SLOTS.getOpaque(slots, base + UPDATE_MILLIS);
+                    VarHandle.loadLoadFence();
+                    if ((long) SLOTS.getOpaque(slots, base + VERSION) != version) continue;
+                    value[0] = point;
+                    value[1] = updateMillis;
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        //유저의 slot 위치를 찾고, 없으면 빈 slot 을 CAS 로 차지 (새로 차지했으면 ~위치, 빈 slot 이 없으면 FULL 반환)
+        private static int claim(long[] slots, long id, long hash) {
+            int capacity = slots.length / STRIDE;
+            int index = (int) hash & (capacity - 1);
+            for (int probe = 0; probe < capacity; ) {
+                int base = index * STRIDE;
+                long key = (long) SLOTS.getAcquire(slots, base + KEY);
+                if (key == id) return base;
+                if (key == EMPTY) {
+                    if (SLOTS.compareAndSet(slots, base + KEY, EMPTY, id)) return ~base;
+                    continue; //다른 스레드가 먼저 차지했으므로 같은 slot 을 다시 확인
+                }
+                probe++;
+                index = (index + 1) & (capacity - 1);
+            }
+            return FULL;
+        }
+
+        //읽은 version 그대로일 때만 CAS 로 홀수로 바꾸고 값을 쓴 뒤 짝수로 되돌린다. (다른 스레드가 먼저 바꿨으면 다시 계산)
+        private static long writeSlot(long[] slots, int base, LongUnaryOperator operator, long updateMillis) {
+            for (int attempt = 0; ; attempt++) {
+                long version = (long) SLOTS.getAcquire(slots, base + VERSION);
+                if ((version & 1L) == 0L) {
+                    long current = version == 0L ? 0L : (long) SLOTS.getOpaque(slots, base + POINT);
+                    long point = operator.applyAsLong(current);
+                    if (SLOTS.compareAndSet(slots, base + VERSION, version, version + 1L)) {
+                        SLOTS.setOpaque(slots, base + POINT, point);
+                        SLOTS.setOpaque(slots, base + UPDATE_MILLIS, updateMillis);
+                        SLOTS.setRelease(slots, base + VERSION, version + 2L);
+                        return point;
+                    }
+                }
+                //경합이 길어지면 바쁜 대기 대신 다른 스레드에 양보
+                if (attempt < SPIN_LIMIT) Thread.onSpinWait();
+                else Thread.yield();
+            }
+        }
+
+        //쓰기 락을 잡으면 진행 중인 갱신이 없으므로 slot 을 그대로 옮긴다.
+        private void resize(boolean full) {
+            long stamp = resizeLock.writeLock();
+            try {
+                long[] current = slots;
+                int capacity = current.length / STRIDE;
+                if (size.get() <= capacity * LOAD_FACTOR && !(full && isFull(current))) return;
+
+                long[] resized = emptySlots(capacity * 2);
+                int mask = capacity * 2 - 1;
+                for (int base = 0; base < current.length; base += STRIDE) {
+                    long key = current[base + KEY];
+                    if (key == EMPTY) continue;
+                    int index = (int) hash(key) & mask;
+                    while (resized[index * STRIDE + KEY] != EMPTY) {
+                        index = (index + 1) & mask;
+                    }
+                    System.arraycopy(current, base, resized, index * STRIDE, STRIDE);
+                }
+                slots = resized;
+            } finally {
+                resizeLock.unlockWrite(stamp);
+            }
+        }
+
+        private static boolean isFull(long[] slots) {
+            for (int base = 0; base < slots.length; base += STRIDE) {
+                if (slots[base + KEY] == EMPTY) return false;
+            }
+            return true;
+        }
+
+        private static long[] emptySlots(int capacity) {
+            long[] slots = new long[capacity * STRIDE];
+            for (int base = 0; base < slots.length; base += STRIDE) {
+                slots[base + KEY] = EMPTY;
+            }
+            return slots;
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * PointHistoryTable 대신 쓰는 메모리 저장소 (point.latency.mode=simulated)
+ * - 테이블에 고정된 지연 대신 설정한 LatencyProfile 만큼 대기
+ * - 저장(id 부여)만 담당하고 조회는 앞단의 IndexedPointHistoryRepository 가 처리한다.
+ */
+public class SimulatedPointHistoryRepository implements PointHistoryRepository {
+
+    private final AtomicLong cursor = new AtomicLong();
+    private final LatencyProfile insertLatency;
+
+    public SimulatedPointHistoryRepository(LatencyProfile insertLatency) {
+        this.insertLatency = insertLatency;
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        insertLatency.pause();
+        return new PointHistory(cursor.incrementAndGet(), userId, amount, type, updateMillis);
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        return List.of();
+    }
+}
@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * UserPointTable 대신 쓰는 메모리 저장소 (point.latency.mode=simulated)
+ * - 테이블에 고정된 지연 대신 설정한 LatencyProfile 만큼 대기
+ * - UserPointTable 과 같이 유저 1(100 포인트), 유저 2(50 포인트)를 저장한 상태로 시작
+ */
+public class SimulatedUserPointRepository implements UserPointRepository {
+
+    private final ConcurrentHashMap<Long, UserPoint> table = new ConcurrentHashMap<>();
+    private final LatencyProfile selectLatency;
+    private final LatencyProfile saveLatency;
+
+    public SimulatedUserPointRepository(LatencyProfile selectLatency, LatencyProfile saveLatency) {
+        this.selectLatency = selectLatency;
+        this.saveLatency = saveLatency;
+        //UserPointTable 과 같은 초기 데이터
+        PointOpeningBalances.INITIAL_POINTS.forEach((id, point) ->
+                table.put(id, new UserPoint(id, point, System.currentTimeMillis())));
+    }
+
+    @Override
+    public UserPoint findById(long id) {
+        selectLatency.pause();
+        return table.getOrDefault(id, UserPoint.empty(id));
+    }
+
+    @Override
+    public UserPoint save(long id, long point) {
+        saveLatency.pause();
+        UserPoint userPoint = new UserPoint(id, point, System.currentTimeMillis());
+        table.put(id, userPoint);
+        return userPoint;
+    }
+
+    @Override
+    public void restore(long id, long point) {
+        table.put(id, new UserPoint(id, point, System.currentTimeMillis()));
+    }
+
+    @Override
+    public LongStream userIds() {
+        return table.keySet().stream().mapToLong(Long::longValue);
+    }
+}
@@ -0,0 +1,18 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+final class TableTimers {
+
+    private TableTimers() {
+    }
+
+    static Timer of(MeterRegistry meterRegistry, String table, String operation) {
+        return Timer.builder("point.table")
+                .tag("table", table)
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,26 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * 원자적 갱신을 지원하는 저장소의 호출 시간 측정 (point.table, table=user_point, operation=update 추가)
+ */
+public class TimedAtomicUserPointRepository extends TimedUserPointRepository implements AtomicUserPointRepository {
+
+    private final AtomicUserPointRepository delegate;
+    private final Timer updateTimer;
+
+    public TimedAtomicUserPointRepository(AtomicUserPointRepository delegate, MeterRegistry meterRegistry) {
+        super(delegate, meterRegistry);
+        this.delegate = delegate;
+        this.updateTimer = TableTimers.of(meterRegistry, "user_point", "update");
+    }
+
+    @Override
+    public UserPoint update(long id, LongUnaryOperator operator) {
+        return updateTimer.record(() -> delegate.update(id, operator));
+    }
+}
@@ -0,0 +1,32 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+
+/**
+ * PointHistoryTable 호출 시간 측정 (point.table, table=point_history)
+ */
+public class TimedPointHistoryRepository implements PointHistoryRepository {
+
+    private final PointHistoryRepository delegate;
+    private final Timer insertTimer;
+    private final Timer selectTimer;
+
+    public TimedPointHistoryRepository(PointHistoryRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.insertTimer = TableTimers.of(meterRegistry, "point_history", "insert");
+        this.selectTimer = TableTimers.of(meterRegistry, "point_history", "select");
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        return insertTimer.record(() -> delegate.save(userId, amount, type, updateMillis));
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        return selectTimer.record(() -> delegate.findAllByUserId(userId));
+    }
+}
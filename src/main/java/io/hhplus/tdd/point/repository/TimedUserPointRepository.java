@@ -0,0 +1,43 @@
+package io.hhplus.tdd.point.repository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.stream.LongStream;
+
+/**
+ * UserPointTable 호출 시간 측정 (point.table, table=user_point)
+ * - 락/큐 대기 시간과 분리해서 보기 위해 원본 저장소 바로 앞에 둔다.
+ */
+public class TimedUserPointRepository implements UserPointRepository {
+
+    private final UserPointRepository delegate;
+    private final Timer selectTimer;
+    private final Timer saveTimer;
+
+    public TimedUserPointRepository(UserPointRepository delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.selectTimer = TableTimers.of(meterRegistry, "user_point", "select");
+        this.saveTimer = TableTimers.of(meterRegistry, "user_point", "insert_or_update");
+    }
+
+    @Override
+    public UserPoint findById(long id) {
+        return selectTimer.record(() -> delegate.findById(id));
+    }
+
+    @Override
+    public UserPoint save(long id, long point) {
+        return saveTimer.record(() -> delegate.save(id, point));
+    }
+
+    @Override
+    public void restore(long id, long point) {
+        delegate.restore(id, point);
+    }
+
+    @Override
+    public LongStream userIds() {
+        return delegate.userIds();
+    }
+}
@@ -5,7 +5,8 @@ package io.hhplus.tdd.point.repository;
  * 포인트 트랜잭션 종류
  * - CHARGE : 충전
  * - USE : 사용
+ * - EXPIRE : 유효기간이 지나 소멸 (저널은 ordinal 로 기록하므로 뒤에만 추가)
  */
 public enum TransactionType {
-    CHARGE, USE
+    CHARGE, USE, EXPIRE
 }
\ No newline at end of file
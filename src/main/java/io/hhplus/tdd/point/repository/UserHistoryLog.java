@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * IndexedPointHistoryRepository 가 유저마다 두는 내역 로그
+ * - 추가는 유저 단위로 순서대로, 조회는 추가와 동시에 호출될 수 있다.
+ * - PointHistoryLog : PointHistory 객체를 그대로 보관
+ * - ColumnarPointHistoryLog : 열(column) 단위 원시 배열에 보관하고 가득 찬 청크는 압축
+ */
+interface UserHistoryLog {
+
+    void append(PointHistory history);
+
+    PointSummary summary(long userId);
+
+    int size();
+
+    List<PointHistory> snapshot();
+
+    //id 가 afterId 보다 큰 내역부터 조회 시점의 마지막 내역까지
+    Stream<PointHistory> streamAfter(long afterId);
+}
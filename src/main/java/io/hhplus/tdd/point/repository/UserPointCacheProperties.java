@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 포인트 조회 캐시 설정
+ *
+ * @param enabled     캐시 사용 여부
+ * @param maximumSize 캐시에 보관하는 최대 유저 수
+ */
+@ConfigurationProperties(prefix = "point.cache")
+public record UserPointCacheProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("100000") long maximumSize
+) {
+}
@@ -0,0 +1,24 @@
+package io.hhplus.tdd.point.repository;
+
+import java.util.stream.LongStream;
+
+/**
+ * 유저 포인트 저장소
+ * - PointService 는 UserPointTable 의 조회/저장 대신 이 인터페이스를 사용한다.
+ * - 충전/사용 금액 검증(chargeAmount/useAmount)은 UserPointTable 을 그대로 사용한다.
+ * - 원자적 갱신(CAS)을 지원하는 저장소는 AtomicUserPointRepository 를 구현한다.
+ */
+public interface UserPointRepository {
+
+    UserPoint findById(long id);
+
+    UserPoint save(long id, long point);
+
+    //복구용 : 저널 등에 남아 있던 잔고를 적재 (시작 시 한 스레드에서 호출), 저장 지연이 있는 저장소는 지연 없이 적재한다.
+    default void restore(long id, long point) {
+        save(id, point);
+    }
+
+    //대사용 : 잔고가 저장된 적 있는 유저 id (초기 데이터와 복구한 잔고 포함)
+    LongStream userIds();
+}
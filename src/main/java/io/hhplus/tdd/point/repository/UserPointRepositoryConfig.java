@@ -0,0 +1,41 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableConfigurationProperties({UserPointCacheProperties.class, UserPointStoreProperties.class, LatencyProperties.class})
+public class UserPointRepositoryConfig {
+
+    @Bean
+    public UserPointRepository userPointRepository(UserPointTable userPointTable,
+                                                   UserPointCacheProperties userPointCacheProperties,
+                                                   UserPointStoreProperties userPointStoreProperties,
+                                                   LatencyProperties latencyProperties,
+                                                   MeterRegistry meterRegistry) {
+        if (userPointStoreProperties.type() == UserPointStoreProperties.Type.PRIMITIVE) {
+            //배열 저장소는 조회가 캐시 조회만큼 가벼우므로 캐시를 두지 않는다.
+            return new TimedAtomicUserPointRepository(
+                    new PrimitiveUserPointRepository(userPointStoreProperties.expectedUsers()), meterRegistry);
+        }
+
+        //point.latency.mode=simulated 이면 테이블 대신 설정한 지연을 흉내 내는 메모리 저장소
+        UserPointRepository repository = new TimedUserPointRepository(
+                latencyProperties.userPointRepository(userPointTable), meterRegistry);
+        if (!userPointCacheProperties.enabled()) return repository;
+
+        //조회가 쓰기보다 훨씬 많으므로 조회 캐시를 앞에 둔다.
+        CachedUserPointRepository cached = new CachedUserPointRepository(repository, userPointCacheProperties.maximumSize());
+        cached.bindTo(meterRegistry);
+        return cached;
+    }
+
+    //초기 데이터로 시작하고, 저널에서 내역 없이 복구한 잔고가 더해진다. (대사 기준)
+    @Bean
+    public PointOpeningBalances pointOpeningBalances() {
+        return new PointOpeningBalances();
+    }
+}
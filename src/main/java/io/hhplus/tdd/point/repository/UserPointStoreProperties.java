@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 유저 포인트 저장소 설정
+ *
+ * @param type          TABLE : UserPointTable 에 저장 (기본값)
+ *                      PRIMITIVE : 지연 없는 long 배열 저장소에 저장 (메모리 배포용, 조회 캐시를 두지 않는다.)
+ * @param expectedUsers PRIMITIVE 저장소가 확장 없이 저장할 수 있도록 미리 할당할 유저 수
+ */
+@ConfigurationProperties(prefix = "point.store")
+public record UserPointStoreProperties(
+        @DefaultValue("TABLE") Type type,
+        @DefaultValue("100000") int expectedUsers
+) {
+
+    public enum Type {
+        TABLE, PRIMITIVE
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.UserPointTable;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.LongStream;
+
+/**
+ * UserPointTable 에 바로 저장/조회하는 기본 저장소
+ * - 복구(restore)한 잔고는 테이블에 한 건씩 넣으면 테이블 지연만큼 시작이 늦어지므로
+ *   유저의 첫 저장 전까지 따로 보관하고 조회에 사용한다.
+ * - 테이블은 저장된 유저 목록을 제공하지 않으므로 초기 데이터와 이 저장소로 저장/복구한 유저 id 를 따로 모은다. (대사용)
+ */
+public class UserPointTableRepository implements UserPointRepository {
+
+    private final UserPointTable userPointTable;
+    private final ConcurrentHashMap<Long, UserPoint> restored = new ConcurrentHashMap<>();
+    private final Set<Long> userIds = ConcurrentHashMap.newKeySet();
+
+    public UserPointTableRepository(UserPointTable userPointTable) {
+        this.userPointTable = userPointTable;
+        this.userIds.addAll(PointOpeningBalances.INITIAL_POINTS.keySet());
+    }
+
+    @Override
+    public UserPoint findById(long id) {
+        if (!restored.isEmpty()) {
+            UserPoint userPoint = restored.get(id);
+            if (userPoint != null) return userPoint;
+        }
+        return userPointTable.selectById(id);
+    }
+
+    //테이블에 저장한 뒤 보관하던 잔고를 지우므로 그 사이 조회는 저장 전 잔고를 본다.
+    @Override
+    public UserPoint save(long id, long point) {
+        UserPoint userPoint = userPointTable.insertOrUpdate(id, point);
+        userIds.add(id);
+        if (!restored.isEmpty()) restored.remove(id);
+        return userPoint;
+    }
+
+    @Override
+    public void restore(long id, long point) {
+        restored.put(id, new UserPoint(id, point, System.currentTimeMillis()));
+        userIds.add(id);
+    }
+
+    @Override
+    public LongStream userIds() {
+        return userIds.stream().mapToLong(Long::longValue);
+    }
+}
@@ -0,0 +1,222 @@
+package io.hhplus.tdd.point.repository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 내역을 요청 스레드가 아닌 별도 저장 스레드에서 모아서 저장하는 저장소 (write-behind)
+ * - 요청 스레드는 대기 큐에 넣고 바로 반환, 큐가 가득 차면 빈 자리가 생길 때까지 대기 (backpressure)
+ * - 저장 스레드는 큐에서 batchSize 만큼 꺼내 순서대로 저장
+ * - 아직 저장되지 않은 내역도 전체 조회(findAllByUserId) 결과에 포함 (read-your-writes), 저장 전이라 id 는 0
+ *   조건/커서 조회(streamByUserId)는 id 가 있어야 다음 페이지 커서가 되므로 저장이 끝난 내역만 내려준다.
+ * - close 시 큐에 남은 내역을 모두 저장한 뒤 종료, 종료 표시와 큐 추가는 락으로 배제해 종료 후 큐에 남는 내역이 없다.
+ * - 저장에 실패한 내역은 순서를 지키기 위해 그 자리에서 간격을 늘려가며 다시 저장 (그동안 큐가 차면 요청 스레드가 대기)
+ *   종료 중에는 CLOSE_ATTEMPTS 번까지만 시도하고, 끝내 저장하지 못한 내역이 있으면 close 가 예외로 알린다.
+ */
+public class WriteBehindPointHistoryRepository implements PointHistoryRepository, AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBehindPointHistoryRepository.class);
+    private static final long POLL_TIMEOUT_MILLIS = 100L;
+    private static final long MIN_RETRY_MILLIS = 10L;
+    private static final long MAX_RETRY_MILLIS = 1_000L;
+    private static final int CLOSE_ATTEMPTS = 3;
+
+    private final PointHistoryRepository delegate;
+    private final BlockingQueue<Pending> queue;
+    private final int batchSize;
+    //유저별 저장 대기 중인 내역 (조회 시 병합용)
+    private final ConcurrentHashMap<Long, Queue<Pending>> pendingByUser = new ConcurrentHashMap<>();
+    private final Thread drainThread;
+    //save 는 읽기 락, close 는 쓰기 락 : 종료 표시 이후에는 큐에 추가되지 않는다.
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean running = true;
+    private final List<PointHistory> unsaved = new CopyOnWriteArrayList<>(); //종료 중 끝내 저장하지 못한 내역
+
+    public WriteBehindPointHistoryRepository(PointHistoryRepository delegate, int capacity, int batchSize) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(capacity);
+        this.batchSize = batchSize;
+        this.drainThread = new Thread(this::drainLoop, "point-history-writer");
+        this.drainThread.setDaemon(true);
+        this.drainThread.start();
+    }
+
+    @Override
+    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+        closeLock.readLock().lock();
+        try {
+            //종료 이후 들어온 내역은 바로 저장
+            if (!running) return delegate.save(userId, amount, type, updateMillis);
+            return enqueue(userId, amount, type, updateMillis);
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    private PointHistory enqueue(long userId, long amount, TransactionType type, long updateMillis) {
+        Pending pending = new Pending(new PointHistory(0L, userId, amount, type, updateMillis));
+        //removePending 과 경합해도 유실되지 않도록 compute 안에서 추가
+        pendingByUser.compute(userId, (id, pendings) -> {
+            if (pendings == null) pendings = new ConcurrentLinkedQueue<>();
+            pendings.add(pending);
+            return pendings;
+        });
+        try {
+            queue.put(pending);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            removePending(pending);
+            throw new IllegalStateException("포인트 내역 저장 대기 중 인터럽트가 발생했습니다.", e);
+        }
+        return pending.history;
+    }
+
+    @Override
+    public List<PointHistory> findAllByUserId(long userId) {
+        //대기 내역을 먼저 읽어야 그 사이 저장된 내역이 양쪽에서 모두 빠지는 일이 없다.
+        Queue<Pending> pendingQueue = pendingByUser.get(userId);
+        List<Pending> pendings = pendingQueue == null ? List.of() : List.copyOf(pendingQueue);
+        List<PointHistory> saved = delegate.findAllByUserId(userId);
+        if (pendings.isEmpty()) return saved;
+
+        //읽는 사이에 저장이 끝나 양쪽에 모두 있는 내역은 저장된 쪽만 사용
+        Set<Long> savedIds = saved.stream().map(PointHistory::id).collect(Collectors.toSet());
+        Stream<PointHistory> notYetSaved = pendings.stream()
+                .filter(pending -> !savedIds.contains(pending.savedId))
+                .map(Pending::current);
+        return Stream.concat(saved.stream(), notYetSaved)
+                .sorted(Comparator.comparingLong(PointHistory::updateMillis))
+                .toList();
+    }
+
+    //커서(after)는 저장 시 부여된 id 기준이므로 id 가 없는 대기 내역은 포함하지 않는다. (저장된 뒤 다음 페이지부터 조회)
+    //대기 내역을 섞으면 limit 으로 자른 페이지의 마지막 id 가 0 이 되어 처음부터 다시 조회하게 된다.
+    @Override
+    public Stream<PointHistory> streamByUserId(long userId, PointHistoryQuery query) {
+        return delegate.streamByUserId(userId, query);
+    }
+
+    //요약은 저장이 끝난 내역 기준 (저장 대기 중인 내역은 저장된 뒤 반영)
+    @Override
+    public PointSummary summarize(long userId) {
+        return delegate.summarize(userId);
+    }
+
+    @Override
+    public void restore(PointHistory pointHistory) {
+        delegate.restore(pointHistory);
+    }
+
+    //저장 대기 중인 내역 수
+    public int pendingCount() {
+        return queue.size();
+    }
+
+    //종료 중 끝내 저장하지 못한 내역 (조회 결과에는 id 0 으로 계속 포함된다)
+    public List<PointHistory> unsaved() {
+        return List.copyOf(unsaved);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        closeLock.writeLock().lock();
+        try {
+            running = false;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        drainThread.join();
+        if (!unsaved.isEmpty()) {
+            throw new IllegalStateException("저장하지 못한 포인트 내역이 " + unsaved.size() + "건 있습니다.");
+        }
+    }
+
+    private void drainLoop() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                Pending first = queue.poll(POLL_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+                queue.drainTo(batch, batchSize - 1);
+                flush(batch);
+            } catch (InterruptedException e) {
+                //종료는 running 플래그로 제어하므로 남은 내역을 계속 저장한다.
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        for (Pending pending : batch) {
+            if (saveWithRetry(pending)) {
+                removePending(pending);
+            } else {
+                unsaved.add(pending.history);
+            }
+        }
+    }
+
+    //저장될 때까지 간격을 두 배씩 늘려가며 다시 시도 (종료 중에는 CLOSE_ATTEMPTS 번까지)
+    private boolean saveWithRetry(Pending pending) {
+        PointHistory history = pending.history;
+        long backoffMillis = MIN_RETRY_MILLIS;
+        for (int attempt = 1; ; attempt++) {
+            try {
+                pending.savedId = delegate.save(history.userId(), history.amount(), history.type(), history.updateMillis()).id();
+                return true;
+            } catch (RuntimeException e) {
+                if (!running && attempt >= CLOSE_ATTEMPTS) {
+                    log.error("포인트 내역 저장 실패, 재시도 중단 : {}", history, e);
+                    return false;
+                }
+                if (attempt == 1) log.warn("포인트 내역 저장 실패, 재시도합니다. : {}", history, e);
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(backoffMillis);
+            } catch (InterruptedException e) {
+                //종료는 running 플래그로 제어하므로 계속 시도한다.
+            }
+            backoffMillis = Math.min(MAX_RETRY_MILLIS, backoffMillis * 2);
+        }
+    }
+
+    private void removePending(Pending pending) {
+        pendingByUser.computeIfPresent(pending.history.userId(), (id, pendings) -> {
+            pendings.remove(pending);
+            return pendings.isEmpty() ? null : pendings;
+        });
+    }
+
+    private static final class Pending {
+        private final PointHistory history;
+        private volatile long savedId; //저장 후 부여된 id, 저장 전에는 0
+
+        private Pending(PointHistory history) {
+            this.history = history;
+        }
+
+        //저장이 끝났다면 부여된 id 를 반영한 내역
+        private PointHistory current() {
+            long id = savedId;
+            if (id == 0L) return history;
+            return new PointHistory(id, history.userId(), history.amount(), history.type(), history.updateMillis());
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.repository;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 내역 비동기 저장(write-behind) 설정
+ *
+ * @param enabled   비동기 저장 사용 여부 (기본값 false : 요청 스레드에서 바로 저장)
+ * @param capacity  대기 큐 크기, 가득 차면 요청 스레드가 빈 자리가 생길 때까지 대기한다.
+ * @param batchSize 저장 스레드가 한 번에 꺼내 저장하는 최대 건수
+ */
+@ConfigurationProperties(prefix = "point.history.write-behind")
+public record WriteBehindProperties(
+        boolean enabled,
+        @DefaultValue("10000") int capacity,
+        @DefaultValue("100") int batchSize
+) {
+}
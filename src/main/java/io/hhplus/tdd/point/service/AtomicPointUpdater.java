@@ -0,0 +1,107 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.AtomicUserPointRepository;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.util.function.LongUnaryOperator;
+
+/**
+ * CAS 모드 충전/사용
+ * - 잔고 검증(chargeAmount/useAmount)과 변경만 유저 락 없이 저장소의 원자적 갱신(update) 한 번으로 처리
+ * - 갱신이 경합으로 실패하면 최신 잔고로 다시 검증/계산하므로, 잔고 부족은 반영 시점의 잔고 기준으로 판단된다.
+ * - 내역 저장과 반영 결과 전달은 잔고 갱신이 성공한 뒤에만 한다.
+ *   같은 유저의 내역 저장은 유저 락 안에서 하나씩 하므로 내역 id 와 유저별 내역 순서가 어긋나지 않는다.
+ *   내역 저장(테이블 지연)은 요청마다 유저 락을 잡으므로 한 유저에 요청이 몰리면 LOCK 모드처럼 순서대로 기다린다.
+ *   락 없이 처리되는 것은 잔고 단계뿐이며, 잔고 조회와 다른 유저의 요청은 내역 저장을 기다리지 않는다.
+ *   같은 유저의 동시 요청은 내역 순서가 잔고 반영 순서와 다를 수 있다.
+ * - 내역 저장에 실패하면 반영한 잔고 변경을 되돌린 뒤 예외를 전달한다. (실패한 요청은 잔고와 내역 어디에도 남지 않는다)
+ *   그 사이 다른 요청이 충전분을 사용해 되돌리면 잔고가 음수가 되는 경우에는 되돌리지 않고 오류로 기록한다. (대사로 확인)
+ */
+public class AtomicPointUpdater {
+
+    private static final Logger log = LoggerFactory.getLogger(AtomicPointUpdater.class);
+
+    private final UserPointTable userPointTable;
+    private final AtomicUserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final PointMetrics pointMetrics;
+    private final PointCommitPublisher pointCommitPublisher;
+    private final boolean enabled;
+
+    //원자적 갱신을 지원하지 않는 저장소는 비활성(enabled=false)으로만 만들 수 있다.
+    public AtomicPointUpdater(UserPointTable userPointTable,
+                              UserPointRepository userPointRepository,
+                              PointHistoryRepository pointHistoryRepository,
+                              UserLockManager userLockManager,
+                              PointMetrics pointMetrics,
+                              PointCommitPublisher pointCommitPublisher,
+                              boolean enabled) {
+        if (enabled && !(userPointRepository instanceof AtomicUserPointRepository)) {
+            throw new IllegalStateException("CAS 모드는 원자적 갱신을 지원하는 저장소(point.store.type=primitive)가 필요합니다.");
+        }
+        this.userPointTable = userPointTable;
+        this.userPointRepository = enabled ? (AtomicUserPointRepository) userPointRepository : null;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.userLockManager = userLockManager;
+        this.pointMetrics = pointMetrics;
+        this.pointCommitPublisher = pointCommitPublisher;
+        this.enabled = enabled;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public UserPoint apply(long userId, TransactionType type, long amount) {
+        if (!enabled) throw new IllegalStateException("CAS 모드가 아닙니다.");
+        LongUnaryOperator operator = switch (type) {
+            case CHARGE -> base -> userPointTable.chargeAmount(base, amount);
+            case USE -> base -> userPointTable.useAmount(base, amount);
+            case EXPIRE -> throw new IllegalStateException("충전/사용만 처리할 수 있습니다. : " + type);
+        };
+        UserPoint userPoint;
+        try {
+            userPoint = userPointRepository.update(userId, operator);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.rejected(type, amount);
+            throw e;
+        }
+
+        return userLockManager.executeWithLock(userId, () -> {
+            PointHistory pointHistory;
+            try {
+                pointHistory = pointHistoryRepository.save(userId, amount, type, userPoint.updateMillis());
+            } catch (RuntimeException e) {
+                revert(userId, type, amount, e);
+                throw e;
+            }
+            pointCommitPublisher.publish(userPoint, pointHistory);
+            return userPoint;
+        });
+    }
+
+    //내역을 남기지 못한 잔고 변경을 되돌린다. (사용은 다시 더하고, 충전은 잔고가 음수가 되지 않을 때만 뺀다)
+    private void revert(long userId, TransactionType type, long amount, RuntimeException cause) {
+        LongUnaryOperator operator = switch (type) {
+            case CHARGE -> base -> userPointTable.useAmount(base, amount);
+            case USE -> base -> base + amount;
+            case EXPIRE -> throw new IllegalStateException("충전/사용만 처리할 수 있습니다. : " + type);
+        };
+        try {
+            userPointRepository.update(userId, operator);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+            log.error("내역 저장에 실패한 변경을 잔고에서 되돌리지 못했습니다. : userId={}, type={}, amount={}",
+                    userId, type, amount, e);
+        }
+    }
+}
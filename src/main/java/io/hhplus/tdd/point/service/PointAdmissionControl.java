@@ -0,0 +1,166 @@
+package io.hhplus.tdd.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 충전/사용 요청 수 제한 (admission control)
+ * - 유저별 token bucket : 유저마다 "다음 요청이 허용되는 시각" 하나(long)만 보관하는 GCRA 방식
+ *   평균 userPermitsPerSecond 건, 한 번에 최대 userBurst 건까지 허용하고 넘으면 바로 거절
+ * - 유저별 상태는 idleSeconds 동안 요청이 없으면 제거 (제거된 유저는 bucket 이 가득 찬 상태와 같다)
+ * - 전체 동시 처리 수 : maxConcurrent 를 넘으면 기다리지 않고 바로 거절
+ * - 일괄 처리 요청은 항목마다 해당 유저의 요청 한 건으로 계산하고, 한 유저라도 넘으면 요청 전체를 거절
+ *   한 유저의 항목이 userBurst 건을 넘으면 기다려도 허용될 수 없으므로 429 대신 400 으로 거절
+ * - 전체 동시 처리 수를 먼저 확인하고, 유저 확인에서 거절되면 이미 얻은 자리와 당겨 쓴 시간을 돌려준다.
+ * - 유저 락/명령 큐/테이블 호출 전에 거절하므로 한 유저의 과도한 요청이 다른 유저의 처리 시간을 늘리지 않는다.
+ */
+public class PointAdmissionControl implements MeterBinder {
+
+    private static final long NANOS_PER_SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final boolean enabled;
+    private final long intervalNanos; //요청 한 건이 차지하는 시간
+    private final long burstNanos;    //미리 당겨 쓸 수 있는 최대 시간
+    private final int userBurst;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    //유저별 다음 허용 시각 (System.nanoTime 기준)
+    private final Cache<Long, AtomicLong> buckets;
+    private final LongAdder userRejected = new LongAdder();
+    private final LongAdder concurrencyRejected = new LongAdder();
+
+    public PointAdmissionControl(PointAdmissionProperties properties) {
+        this.enabled = properties.enabled();
+        this.intervalNanos = Math.max(1L, (long) (NANOS_PER_SECOND / properties.userPermitsPerSecond()));
+        this.userBurst = properties.userBurst();
+        this.burstNanos = intervalNanos * userBurst;
+        this.maxConcurrent = properties.maxConcurrent();
+        this.permits = new Semaphore(properties.maxConcurrent());
+        this.buckets = Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofSeconds(properties.idleSeconds()))
+                .maximumSize(properties.maximumUsers())
+                .build();
+    }
+
+    //전체 동시 처리 수와 유저의 요청 속도를 확인한 뒤 실행하고, 비동기 결과가 완료되면 자리를 반납
+    public <T> CompletableFuture<T> execute(long userId, Supplier<CompletableFuture<T>> action) {
+        if (!enabled) return action.get();
+        acquireConcurrency();
+        try {
+            acquireUser(userId, 1);
+            return action.get().whenComplete((result, throwable) -> permits.release());
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    //일괄 처리 요청은 유저별 항목 수만큼 요청 속도를 확인하고, 처리하는 동안 전체 동시 처리 자리 하나를 차지
+    public <T> T execute(List<PointOperation> operations, Supplier<T> action) {
+        if (!enabled) return action.get();
+        Map<Long, Integer> countsByUser = new LinkedHashMap<>();
+        for (PointOperation operation : operations) {
+            countsByUser.merge(operation.userId(), 1, Integer::sum);
+        }
+        //bucket 이 가득 차 있어도 userBurst 건을 넘게 당겨 쓸 수는 없으므로 다시 시도하라고 응답하지 않는다.
+        countsByUser.forEach((userId, count) -> {
+            if (count > userBurst) throw PointBatchTooLargeException.perUser(userId, count, userBurst);
+        });
+
+        acquireConcurrency();
+        try {
+            acquireUsers(countsByUser);
+            return action.get();
+        } finally {
+            permits.release();
+        }
+    }
+
+    //처리 중인 요청 수
+    public int inFlight() {
+        return maxConcurrent - permits.availablePermits();
+    }
+
+    //상태를 보관 중인 유저 수
+    public long trackedUsers() {
+        return buckets.estimatedSize();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("point.admission.in_flight", this, PointAdmissionControl::inFlight)
+                .description("처리 중인 충전/사용 요청 수")
+                .register(registry);
+        Gauge.builder("point.admission.users", this, PointAdmissionControl::trackedUsers)
+                .description("요청 수 제한 상태를 보관 중인 유저 수")
+                .register(registry);
+        rejectedCounter(registry, "user_rate", userRejected);
+        rejectedCounter(registry, "concurrency", concurrencyRejected);
+    }
+
+    //유저마다 항목 수만큼 당겨 쓰고, 한 유저라도 거절되면 앞서 당겨 쓴 유저의 시간을 돌려준다.
+    private void acquireUsers(Map<Long, Integer> countsByUser) {
+        Map<Long, Integer> acquired = new LinkedHashMap<>();
+        try {
+            for (Map.Entry<Long, Integer> entry : countsByUser.entrySet()) {
+                acquireUser(entry.getKey(), entry.getValue());
+                acquired.put(entry.getKey(), entry.getValue());
+            }
+        } catch (PointAdmissionRejectedException e) {
+            acquired.forEach(this::refundUser);
+            throw e;
+        }
+    }
+
+    private void acquireUser(long userId, int count) {
+        AtomicLong bucket = buckets.get(userId, id -> new AtomicLong(Long.MIN_VALUE));
+        long now = System.nanoTime();
+        for (; ; ) {
+            long allowedAt = bucket.get();
+            long next = Math.max(allowedAt, now) + intervalNanos * count;
+            long ahead = next - now; //이번 요청을 허용하면 당겨 쓰게 되는 시간
+            if (ahead > burstNanos) {
+                userRejected.increment();
+                throw new PointAdmissionRejectedException("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.",
+                        Math.max(1L, (ahead - burstNanos + NANOS_PER_SECOND - 1) / NANOS_PER_SECOND));
+            }
+            if (bucket.compareAndSet(allowedAt, next)) return;
+        }
+    }
+
+    //당겨 쓴 시간을 되돌린다. (그사이 상태가 제거되어 새로 만들어진 유저는 이미 가득 찬 상태이므로 그대로 둔다.)
+    private void refundUser(long userId, int count) {
+        AtomicLong bucket = buckets.getIfPresent(userId);
+        if (bucket == null) return;
+        bucket.accumulateAndGet(intervalNanos * count,
+                (allowedAt, refund) -> allowedAt == Long.MIN_VALUE ? allowedAt : allowedAt - refund);
+    }
+
+    private void acquireConcurrency() {
+        if (permits.tryAcquire()) return;
+        concurrencyRejected.increment();
+        throw new PointAdmissionRejectedException("처리 중인 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 1L);
+    }
+
+    private static void rejectedCounter(MeterRegistry registry, String reason, LongAdder count) {
+        FunctionCounter.builder("point.admission.rejected", count, LongAdder::sum)
+                .tag("reason", reason)
+                .description("요청 수 제한으로 거절한 요청 수")
+                .register(registry);
+    }
+}
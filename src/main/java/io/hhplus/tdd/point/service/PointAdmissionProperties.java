@@ -0,0 +1,25 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 요청 수 제한 설정
+ *
+ * @param enabled            false 이면 제한하지 않는다.
+ * @param userPermitsPerSecond 유저마다 초당 허용하는 요청 수 (평균)
+ * @param userBurst          유저마다 한 번에 몰아서 허용하는 최대 요청 수
+ * @param maxConcurrent      전체 동시 처리 요청 수, 넘는 요청은 기다리지 않고 거절
+ * @param idleSeconds        요청이 없는 유저의 상태를 보관하는 시간
+ * @param maximumUsers       상태를 보관하는 최대 유저 수
+ */
+@ConfigurationProperties(prefix = "point.admission")
+public record PointAdmissionProperties(
+        @DefaultValue("true") boolean enabled,
+        @DefaultValue("20") double userPermitsPerSecond,
+        @DefaultValue("40") int userBurst,
+        @DefaultValue("512") int maxConcurrent,
+        @DefaultValue("60") long idleSeconds,
+        @DefaultValue("1000000") long maximumUsers
+) {
+}
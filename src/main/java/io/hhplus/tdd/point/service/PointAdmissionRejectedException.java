@@ -0,0 +1,19 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 요청 수 제한으로 처리하지 않은 요청 (HTTP 429)
+ */
+public class PointAdmissionRejectedException extends RuntimeException {
+
+    private final long retryAfterSeconds;
+
+    public PointAdmissionRejectedException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    //다시 요청해도 되는 시간 (Retry-After 헤더)
+    public long retryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
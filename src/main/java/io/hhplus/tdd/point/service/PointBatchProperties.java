@@ -0,0 +1,15 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 일괄 충전/사용 설정
+ *
+ * @param maxOperations 한 번의 요청에 담을 수 있는 최대 항목 수, 넘으면 처리하지 않고 400 응답
+ */
+@ConfigurationProperties(prefix = "point.batch")
+public record PointBatchProperties(
+        @DefaultValue("1000") int maxOperations
+) {
+}
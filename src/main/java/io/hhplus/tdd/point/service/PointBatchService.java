@@ -0,0 +1,181 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+
+/**
+ * 여러 유저의 포인트 충전/사용 일괄 처리
+ * - 같은 유저의 항목은 요청 순서대로, 다른 유저의 항목은 병렬로 처리
+ * - LOCK 모드 : 유저별로 묶어 유저 락 안에서 maxBatch 건씩 한 번의 조회/저장으로 처리
+ * - CAS 모드 : 유저별로 묶어 항목마다 원자적 갱신으로 처리
+ * - ACTOR/COALESCE 모드 : 유저별 명령 큐에 순서대로 넣어 큐에서 묶어 처리
+ * - 샤드 모드 : 같은 유저의 항목은 앞 항목이 끝난 뒤 유저의 샤드에 넣어 처리
+ * - 항목마다 성공/실패 결과를 돌려주며, 한 항목의 실패가 다른 항목에 영향을 주지 않는다.
+ * - 충전(CHARGE)/사용(USE)이 아닌 항목(종류 없음, 소멸 등)은 처리하지 않고 실패로 반환
+ * - maxOperations 건을 넘는 요청은 어떤 항목도 처리하지 않고 거절한다.
+ */
+public class PointBatchService implements AutoCloseable {
+
+    private final PointCommandQueue pointCommandQueue;
+    private final UserLockManager userLockManager;
+    private final PointCommandApplier pointCommandApplier;
+    private final AtomicPointUpdater atomicPointUpdater;
+    private final PointShardRouter pointShardRouter;
+    private final ExecutorService executor;
+    private final int maxBatch;
+    private final int maxOperations;
+
+    public PointBatchService(PointCommandApplier pointCommandApplier,
+                             AtomicPointUpdater atomicPointUpdater,
+                             PointShardRouter pointShardRouter,
+                             PointCommandQueue pointCommandQueue,
+                             UserLockManager userLockManager,
+                             ExecutorService executor,
+                             int maxBatch,
+                             int maxOperations) {
+        this.pointCommandQueue = pointCommandQueue;
+        this.userLockManager = userLockManager;
+        this.pointCommandApplier = pointCommandApplier;
+        this.atomicPointUpdater = atomicPointUpdater;
+        this.pointShardRouter = pointShardRouter;
+        this.executor = executor;
+        this.maxBatch = maxBatch;
+        this.maxOperations = maxOperations;
+    }
+
+    public List<PointOperationResult> apply(List<PointOperation> operations) {
+        checkSize(operations);
+        List<CompletableFuture<UserPoint>> results = pointShardRouter.isEnabled() ? submitToShards(operations)
+                : pointCommandQueue.isEnabled() ? submitToQueue(operations)
+                : applyWithLock(operations);
+
+        List<PointOperationResult> response = new ArrayList<>(operations.size());
+        for (int i = 0; i < operations.size(); i++) {
+            PointOperation operation = operations.get(i);
+            response.add(results.get(i)
+                    .handle((userPoint, throwable) -> throwable == null
+                            ? PointOperationResult.success(operation, userPoint.point())
+                            : PointOperationResult.failure(operation, causeOf(throwable).getMessage()))
+                    .join());
+        }
+        return response;
+    }
+
+    public void checkSize(List<PointOperation> operations) {
+        if (operations.size() > maxOperations) throw new PointBatchTooLargeException(operations.size(), maxOperations);
+    }
+
+    private List<CompletableFuture<UserPoint>> submitToQueue(List<PointOperation> operations) {
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>(operations.size());
+        for (PointOperation operation : operations) {
+            if (!isSupported(operation)) {
+                results.add(invalidType(operation));
+                continue;
+            }
+            results.add(pointCommandQueue.submit(operation.userId(), operation.type(), operation.amount()));
+        }
+        return results;
+    }
+
+    //샤드는 여러 스레드로 처리하므로 같은 유저의 항목은 앞 항목이 끝난 뒤(성공/실패 무관)에 넣어 순서를 지킨다.
+    private List<CompletableFuture<UserPoint>> submitToShards(List<PointOperation> operations) {
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>(operations.size());
+        Map<Long, CompletableFuture<UserPoint>> lastByUser = new HashMap<>();
+        for (PointOperation operation : operations) {
+            if (!isSupported(operation)) {
+                results.add(invalidType(operation));
+                continue;
+            }
+            CompletableFuture<UserPoint> previous = lastByUser.get(operation.userId());
+            CompletableFuture<UserPoint> result = previous == null
+                    ? pointShardRouter.apply(operation.userId(), operation.type(), operation.amount())
+                    : previous.handle((userPoint, throwable) -> null).thenCompose(ignored ->
+                    pointShardRouter.apply(operation.userId(), operation.type(), operation.amount()));
+            lastByUser.put(operation.userId(), result);
+            results.add(result);
+        }
+        return results;
+    }
+
+    private List<CompletableFuture<UserPoint>> applyWithLock(List<PointOperation> operations) {
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>(operations.size());
+        Map<Long, List<PointCommand>> commandsByUser = new LinkedHashMap<>();
+        for (PointOperation operation : operations) {
+            if (!isSupported(operation)) {
+                results.add(invalidType(operation));
+                continue;
+            }
+            PointCommand command = PointCommand.of(operation.userId(), operation.type(), operation.amount());
+            commandsByUser.computeIfAbsent(operation.userId(), id -> new ArrayList<>()).add(command);
+            results.add(command.result());
+        }
+
+        CompletableFuture.allOf(commandsByUser.entrySet().stream()
+                .map(entry -> CompletableFuture.runAsync(() -> applyUserCommands(entry.getKey(), entry.getValue()), executor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+        return results;
+    }
+
+    //한 유저의 항목을 maxBatch 건씩 나눠 유저 락 안에서 처리 (CAS 모드에서는 락 없이 항목마다 처리)
+    private void applyUserCommands(long userId, List<PointCommand> commands) {
+        if (atomicPointUpdater.isEnabled()) {
+            for (PointCommand command : commands) {
+                try {
+                    command.result().complete(atomicPointUpdater.apply(userId, command.type(), command.amount()));
+                } catch (RuntimeException e) {
+                    command.result().completeExceptionally(e);
+                }
+            }
+            return;
+        }
+        userLockManager.executeWithLock(userId, () -> {
+            for (int from = 0; from < commands.size(); from += maxBatch) {
+                pointCommandApplier.apply(userId, commands.subList(from, Math.min(from + maxBatch, commands.size())));
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+
+    private static boolean isSupported(PointOperation operation) {
+        if (operation.type() == null) return false;
+        return switch (operation.type()) {
+            case CHARGE, USE -> true;
+            case EXPIRE -> false;
+        };
+    }
+
+    private static CompletableFuture<UserPoint> invalidType(PointOperation operation) {
+        return operation.type() == null ? missingType() : unsupportedType(operation);
+    }
+
+    private static CompletableFuture<UserPoint> missingType() {
+        return CompletableFuture.failedFuture(new IllegalArgumentException("트랜잭션 종류(type)가 없습니다."));
+    }
+
+    //소멸(EXPIRE)은 유효기간 스케줄러만 기록한다.
+    private static CompletableFuture<UserPoint> unsupportedType(PointOperation operation) {
+        return CompletableFuture.failedFuture(new IllegalArgumentException(
+                "충전(CHARGE)/사용(USE)만 일괄 처리할 수 있습니다. : " + operation.type()));
+    }
+
+    private static Throwable causeOf(Throwable throwable) {
+        return throwable instanceof CompletionException && throwable.getCause() != null
+                ? throwable.getCause()
+                : throwable;
+    }
+}
@@ -0,0 +1,21 @@
+package io.hhplus.tdd.point.service;
+
+/**
+ * 최대 항목 수를 넘어 처리하지 않은 일괄 요청 (HTTP 400)
+ */
+public class PointBatchTooLargeException extends RuntimeException {
+
+    public PointBatchTooLargeException(int size, int maxOperations) {
+        this("한 번에 처리할 수 있는 항목은 최대 " + maxOperations + "건입니다. : " + size);
+    }
+
+    private PointBatchTooLargeException(String message) {
+        super(message);
+    }
+
+    //한 유저의 항목이 요청 수 제한(userBurst)을 넘어 다시 보내도 허용될 수 없는 일괄 요청
+    public static PointBatchTooLargeException perUser(long userId, int count, int userBurst) {
+        return new PointBatchTooLargeException(
+                "한 유저당 한 번에 처리할 수 있는 항목은 최대 " + userBurst + "건입니다. : userId=" + userId + ", " + count);
+    }
+}
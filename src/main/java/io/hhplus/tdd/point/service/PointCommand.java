@@ -0,0 +1,22 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 유저별 명령 큐에 쌓이는 충전/사용 명령
+ */
+public record PointCommand(
+        long userId,
+        TransactionType type,
+        long amount,
+        CompletableFuture<UserPoint> result,
+        long enqueuedNanos
+) {
+
+    public static PointCommand of(long userId, TransactionType type, long amount) {
+        return new PointCommand(userId, type, amount, new CompletableFuture<>(), System.nanoTime());
+    }
+}
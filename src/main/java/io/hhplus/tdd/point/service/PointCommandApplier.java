@@ -0,0 +1,88 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 한 유저의 명령 묶음을 한 번의 조회/저장으로 처리
+ * - 조회한 잔고에 명령을 순서대로 적용 (검증은 UserPointTable.chargeAmount/useAmount)
+ * - 실패한 명령은 잔고와 내역에 반영하지 않고 해당 명령의 결과로만 예외를 전달
+ * - 성공한 명령을 PointCommitPublisher 에 먼저 알린 뒤(저널 기록) 내역을 모아 저장하고 최종 잔고를 한 번 저장
+ * - 저장이 끝나면 명령마다 반영 결과를 PointCommitPublisher 로 전달한 뒤 응답
+ * 같은 유저의 묶음이 동시에 처리되지 않도록 호출하는 쪽(명령 큐, 유저 락)에서 보장해야 한다.
+ */
+public class PointCommandApplier {
+
+    private final UserPointTable userPointTable;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointMetrics pointMetrics;
+    private final PointCommitPublisher pointCommitPublisher;
+
+    public PointCommandApplier(UserPointTable userPointTable,
+                               UserPointRepository userPointRepository,
+                               PointHistoryRepository pointHistoryRepository,
+                               PointMetrics pointMetrics,
+                               PointCommitPublisher pointCommitPublisher) {
+        this.userPointTable = userPointTable;
+        this.userPointRepository = userPointRepository;
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointMetrics = pointMetrics;
+        this.pointCommitPublisher = pointCommitPublisher;
+    }
+
+    public void apply(long userId, List<PointCommand> batch) {
+        List<PointCommand> accepted = new ArrayList<>(batch.size());
+        List<Long> balances = new ArrayList<>(batch.size());
+        try {
+            long balance = userPointRepository.findById(userId).point();
+            for (PointCommand command : batch) {
+                try {
+                    balance = switch (command.type()) {
+                        case CHARGE -> userPointTable.chargeAmount(balance, command.amount());
+                        case USE -> userPointTable.useAmount(balance, command.amount());
+                        case EXPIRE -> throw new IllegalStateException("충전/사용만 처리할 수 있습니다. : " + command.type());
+                    };
+                } catch (IllegalArgumentException e) {
+                    pointMetrics.rejected(command.type(), command.amount());
+                    command.result().completeExceptionally(e);
+                    continue;
+                }
+                accepted.add(command);
+                balances.add(balance);
+            }
+            if (accepted.isEmpty()) return;
+
+            long updateMillis = System.currentTimeMillis();
+            List<PointHistory> pending = new ArrayList<>(accepted.size());
+            for (PointCommand command : accepted) {
+                pending.add(new PointHistory(0L, userId, command.amount(), command.type(), updateMillis));
+            }
+            pointCommitPublisher.prepareAll(pending, balances);
+
+            List<PointHistory> histories = new ArrayList<>(accepted.size());
+            for (PointHistory pointHistory : pending) {
+                histories.add(pointHistoryRepository.save(userId, pointHistory.amount(), pointHistory.type(), updateMillis));
+            }
+            UserPoint saved = userPointRepository.save(userId, balance);
+
+            //각 명령에는 자신의 명령까지 반영된 잔고를 돌려준다.
+            List<UserPoint> results = new ArrayList<>(accepted.size());
+            for (int i = 0; i < accepted.size(); i++) {
+                results.add(new UserPoint(userId, balances.get(i), saved.updateMillis()));
+            }
+            pointCommitPublisher.publishAll(results, histories);
+            for (int i = 0; i < accepted.size(); i++) {
+                accepted.get(i).result().complete(results.get(i));
+            }
+        } catch (RuntimeException e) {
+            batch.forEach(command -> command.result().completeExceptionally(e));
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 유저별 명령 큐(mailbox) - ACTOR 모드
+ * - 같은 유저의 명령은 한 번에 하나의 스레드만 처리하므로 락 없이 순서대로 처리
+ * - 다른 유저의 명령은 공유 스레드 풀에서 병렬로 처리
+ * - 처리 중 쌓인 같은 유저의 명령은 한 번의 조회/저장(read-modify-write)으로 묶어 처리
+ * - COALESCE 모드에서는 유저의 첫 명령 이후 coalesceWindowMillis 동안 들어온 명령을 모아 처리 (group commit)
+ * - 명령이 모두 처리된 유저의 큐는 제거
+ * - 가상 스레드 사용 시 명령 처리마다 가상 스레드를 사용하므로 테이블 지연 동안 플랫폼 스레드를 점유하지 않는다.
+ * - userLockManager 를 받으면 묶음을 유저 락 안에서 반영 (LOCK 모드의 hot user 경로처럼 락 경로와 같은 유저를 함께 처리할 때)
+ */
+public class PointCommandQueue implements AutoCloseable {
+
+    private final PointCommandApplier pointCommandApplier;
+    private final PointMetrics pointMetrics;
+    private final int maxBatch;
+    private final long coalesceWindowMillis;
+    private final ExecutorService executor;
+    private final ScheduledExecutorService scheduler; //COALESCE 모드의 처리 지연용
+    private final UserLockManager userLockManager;    //null 이면 락 없이 반영
+    private final ConcurrentHashMap<Long, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    public PointCommandQueue(PointCommandApplier pointCommandApplier,
+                             PointMetrics pointMetrics,
+                             PointMutationProperties properties) {
+        this(pointCommandApplier, pointMetrics, properties, false);
+    }
+
+    public PointCommandQueue(PointCommandApplier pointCommandApplier,
+                             PointMetrics pointMetrics,
+                             PointMutationProperties properties,
+                             boolean virtualThreads) {
+        this(pointCommandApplier, pointMetrics, properties, virtualThreads, null);
+    }
+
+    public PointCommandQueue(PointCommandApplier pointCommandApplier,
+                             PointMetrics pointMetrics,
+                             PointMutationProperties properties,
+                             boolean virtualThreads,
+                             UserLockManager userLockManager) {
+        this.pointCommandApplier = pointCommandApplier;
+        this.pointMetrics = pointMetrics;
+        this.maxBatch = properties.maxBatch();
+        this.coalesceWindowMillis = properties.mode() == PointMutationProperties.Mode.COALESCE
+                ? properties.coalesceWindowMillis()
+                : 0L;
+        this.executor = !properties.mode().queued() ? null
+                : virtualThreads ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(properties.threads(), namedThreadFactory("point-command-"));
+        this.scheduler = coalesceWindowMillis > 0
+                ? Executors.newSingleThreadScheduledExecutor(namedThreadFactory("point-coalesce-"))
+                : null;
+        this.userLockManager = userLockManager;
+    }
+
+    public boolean isEnabled() {
+        return executor != null;
+    }
+
+    public CompletableFuture<UserPoint> submit(long userId, TransactionType type, long amount) {
+        PointCommand command = PointCommand.of(userId, type, amount);
+        boolean[] schedule = new boolean[1];
+
+        //큐 추가와 처리 예약 여부 판단을 compute 안에서 처리해 큐 제거와 경합하지 않도록 한다.
+        Mailbox mailbox = mailboxes.compute(userId, (id, box) -> {
+            if (box == null) box = new Mailbox();
+            box.commands.add(command);
+            if (!box.scheduled) box.scheduled = schedule[0] = true;
+            return box;
+        });
+        if (schedule[0] && coalesceWindowMillis > 0) {
+            //대기 시간 동안 같은 유저의 요청이 큐에 쌓이도록 처리 시작을 늦춘다.
+            Runnable task = () -> executor.execute(() -> drain(userId, mailbox));
+            scheduler.schedule(task, coalesceWindowMillis, TimeUnit.MILLISECONDS);
+        } else if (schedule[0]) {
+            executor.execute(() -> drain(userId, mailbox));
+        }
+        return command.result();
+    }
+
+    //현재 명령 큐가 있는 유저 수
+    public int size() {
+        return mailboxes.size();
+    }
+
+    @Override
+    public void close() {
+        if (scheduler != null) scheduler.shutdown();
+        if (executor != null) executor.shutdown();
+    }
+
+    //쌓인 명령을 한 묶음 처리한 뒤, 남은 명령이 있으면 다른 유저에게 스레드를 양보하고 다시 예약
+    private void drain(long userId, Mailbox mailbox) {
+        List<PointCommand> batch = new ArrayList<>();
+        PointCommand command;
+        while (batch.size() < maxBatch && (command = mailbox.commands.poll()) != null) {
+            batch.add(command);
+        }
+        if (!batch.isEmpty()) {
+            long startedAt = System.nanoTime();
+            batch.forEach(queued -> pointMetrics.recordQueueWait(startedAt - queued.enqueuedNanos()));
+            apply(userId, batch);
+        }
+
+        Mailbox remaining = mailboxes.computeIfPresent(userId, (id, box) -> {
+            if (!box.commands.isEmpty()) return box;
+            box.scheduled = false;
+            return null;
+        });
+        if (remaining != null) executor.execute(() -> drain(userId, mailbox));
+    }
+
+    private void apply(long userId, List<PointCommand> batch) {
+        if (userLockManager == null) {
+            pointCommandApplier.apply(userId, batch);
+            return;
+        }
+        userLockManager.executeWithLock(userId, () -> {
+            pointCommandApplier.apply(userId, batch);
+            return null;
+        });
+    }
+
+    private static ThreadFactory namedThreadFactory(String prefix) {
+        AtomicInteger sequence = new AtomicInteger();
+        return runnable -> new Thread(runnable, prefix + sequence.incrementAndGet());
+    }
+
+    private static final class Mailbox {
+        private final Queue<PointCommand> commands = new ConcurrentLinkedQueue<>();
+        private boolean scheduled; //compute 안에서만 변경
+    }
+}
@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.UserPoint;
+
+import java.util.List;
+
+/**
+ * 충전/사용이 반영된 직후 호출되는 리스너
+ * - 유저 락(또는 유저 명령 큐) 안에서 호출되므로 같은 유저의 변경은 반영된 순서대로 전달된다.
+ * - 호출이 끝나야 요청에 응답하므로 오래 걸리는 작업은 리스너 안에서 비동기로 처리해야 한다.
+ * - 저널처럼 반영보다 먼저 남겨야 하는 리스너는 beforeCommit 에서 처리한다.
+ */
+public interface PointCommitListener {
+
+    //잔고와 내역을 저장하기 직전 호출, 예외를 던지면 저장하지 않는다. (내역은 저장 전이므로 id 가 0)
+    default void beforeCommit(PointHistory pointHistory, long balance) {
+    }
+
+    //한 유저의 명령 묶음을 저장하기 직전 (pointHistories 와 balances 는 같은 순서)
+    default void beforeCommitAll(List<PointHistory> pointHistories, List<Long> balances) {
+        for (int i = 0; i < pointHistories.size(); i++) {
+            beforeCommit(pointHistories.get(i), balances.get(i));
+        }
+    }
+
+    void onCommit(UserPoint userPoint, PointHistory pointHistory);
+
+    //한 유저의 명령 묶음이 한 번에 반영된 경우 (userPoints 와 pointHistories 는 같은 순서)
+    default void onCommitAll(List<UserPoint> userPoints, List<PointHistory> pointHistories) {
+        for (int i = 0; i < userPoints.size(); i++) {
+            onCommit(userPoints.get(i), pointHistories.get(i));
+        }
+    }
+}
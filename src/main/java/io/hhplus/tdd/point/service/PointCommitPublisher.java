@@ -0,0 +1,48 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.UserPoint;
+
+import java.util.List;
+
+/**
+ * 등록된 PointCommitListener 에 충전/사용 반영 결과를 순서대로 전달
+ * - prepare : 저장 직전 반영할 변경, publish : 저장 직후 반영 결과
+ * - 리스너 목록은 생성 시점에 고정되므로 전달 시 조회 비용이 없다.
+ */
+public class PointCommitPublisher {
+
+    private final List<PointCommitListener> listeners;
+
+    public PointCommitPublisher(List<PointCommitListener> listeners) {
+        this.listeners = List.copyOf(listeners);
+    }
+
+    public static PointCommitPublisher none() {
+        return new PointCommitPublisher(List.of());
+    }
+
+    public void prepare(PointHistory pointHistory, long balance) {
+        for (PointCommitListener listener : listeners) {
+            listener.beforeCommit(pointHistory, balance);
+        }
+    }
+
+    public void prepareAll(List<PointHistory> pointHistories, List<Long> balances) {
+        for (PointCommitListener listener : listeners) {
+            listener.beforeCommitAll(pointHistories, balances);
+        }
+    }
+
+    public void publish(UserPoint userPoint, PointHistory pointHistory) {
+        for (PointCommitListener listener : listeners) {
+            listener.onCommit(userPoint, pointHistory);
+        }
+    }
+
+    public void publishAll(List<UserPoint> userPoints, List<PointHistory> pointHistories) {
+        for (PointCommitListener listener : listeners) {
+            listener.onCommitAll(userPoints, pointHistories);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 충전/사용 Idempotency-Key 설정
+ *
+ * @param ttlSeconds  처음 실행한 요청의 결과를 보관하는 시간, 이 시간이 지난 뒤의 재요청은 새 요청으로 처리
+ * @param maximumSize 보관하는 최대 키 수, 넘으면 자주 쓰이지 않는 키부터 제거
+ */
+@ConfigurationProperties(prefix = "point.idempotency")
+public record PointIdempotencyProperties(
+        @DefaultValue("600") long ttlSeconds,
+        @DefaultValue("100000") long maximumSize
+) {
+}
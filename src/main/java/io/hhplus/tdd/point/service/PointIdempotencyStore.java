@@ -0,0 +1,81 @@
+package io.hhplus.tdd.point.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Idempotency-Key 로 같은 충전/사용 요청이 두 번 반영되지 않게 하는 저장소
+ * - 키는 (유저, 트랜잭션 종류, Idempotency-Key) 단위이고 처음 실행한 요청의 결과(UserPoint)를 ttl 동안 보관
+ * - 같은 키의 재요청은 다시 실행하지 않고 보관한 결과를 반환, 처음 요청이 처리 중이면 그 결과를 기다린다.
+ * - 실패한 요청은 잔고와 내역에 반영되지 않으므로 결과를 보관하지 않고, 재요청 시 다시 실행
+ * - 최대 크기를 넘거나 ttl 이 지나면 제거
+ */
+public class PointIdempotencyStore implements MeterBinder {
+
+    private final Cache<Key, Entry> cache;
+
+    public PointIdempotencyStore(Duration ttl, long maximumSize) {
+        this.cache = Caffeine.newBuilder()
+                .expireAfterWrite(ttl)
+                .maximumSize(maximumSize)
+                .recordStats()
+                .build();
+    }
+
+    public CompletableFuture<UserPoint> execute(String idempotencyKey, long userId, TransactionType type, long amount,
+                                                Supplier<CompletableFuture<UserPoint>> action) {
+        Key key = new Key(userId, type, idempotencyKey);
+        Entry created = new Entry(amount, new CompletableFuture<>());
+        Entry entry = cache.get(key, k -> created);
+        if (entry != created) {
+            if (entry.amount() != amount) {
+                return CompletableFuture.failedFuture(
+                        new IllegalArgumentException("같은 Idempotency-Key 로 다른 금액을 요청할 수 없습니다."));
+            }
+            //보관된 결과를 호출하는 쪽에서 완료시키지 못하도록 복사본을 반환
+            return entry.result().copy();
+        }
+
+        CompletableFuture<UserPoint> result;
+        try {
+            result = action.get();
+        } catch (RuntimeException e) {
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((userPoint, throwable) -> {
+            if (throwable != null) {
+                //기다리던 중복 요청에는 실패를 전달하고, 이후 재요청은 다시 실행되도록 제거
+                cache.asMap().remove(key, created);
+                created.result().completeExceptionally(throwable);
+            } else {
+                created.result().complete(userPoint);
+            }
+        });
+        return result;
+    }
+
+    public long size() {
+        return cache.estimatedSize();
+    }
+
+    //중복 요청(적중) 건수를 cache.* 지표로 노출 (cache=point_idempotency)
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        CaffeineCacheMetrics.monitor(registry, cache, "point_idempotency");
+    }
+
+    private record Key(long userId, TransactionType type, String idempotencyKey) {
+    }
+
+    private record Entry(long amount, CompletableFuture<UserPoint> result) {
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 포인트 기능 지표
+ * - point.service : 충전/사용/조회/내역 조회/요약 조회 처리 시간 (percentile histogram)
+ * - point.wait : 유저 락 대기 시간(type=lock), 명령 큐 대기 시간(type=queue)
+ * - point.rejected : 충전 금액 오류(reason=invalid_charge), 사용 금액 오류(reason=invalid_use), 잔고 부족(reason=insufficient_balance)
+ * 테이블 호출 시간(point.table)은 저장소 계층에서 따로 측정한다.
+ */
+@Component
+public class PointMetrics {
+
+    public static final String CHARGE = "charge";
+    public static final String USE = "use";
+    public static final String SELECT = "select";
+    public static final String HISTORY = "history";
+    public static final String SUMMARY = "summary";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, Timer> serviceTimers;
+    private final Timer lockWait;
+    private final Timer queueWait;
+    private final Counter invalidCharge;
+    private final Counter invalidUse;
+    private final Counter insufficientBalance;
+
+    public PointMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+        //요청마다 레지스트리에서 Timer 를 찾지 않도록 처리 종류별 Timer 를 미리 만든다.
+        this.serviceTimers = Stream.of(CHARGE, USE, SELECT, HISTORY, SUMMARY)
+                .collect(Collectors.toUnmodifiableMap(Function.identity(), this::serviceTimer));
+        this.lockWait = waitTimer("lock");
+        this.queueWait = waitTimer("queue");
+        this.invalidCharge = rejectedCounter("invalid_charge");
+        this.invalidUse = rejectedCounter("invalid_use");
+        this.insufficientBalance = rejectedCounter("insufficient_balance");
+    }
+
+    public <T> T record(String operation, Supplier<T> action) {
+        return timer(operation).record(action);
+    }
+
+    //비동기 처리는 결과가 완료되는 시점까지를 측정 (결과를 만들기 전에 예외가 나면 그 시점까지)
+    public <T> CompletableFuture<T> recordAsync(String operation, Supplier<CompletableFuture<T>> action) {
+        Timer timer = timer(operation);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<T> future;
+        try {
+            future = action.get();
+        } catch (RuntimeException e) {
+            sample.stop(timer);
+            throw e;
+        }
+        return future.whenComplete((result, throwable) -> sample.stop(timer));
+    }
+
+    public void recordLockWait(long nanos) {
+        lockWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordQueueWait(long nanos) {
+        queueWait.record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    //거절된 충전/사용의 사유별 횟수 (0원 이하 금액은 금액 오류, 그 외 사용 거절은 잔고 부족)
+    public void rejected(TransactionType type, long amount) {
+        Counter counter = switch (type) {
+            case CHARGE -> invalidCharge;
+            case USE -> amount <= 0 ? invalidUse : insufficientBalance;
+            case EXPIRE -> throw new IllegalStateException("충전/사용만 처리할 수 있습니다. : " + type);
+        };
+        counter.increment();
+    }
+
+    private Timer timer(String operation) {
+        Timer timer = serviceTimers.get(operation);
+        if (timer == null) throw new IllegalArgumentException("지원하지 않는 처리 종류입니다. : " + operation);
+        return timer;
+    }
+
+    private Timer serviceTimer(String operation) {
+        return Timer.builder("point.service")
+                .tag("operation", operation)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Timer waitTimer(String type) {
+        return Timer.builder("point.wait")
+                .tag("type", type)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+    }
+
+    private Counter rejectedCounter(String reason) {
+        return Counter.builder("point.rejected")
+                .tag("reason", reason)
+                .register(meterRegistry);
+    }
+}
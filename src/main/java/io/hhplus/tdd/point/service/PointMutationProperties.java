@@ -0,0 +1,33 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 포인트 충전/사용 처리 방식 설정
+ *
+ * @param mode                 LOCK : 유저 단위 락 (기본값), ACTOR : 유저별 명령 큐(mailbox)에서 순차 처리,
+ *                             COALESCE : ACTOR + 짧은 대기 시간 동안 들어온 같은 유저의 요청을 모아 한 번에 처리(group commit),
+ *                             CAS : 잔고는 락 없이 저장소의 원자적 갱신(CAS)으로 처리, 내역 저장은 유저 락 안에서 처리
+ *                             (point.store.type=primitive 필요)
+ * @param threads              ACTOR/COALESCE 모드에서 명령을 처리하는 스레드 수
+ * @param maxBatch             ACTOR/COALESCE 모드에서 한 번의 조회/저장으로 묶어 처리하는 최대 명령 수
+ * @param coalesceWindowMillis COALESCE 모드에서 첫 요청 이후 같은 유저의 요청을 모으는 시간
+ */
+@ConfigurationProperties(prefix = "point.mutation")
+public record PointMutationProperties(
+        @DefaultValue("LOCK") Mode mode,
+        @DefaultValue("16") int threads,
+        @DefaultValue("100") int maxBatch,
+        @DefaultValue("5") long coalesceWindowMillis
+) {
+
+    public enum Mode {
+        LOCK, ACTOR, COALESCE, CAS;
+
+        //유저별 명령 큐를 사용하는 모드
+        public boolean queued() {
+            return this == ACTOR || this == COALESCE;
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+
+/**
+ * 일괄 처리 요청 항목
+ */
+public record PointOperation(
+        long userId,
+        long amount,
+        TransactionType type
+) {
+}
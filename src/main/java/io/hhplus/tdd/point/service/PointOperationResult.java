@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+
+/**
+ * 일괄 처리 항목별 결과
+ *
+ * @param point   성공 시 해당 항목까지 반영된 잔고, 실패 시 0
+ * @param message 실패 사유, 성공 시 null
+ */
+public record PointOperationResult(
+        long userId,
+        long amount,
+        TransactionType type,
+        boolean success,
+        long point,
+        String message
+) {
+
+    public static PointOperationResult success(PointOperation operation, long point) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), true, point, null);
+    }
+
+    public static PointOperationResult failure(PointOperation operation, String message) {
+        return new PointOperationResult(operation.userId(), operation.amount(), operation.type(), false, 0L, message);
+    }
+}
@@ -1,13 +1,22 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
 import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummary;
 import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.shard.PointShardRouter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
 import static io.hhplus.tdd.point.repository.TransactionType.USE;
@@ -17,31 +26,154 @@ import static io.hhplus.tdd.point.repository.TransactionType.USE;
 public class PointService {
 
     private final UserPointTable userPointTable;
-    private final PointHistoryTable pointHistoryTable;
+    private final UserPointRepository userPointRepository;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final UserLockManager userLockManager;
+    private final PointCommandQueue pointCommandQueue;
+    private final PointMetrics pointMetrics;
+    private final PointCommitPublisher pointCommitPublisher;
+    private final AtomicPointUpdater atomicPointUpdater;
+    private final PointShardRouter pointShardRouter;
+    private final HotUserRouter hotUserRouter;
 
+    //샤드 모드에서는 유저가 배정된 샤드가 자기 테이블과 스레드로 처리
     public UserPoint select(long id) {
-        return userPointTable.selectById(id);
+        if (pointShardRouter.isEnabled()) return join(pointShardRouter.route(id).select(id));
+        return pointMetrics.record(PointMetrics.SELECT, () -> userPointRepository.findById(id));
     }
 
-    public synchronized UserPoint charge(long id, long amount) {
-        long base = userPointTable.selectById(id).point();
-        long updateAmount = userPointTable.chargeAmount(base, amount);
+    //같은 유저의 충전/사용은 유저 단위 락으로 순차 처리, 다른 유저끼리는 병렬 처리
+    //(point.latency.mode=table 의 내역 저장은 테이블 락으로 유저와 무관하게 순차 처리)
+    //요청이 몰리는 유저(hot user)는 요청마다 락을 잡지 않고 묶음마다 락을 잡는 전용 경로로 처리
+    public UserPoint charge(long id, long amount) {
+        if (pointShardRouter.isEnabled() || pointCommandQueue.isEnabled()) return join(chargeAsync(id, amount));
+        if (hotUserRouter.route(id)) {
+            return join(pointMetrics.recordAsync(PointMetrics.CHARGE, () -> hotUserRouter.submit(id, CHARGE, amount)));
+        }
+        if (atomicPointUpdater.isEnabled()) {
+            return pointMetrics.record(PointMetrics.CHARGE, () -> atomicPointUpdater.apply(id, CHARGE, amount));
+        }
 
-        //포인트 충전 내역 저장
-        pointHistoryTable.insert(id, amount, CHARGE, System.currentTimeMillis());
-        return userPointTable.insertOrUpdate(id, updateAmount);
+        return pointMetrics.record(PointMetrics.CHARGE, () -> executeWithLock(id, () -> {
+            long base = userPointRepository.findById(id).point();
+            long updateAmount = chargeAmount(base, amount);
+            long updateMillis = System.currentTimeMillis();
+            pointCommitPublisher.prepare(new PointHistory(0L, id, amount, CHARGE, updateMillis), updateAmount);
+
+            //포인트 충전 내역 저장
+            PointHistory pointHistory = pointHistoryRepository.save(id, amount, CHARGE, updateMillis);
+            UserPoint userPoint = userPointRepository.save(id, updateAmount);
+            pointCommitPublisher.publish(userPoint, pointHistory);
+            return userPoint;
+        }));
     }
 
     public UserPoint use(long id, long amount) {
-        long base = userPointTable.selectById(id).point();
-        long updateAmount = userPointTable.useAmount(base, amount);
+        if (pointShardRouter.isEnabled() || pointCommandQueue.isEnabled()) return join(useAsync(id, amount));
+        if (hotUserRouter.route(id)) {
+            return join(pointMetrics.recordAsync(PointMetrics.USE, () -> hotUserRouter.submit(id, USE, amount)));
+        }
+        if (atomicPointUpdater.isEnabled()) {
+            return pointMetrics.record(PointMetrics.USE, () -> atomicPointUpdater.apply(id, USE, amount));
+        }
+
+        return pointMetrics.record(PointMetrics.USE, () -> executeWithLock(id, () -> {
+            long base = userPointRepository.findById(id).point();
+            long updateAmount = useAmount(base, amount);
+            long updateMillis = System.currentTimeMillis();
+            pointCommitPublisher.prepare(new PointHistory(0L, id, amount, USE, updateMillis), updateAmount);
+
+            //포인트 사용 내역 저장
+            PointHistory pointHistory = pointHistoryRepository.save(id, amount, USE, updateMillis);
+            UserPoint userPoint = userPointRepository.save(id, updateAmount);
+            pointCommitPublisher.publish(userPoint, pointHistory);
+            return userPoint;
+        }));
+    }
+
+    //ACTOR 모드에서는 명령 큐에, 샤드 모드에서는 샤드에 넣고 바로 반환해 요청 스레드를 점유하지 않는다.
+    //hot user 추적은 LOCK/CAS 모드에서는 charge/use 에서, 그 외 모드에서는 여기서 기록
+    public CompletableFuture<UserPoint> chargeAsync(long id, long amount) {
+        if (pointShardRouter.isEnabled() || pointCommandQueue.isEnabled()) hotUserRouter.record(id);
+        if (pointShardRouter.isEnabled()) return pointShardRouter.apply(id, CHARGE, amount);
+        if (pointCommandQueue.isEnabled()) {
+            return pointMetrics.recordAsync(PointMetrics.CHARGE, () -> pointCommandQueue.submit(id, CHARGE, amount));
+        }
+        return CompletableFuture.completedFuture(charge(id, amount));
+    }
 
-        //포인트 사용 내역 저장
-        pointHistoryTable.insert(id, amount, USE, System.currentTimeMillis());
-        return userPointTable.insertOrUpdate(id, updateAmount);
+    public CompletableFuture<UserPoint> useAsync(long id, long amount) {
+        if (pointShardRouter.isEnabled() || pointCommandQueue.isEnabled()) hotUserRouter.record(id);
+        if (pointShardRouter.isEnabled()) return pointShardRouter.apply(id, USE, amount);
+        if (pointCommandQueue.isEnabled()) {
+            return pointMetrics.recordAsync(PointMetrics.USE, () -> pointCommandQueue.submit(id, USE, amount));
+        }
+        return CompletableFuture.completedFuture(use(id, amount));
     }
 
     public List<PointHistory> selectPointHistory(long id) {
-        return pointHistoryTable.selectAllByUserId(id);
+        if (pointShardRouter.isEnabled()) {
+            return join(pointShardRouter.route(id).histories(id, PointHistoryQuery.ALL, Integer.MAX_VALUE));
+        }
+        return pointMetrics.record(PointMetrics.HISTORY, () -> pointHistoryRepository.findAllByUserId(id));
+    }
+
+    //조건에 맞는 내역 중 limit 건만 조회 (다음 페이지는 마지막 내역의 id 를 after 로 전달)
+    public List<PointHistory> selectPointHistory(long id, PointHistoryQuery query, int limit) {
+        if (pointShardRouter.isEnabled()) return join(pointShardRouter.route(id).histories(id, query, limit));
+        return pointMetrics.record(PointMetrics.HISTORY, () -> {
+            try (Stream<PointHistory> histories = pointHistoryRepository.streamByUserId(id, query)) {
+                return histories.limit(limit).toList();
+            }
+        });
+    }
+
+    //유저의 충전/사용 합계, 내역 수, 마지막 내역 시각
+    public PointSummary selectSummary(long id) {
+        if (pointShardRouter.isEnabled()) return join(pointShardRouter.route(id).summary(id));
+        return pointMetrics.record(PointMetrics.SUMMARY, () -> pointHistoryRepository.summarize(id));
+    }
+
+    //샤드 모드에서는 샤드가 조회한 목록을 스트림으로 반환
+    public Stream<PointHistory> streamPointHistory(long id, PointHistoryQuery query) {
+        if (pointShardRouter.isEnabled()) return selectPointHistory(id, query, Integer.MAX_VALUE).stream();
+        return pointHistoryRepository.streamByUserId(id, query);
+    }
+
+    //락을 얻기까지 기다린 시간은 테이블 호출 시간과 따로 기록
+    private UserPoint executeWithLock(long id, Supplier<UserPoint> action) {
+        long requestedAt = System.nanoTime();
+        return userLockManager.executeWithLock(id, () -> {
+            pointMetrics.recordLockWait(System.nanoTime() - requestedAt);
+            return action.get();
+        });
+    }
+
+    private long chargeAmount(long base, long amount) {
+        try {
+            return userPointTable.chargeAmount(base, amount);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.rejected(CHARGE, amount);
+            throw e;
+        }
+    }
+
+    private long useAmount(long base, long amount) {
+        try {
+            return userPointTable.useAmount(base, amount);
+        } catch (IllegalArgumentException e) {
+            pointMetrics.rejected(USE, amount);
+            throw e;
+        }
+    }
+
+    //동기 호출자에게는 CompletionException 이 아닌 원래 예외(IllegalArgumentException 등)를 전달
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
     }
 }
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointStoreProperties;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+@EnableConfigurationProperties({PointMutationProperties.class, PointIdempotencyProperties.class,
+        PointAdmissionProperties.class, PointBatchProperties.class})
+public class PointServiceConfig {
+
+    //등록된 리스너를 @Order/Ordered 순서대로 고정해 두고 반영 결과를 전달
+    @Bean
+    public PointCommitPublisher pointCommitPublisher(ObjectProvider<PointCommitListener> pointCommitListeners) {
+        return new PointCommitPublisher(pointCommitListeners.orderedStream().toList());
+    }
+
+    //명령 큐와 일괄 처리가 같은 조회/검증/저장 로직을 사용
+    @Bean
+    public PointCommandApplier pointCommandApplier(UserPointTable userPointTable,
+                                                   UserPointRepository userPointRepository,
+                                                   PointHistoryRepository pointHistoryRepository,
+                                                   PointMetrics pointMetrics,
+                                                   PointCommitPublisher pointCommitPublisher) {
+        return new PointCommandApplier(userPointTable, userPointRepository, pointHistoryRepository, pointMetrics,
+                pointCommitPublisher);
+    }
+
+    //CAS 모드는 원자적 갱신(AtomicUserPointRepository)을 지원하는 배열 저장소가 필요하다.
+    //같은 유저의 동시 요청이 반영 순서와 다른 순서로 기록될 수 있어 마지막 레코드의 잔고로 복구하는 저널과는 함께 쓸 수 없다.
+    @Bean
+    public AtomicPointUpdater atomicPointUpdater(UserPointTable userPointTable,
+                                                 UserPointRepository userPointRepository,
+                                                 PointHistoryRepository pointHistoryRepository,
+                                                 UserLockManager userLockManager,
+                                                 PointMetrics pointMetrics,
+                                                 PointCommitPublisher pointCommitPublisher,
+                                                 PointMutationProperties pointMutationProperties,
+                                                 UserPointStoreProperties userPointStoreProperties,
+                                                 Environment environment) {
+        boolean enabled = pointMutationProperties.mode() == PointMutationProperties.Mode.CAS;
+        if (enabled && userPointStoreProperties.type() != UserPointStoreProperties.Type.PRIMITIVE) {
+            throw new IllegalStateException("CAS 모드는 point.store.type=primitive 에서만 사용할 수 있습니다.");
+        }
+        if (enabled && environment.getProperty("point.journal.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("CAS 모드는 포인트 저널(point.journal.enabled)과 함께 사용할 수 없습니다.");
+        }
+        return new AtomicPointUpdater(userPointTable, userPointRepository, pointHistoryRepository, userLockManager,
+                pointMetrics, pointCommitPublisher, enabled);
+    }
+
+    //LOCK/CAS 모드에서는 스레드를 만들지 않는 비활성 큐, 종료 시 close 로 스레드 정리
+    //spring.threads.virtual.enabled=true 이면 Tomcat 요청 처리와 함께 명령 처리도 가상 스레드를 사용
+    @Bean
+    public PointCommandQueue pointCommandQueue(PointCommandApplier pointCommandApplier,
+                                               PointMetrics pointMetrics,
+                                               PointMutationProperties pointMutationProperties,
+                                               Environment environment) {
+        return new PointCommandQueue(pointCommandApplier, pointMetrics, pointMutationProperties,
+                Threading.VIRTUAL.isActive(environment));
+    }
+
+    //일괄 처리는 유저 단위 작업을 point.mutation.threads 만큼 병렬로 처리 (가상 스레드 모드에서는 작업마다 가상 스레드)
+    //한 요청의 항목 수는 point.batch.max-operations 로 제한
+    @Bean
+    public PointBatchService pointBatchService(PointCommandApplier pointCommandApplier,
+                                               AtomicPointUpdater atomicPointUpdater,
+                                               PointShardRouter pointShardRouter,
+                                               PointCommandQueue pointCommandQueue,
+                                               UserLockManager userLockManager,
+                                               PointMutationProperties pointMutationProperties,
+                                               PointBatchProperties pointBatchProperties,
+                                               Environment environment) {
+        if (pointBatchProperties.maxOperations() < 1) {
+            throw new IllegalStateException("point.batch.max-operations 는 1 이상이어야 합니다.");
+        }
+        return new PointBatchService(pointCommandApplier, atomicPointUpdater, pointShardRouter, pointCommandQueue,
+                userLockManager, pointBatchExecutor(pointMutationProperties, environment),
+                pointMutationProperties.maxBatch(), pointBatchProperties.maxOperations());
+    }
+
+    //MeterBinder 빈이므로 cache.* 지표는 자동으로 등록된다.
+    @Bean
+    public PointIdempotencyStore pointIdempotencyStore(PointIdempotencyProperties pointIdempotencyProperties) {
+        return new PointIdempotencyStore(Duration.ofSeconds(pointIdempotencyProperties.ttlSeconds()),
+                pointIdempotencyProperties.maximumSize());
+    }
+
+    //MeterBinder 빈이므로 point.admission.* 지표는 자동으로 등록된다.
+    @Bean
+    public PointAdmissionControl pointAdmissionControl(PointAdmissionProperties pointAdmissionProperties) {
+        return new PointAdmissionControl(pointAdmissionProperties);
+    }
+
+    private static ExecutorService pointBatchExecutor(PointMutationProperties properties, Environment environment) {
+        if (Threading.VIRTUAL.isActive(environment)) return Executors.newVirtualThreadPerTaskExecutor();
+        return Executors.newFixedThreadPool(properties.threads());
+    }
+}
@@ -0,0 +1,54 @@
+package io.hhplus.tdd.point.service;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * 유저 ID 별 락 테이블
+ * - 같은 유저의 요청은 공정(fair) 락으로 들어온 순서대로 처리
+ * - 서로 다른 유저의 요청은 서로의 락을 기다리지 않고 병렬로 처리
+ *   (기본 설정의 PointHistoryTable 저장은 테이블 락으로 모든 유저가 순차 처리 - PointHistoryTableRepository 참고)
+ * - 락을 점유/대기하는 스레드가 없어지면 테이블에서 제거 (유휴 엔트리 정리)
+ */
+@Component
+public class UserLockManager {
+
+    private final ConcurrentHashMap<Long, LockEntry> locks = new ConcurrentHashMap<>();
+
+    public <T> T executeWithLock(long userId, Supplier<T> action) {
+        LockEntry entry = acquire(userId);
+        entry.lock.lock();
+        try {
+            return action.get();
+        } finally {
+            entry.lock.unlock();
+            release(userId);
+        }
+    }
+
+    //현재 테이블에 남아있는 락 개수
+    public int size() {
+        return locks.size();
+    }
+
+    //참조 카운트 증가는 compute 안에서 처리해야 release 와 경합해도 엔트리가 유실되지 않는다.
+    private LockEntry acquire(long userId) {
+        return locks.compute(userId, (id, entry) -> {
+            if (entry == null) entry = new LockEntry();
+            entry.holders++;
+            return entry;
+        });
+    }
+
+    private void release(long userId) {
+        locks.computeIfPresent(userId, (id, entry) -> --entry.holders == 0 ? null : entry);
+    }
+
+    private static final class LockEntry {
+        private final ReentrantLock lock = new ReentrantLock(true);
+        private int holders; //compute 안에서만 변경
+    }
+}
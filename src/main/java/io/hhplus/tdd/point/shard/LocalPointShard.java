@@ -0,0 +1,150 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointSummary;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.AtomicPointUpdater;
+import io.hhplus.tdd.point.service.PointAdmissionRejectedException;
+import io.hhplus.tdd.point.service.PointCommandQueue;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.UserLockManager;
+
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * 같은 프로세스 안의 샤드
+ * - 샤드마다 자기 테이블(저장소)과 PointService(LOCK 모드), 처리 스레드 풀을 따로 두어 다른 샤드와 경합하지 않는다.
+ * - 대기 큐가 가득 차면 PointAdmissionRejectedException(429) 으로 바로 거절 (backpressure)
+ * - 종료 시 대기 중인 요청을 마저 처리한 뒤 샤드 저장소(write-behind 등)를 닫는다.
+ * - 내역 id 는 샤드의 테이블이 부여하므로 샤드 안에서만 고유하다. (유저 단위 커서로 사용하는 데는 문제 없음)
+ */
+public class LocalPointShard implements PointShard, AutoCloseable {
+
+    private final String id;
+    private final PointService pointService;
+    private final PointMetrics pointMetrics;
+    private final ThreadPoolExecutor executor;
+    private final List<AutoCloseable> resources;
+    private final LongAdder requests = new LongAdder();
+
+    public LocalPointShard(String id, PointService pointService, PointMetrics pointMetrics, int threads, int queueCapacity) {
+        this(id, pointService, pointMetrics, threads, queueCapacity, List.of());
+    }
+
+    private LocalPointShard(String id, PointService pointService, PointMetrics pointMetrics, int threads,
+                            int queueCapacity, List<AutoCloseable> resources) {
+        this.id = id;
+        this.pointService = pointService;
+        this.pointMetrics = pointMetrics;
+        this.resources = resources;
+        AtomicInteger sequence = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                runnable -> new Thread(runnable, "point-" + id + "-" + sequence.incrementAndGet()));
+    }
+
+    //샤드 전용 저장소로 LOCK 모드 PointService 를 만든다. (명령 큐, CAS, 샤드 라우팅은 사용하지 않음)
+    public static LocalPointShard of(String id,
+                                     UserPointTable userPointTable,
+                                     UserPointRepository userPointRepository,
+                                     PointHistoryRepository pointHistoryRepository,
+                                     PointMetrics pointMetrics,
+                                     PointCommitPublisher pointCommitPublisher,
+                                     int threads,
+                                     int queueCapacity) {
+        PointCommandQueue pointCommandQueue = new PointCommandQueue(null, pointMetrics,
+                new PointMutationProperties(PointMutationProperties.Mode.LOCK, 1, 1, 0L));
+        UserLockManager userLockManager = new UserLockManager();
+        AtomicPointUpdater atomicPointUpdater = new AtomicPointUpdater(userPointTable, userPointRepository,
+                pointHistoryRepository, userLockManager, pointMetrics, pointCommitPublisher, false);
+        PointService pointService = new PointService(userPointTable, userPointRepository, pointHistoryRepository,
+                userLockManager, pointCommandQueue, pointMetrics, pointCommitPublisher, atomicPointUpdater,
+                PointShardRouter.disabled(), HotUserRouter.disabled());
+        List<AutoCloseable> resources = pointHistoryRepository instanceof AutoCloseable closeable
+                ? List.of(closeable)
+                : List.of();
+        return new LocalPointShard(id, pointService, pointMetrics, threads, queueCapacity, resources);
+    }
+
+    @Override
+    public String id() {
+        return id;
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> select(long userId) {
+        return submit(() -> pointService.select(userId));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> charge(long userId, long amount) {
+        return submit(() -> pointService.charge(userId, amount));
+    }
+
+    @Override
+    public CompletableFuture<UserPoint> use(long userId, long amount) {
+        return submit(() -> pointService.use(userId, amount));
+    }
+
+    @Override
+    public CompletableFuture<List<PointHistory>> histories(long userId, PointHistoryQuery query, int limit) {
+        return submit(() -> pointService.selectPointHistory(userId, query, limit));
+    }
+
+    @Override
+    public CompletableFuture<PointSummary> summary(long userId) {
+        return submit(() -> pointService.selectSummary(userId));
+    }
+
+    @Override
+    public int queueDepth() {
+        return executor.getQueue().size();
+    }
+
+    @Override
+    public long requestCount() {
+        return requests.sum();
+    }
+
+    @Override
+    public void close() throws Exception {
+        executor.shutdown();
+        if (!executor.awaitTermination(30, TimeUnit.SECONDS)) executor.shutdownNow();
+        for (AutoCloseable resource : resources) {
+            resource.close();
+        }
+    }
+
+    //샤드 큐에서 기다린 시간은 명령 큐 대기 시간(point.wait type=queue)으로 기록
+    private <T> CompletableFuture<T> submit(Supplier<T> action) {
+        requests.increment();
+        long submittedAt = System.nanoTime();
+        try {
+            return CompletableFuture.supplyAsync(() -> {
+                pointMetrics.recordQueueWait(System.nanoTime() - submittedAt);
+                return action.get();
+            }, executor);
+        } catch (RejectedExecutionException e) {
+            //종료 중인 샤드의 거절은 그대로 전달하고, 대기 큐가 가득 찬 경우만 재시도할 수 있는 거절로 바꾼다.
+            if (executor.isShutdown()) return CompletableFuture.failedFuture(e);
+            return CompletableFuture.failedFuture(
+                    new PointAdmissionRejectedException("샤드 대기 요청이 많습니다. 잠시 후 다시 시도해 주세요.", 1L));
+        }
+    }
+}
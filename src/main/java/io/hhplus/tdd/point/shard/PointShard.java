@@ -0,0 +1,35 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointSummary;
+import io.hhplus.tdd.point.repository.UserPoint;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 유저 일부의 포인트를 맡는 파티션(샤드)
+ * - 모든 호출은 비동기이고 값만 주고받으므로, 다른 노드의 샤드는 이 인터페이스를 원격 호출로 구현하면 된다.
+ * - 라우팅은 샤드 id 로 하므로 샤드가 다른 노드로 옮겨져도 유저 배치는 바뀌지 않는다.
+ */
+public interface PointShard {
+
+    String id();
+
+    CompletableFuture<UserPoint> select(long userId);
+
+    CompletableFuture<UserPoint> charge(long userId, long amount);
+
+    CompletableFuture<UserPoint> use(long userId, long amount);
+
+    CompletableFuture<List<PointHistory>> histories(long userId, PointHistoryQuery query, int limit);
+
+    CompletableFuture<PointSummary> summary(long userId);
+
+    //처리를 기다리는 요청 수
+    int queueDepth();
+
+    //받은 요청 수 (처리량 지표)
+    long requestCount();
+}
@@ -0,0 +1,99 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.CachedUserPointRepository;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProperties;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryStoreProperties;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.TimedAtomicUserPointRepository;
+import io.hhplus.tdd.point.repository.TimedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.TimedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointCacheProperties;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointStoreProperties;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.point.repository.WriteBehindProperties;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Configuration
+@EnableConfigurationProperties(PointShardProperties.class)
+public class PointShardConfig {
+
+    //비활성이면 샤드를 만들지 않는 라우터, MeterBinder 빈이므로 샤드 지표는 자동으로 등록된다. (종료 시 close 로 스레드 정리)
+    //샤드 안에서는 유저 락으로 처리하고, 잔고를 공용 저장소에 복구하는 저널과는 함께 쓸 수 없다.
+    @Bean
+    public PointShardRouter pointShardRouter(PointShardProperties properties,
+                                             PointMutationProperties pointMutationProperties,
+                                             UserPointCacheProperties userPointCacheProperties,
+                                             UserPointStoreProperties userPointStoreProperties,
+                                             LatencyProperties latencyProperties,
+                                             PointHistoryStoreProperties pointHistoryStoreProperties,
+                                             WriteBehindProperties writeBehindProperties,
+                                             PointMetrics pointMetrics,
+                                             PointCommitPublisher pointCommitPublisher,
+                                             MeterRegistry meterRegistry,
+                                             Environment environment) {
+        if (!properties.enabled()) return PointShardRouter.disabled();
+        if (pointMutationProperties.mode() != PointMutationProperties.Mode.LOCK) {
+            throw new IllegalStateException("샤드 모드는 point.mutation.mode=lock 에서만 사용할 수 있습니다.");
+        }
+        if (environment.getProperty("point.journal.enabled", Boolean.class, false)) {
+            throw new IllegalStateException("샤드 모드는 포인트 저널(point.journal.enabled)과 함께 사용할 수 없습니다.");
+        }
+
+        int count = properties.shardCount();
+        List<LocalPointShard> shards = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            UserPointTable userPointTable = new UserPointTable();
+            shards.add(LocalPointShard.of("shard-" + i, userPointTable,
+                    userPointRepository(userPointTable, latencyProperties, userPointCacheProperties,
+                            userPointStoreProperties, count, meterRegistry),
+                    pointHistoryRepository(latencyProperties, pointHistoryStoreProperties, writeBehindProperties,
+                            meterRegistry),
+                    pointMetrics, pointCommitPublisher, properties.threads(), properties.queueCapacity()));
+        }
+        return new PointShardRouter(new PointShardRing(shards, properties.virtualNodes()));
+    }
+
+    //샤드마다 저장소(point.store, point.latency 설정을 따름)를 따로 두고, 배열 크기와 조회 캐시는 전체 크기를 샤드 수로 나눠 사용
+    private static UserPointRepository userPointRepository(UserPointTable userPointTable,
+                                                           LatencyProperties latencyProperties,
+                                                           UserPointCacheProperties cacheProperties,
+                                                           UserPointStoreProperties storeProperties,
+                                                           int count,
+                                                           MeterRegistry meterRegistry) {
+        if (storeProperties.type() == UserPointStoreProperties.Type.PRIMITIVE) {
+            return new TimedAtomicUserPointRepository(
+                    new PrimitiveUserPointRepository(Math.max(1, storeProperties.expectedUsers() / count)), meterRegistry);
+        }
+        UserPointRepository repository = new TimedUserPointRepository(
+                latencyProperties.userPointRepository(userPointTable), meterRegistry);
+        if (!cacheProperties.enabled()) return repository;
+        return new CachedUserPointRepository(repository, Math.max(1L, cacheProperties.maximumSize() / count));
+    }
+
+    //비동기 저장(point.history.write-behind)을 켜면 샤드마다 write-behind 저장소를 두고, 샤드 종료 시 남은 내역을 저장
+    private static PointHistoryRepository pointHistoryRepository(LatencyProperties latencyProperties,
+                                                                 PointHistoryStoreProperties storeProperties,
+                                                                 WriteBehindProperties writeBehindProperties,
+                                                                 MeterRegistry meterRegistry) {
+        PointHistoryRepository repository = new IndexedPointHistoryRepository(new TimedPointHistoryRepository(
+                latencyProperties.pointHistoryRepository(new PointHistoryTable()), meterRegistry), storeProperties.type());
+        if (!writeBehindProperties.enabled()) return repository;
+        return new WriteBehindPointHistoryRepository(
+                repository, writeBehindProperties.capacity(), writeBehindProperties.batchSize());
+    }
+}
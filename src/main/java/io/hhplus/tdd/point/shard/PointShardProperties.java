@@ -0,0 +1,27 @@
+package io.hhplus.tdd.point.shard;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+/**
+ * 샤드(파티션) 모드 설정
+ *
+ * @param enabled       true : 유저를 count 개의 샤드에 나눠 샤드마다 독립된 테이블과 스레드 풀로 처리 (point.mutation.mode=lock 필요)
+ * @param count         샤드 수, 0 이면 CPU 코어 수
+ * @param threads       샤드마다 요청을 처리하는 스레드 수
+ * @param queueCapacity 샤드마다 처리를 기다릴 수 있는 최대 요청 수, 넘으면 거절
+ * @param virtualNodes  consistent hash ring 에 샤드마다 두는 점의 수, 클수록 유저가 고르게 나뉜다.
+ */
+@ConfigurationProperties(prefix = "point.shard")
+public record PointShardProperties(
+        @DefaultValue("false") boolean enabled,
+        @DefaultValue("0") int count,
+        @DefaultValue("16") int threads,
+        @DefaultValue("10000") int queueCapacity,
+        @DefaultValue("160") int virtualNodes
+) {
+
+    public int shardCount() {
+        return count > 0 ? count : Runtime.getRuntime().availableProcessors();
+    }
+}
@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.shard;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 유저 id 를 샤드에 배정하는 consistent hash ring
+ * - 샤드마다 virtualNodes 개의 점을 ring 에 두고, 유저 id 의 해시에서 시계 방향으로 처음 만나는 점의 샤드에 배정
+ * - 샤드를 추가/제거해도 해당 샤드 몫의 유저(약 1/N)만 옮겨진다.
+ * - 점의 위치는 샤드 id 로만 정해지므로 어느 노드에서 만들어도 같은 배정 결과가 나온다.
+ * - ring 은 생성 후 바뀌지 않으며 정렬된 배열을 이분 탐색하므로 조회에 락이나 할당이 없다.
+ */
+public final class PointShardRing {
+
+    private final long[] points;
+    private final int[] owners; //points[i] 의 샤드 인덱스
+    private final List<PointShard> shards;
+
+    public PointShardRing(List<? extends PointShard> shards, int virtualNodes) {
+        if (shards.isEmpty()) throw new IllegalArgumentException("샤드가 없습니다.");
+        this.shards = List.copyOf(shards);
+
+        long[][] nodes = new long[shards.size() * virtualNodes][];
+        int n = 0;
+        for (int shard = 0; shard < shards.size(); shard++) {
+            for (int node = 0; node < virtualNodes; node++) {
+                nodes[n++] = new long[]{hash(shards.get(shard).id() + "#" + node), shard};
+            }
+        }
+        Arrays.sort(nodes, (a, b) -> Long.compare(a[0], b[0]));
+        this.points = new long[nodes.length];
+        this.owners = new int[nodes.length];
+        for (int i = 0; i < nodes.length; i++) {
+            points[i] = nodes[i][0];
+            owners[i] = (int) nodes[i][1];
+        }
+    }
+
+    public PointShard route(long userId) {
+        int index = Arrays.binarySearch(points, mix(userId));
+        if (index < 0) index = -index - 1;
+        if (index == points.length) index = 0; //ring 의 끝을 지나면 처음 점으로
+        return shards.get(owners[index]);
+    }
+
+    public List<PointShard> shards() {
+        return shards;
+    }
+
+    //FNV-1a 로 문자열을 64비트로 만든 뒤 비트를 고르게 섞는다.
+    private static long hash(String key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return mix(h);
+    }
+
+    private static long mix(long value) {
+        long h = value * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 32;
+        h *= 0xD6E8FEB86659FD93L;
+        return h ^ (h >>> 32);
+    }
+}
@@ -0,0 +1,77 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * PointService 앞단에서 유저 id 로 샤드를 골라 요청을 넘기는 라우터
+ * - 비활성 라우터(disabled)는 샤드가 없으며 PointService 가 직접 처리한다.
+ * - 지표 : point.shard.count, 샤드별 point.shard.queue(대기 요청 수), point.shard.requests(받은 요청 수, 처리량)
+ */
+public class PointShardRouter implements MeterBinder, AutoCloseable {
+
+    private static final PointShardRouter DISABLED = new PointShardRouter(null);
+
+    private final PointShardRing ring;
+
+    public PointShardRouter(PointShardRing ring) {
+        this.ring = ring;
+    }
+
+    public static PointShardRouter disabled() {
+        return DISABLED;
+    }
+
+    public boolean isEnabled() {
+        return ring != null;
+    }
+
+    public PointShard route(long userId) {
+        return ring.route(userId);
+    }
+
+    public CompletableFuture<UserPoint> apply(long userId, TransactionType type, long amount) {
+        PointShard shard = route(userId);
+        return switch (type) {
+            case CHARGE -> shard.charge(userId, amount);
+            case USE -> shard.use(userId, amount);
+            case EXPIRE -> throw new IllegalStateException("충전/사용만 처리할 수 있습니다. : " + type);
+        };
+    }
+
+    public List<PointShard> shards() {
+        return isEnabled() ? ring.shards() : List.of();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        List<PointShard> shards = shards();
+        Gauge.builder("point.shard.count", shards, List::size)
+                .description("포인트 샤드 수")
+                .register(registry);
+        for (PointShard shard : shards) {
+            Gauge.builder("point.shard.queue", shard, PointShard::queueDepth)
+                    .tag("shard", shard.id())
+                    .description("샤드에서 처리를 기다리는 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("point.shard.requests", shard, PointShard::requestCount)
+                    .tag("shard", shard.id())
+                    .description("샤드가 받은 요청 수")
+                    .register(registry);
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (PointShard shard : shards()) {
+            if (shard instanceof AutoCloseable closeable) closeable.close();
+        }
+    }
+}
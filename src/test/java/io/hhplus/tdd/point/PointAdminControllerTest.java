@@ -0,0 +1,82 @@
+package io.hhplus.tdd.point;
+
+import io.hhplus.tdd.point.controller.PointAdminController;
+import io.hhplus.tdd.point.hot.HotUser;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.reconcile.PointBalanceMismatch;
+import io.hhplus.tdd.point.reconcile.PointReconciliationReport;
+import io.hhplus.tdd.point.reconcile.PointReconciliationService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+@WebMvcTest(controllers = PointAdminController.class)
+class PointAdminControllerTest {
+
+    @Autowired
+    public MockMvc mockMvc;
+
+    @MockBean
+    private PointReconciliationService pointReconciliationService;
+
+    @MockBean
+    private HotUserRouter hotUserRouter;
+
+    @Test
+    @DisplayName("GET /admin/point/hot-users 직전 구간의 상위 유저와 초당 요청 수, hot 여부 조회")
+    void hotUsersTest() throws Exception {
+        //given
+        when(hotUserRouter.topUsers()).thenReturn(List.of(
+                new HotUser(3L, 120L, true),
+                new HotUser(4L, 6L, false)
+        ));
+
+        //when, then
+        mockMvc.perform(get("/admin/point/hot-users"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/json"))
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(jsonPath("$[0].userId").value(3))
+                .andExpect(jsonPath("$[0].requestsPerSecond").value(120))
+                .andExpect(jsonPath("$[0].hot").value(true))
+                .andExpect(jsonPath("$[1].userId").value(4))
+                .andExpect(jsonPath("$[1].hot").value(false));
+    }
+
+    @Test
+    @DisplayName("GET /admin/point/hot-users 추적을 끄면 빈 목록")
+    void hotUsersDisabledTest() throws Exception {
+        //given
+        when(hotUserRouter.topUsers()).thenReturn(List.of());
+
+        //when, then
+        mockMvc.perform(get("/admin/point/hot-users"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$").isEmpty());
+    }
+
+    @Test
+    @DisplayName("POST /admin/point/reconciliation repair 파라미터를 그대로 서비스에 전달")
+    void reconcileTest() throws Exception {
+        //given
+        when(pointReconciliationService.reconcile(true)).thenReturn(new PointReconciliationReport(3L, 10L, 1L, 1L,
+                1L, 2L, List.of(new PointBalanceMismatch(3L, 100L, 0L, 90L, true))));
+
+        //when, then
+        mockMvc.perform(post("/admin/point/reconciliation").param("repair", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mismatched").value(1))
+                .andExpect(jsonPath("$.mismatches[0].userId").value(3))
+                .andExpect(jsonPath("$.mismatches[0].repaired").value(true));
+    }
+}
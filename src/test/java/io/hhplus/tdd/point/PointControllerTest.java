@@ -3,9 +3,21 @@ package io.hhplus.tdd.point;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.point.controller.PointController;
+import io.hhplus.tdd.point.event.PointEvent;
+import io.hhplus.tdd.point.event.PointEventHub;
 import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointSummary;
 import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointAdmissionControl;
+import io.hhplus.tdd.point.service.PointAdmissionRejectedException;
+import io.hhplus.tdd.point.service.PointBatchService;
+import io.hhplus.tdd.point.service.PointBatchTooLargeException;
+import io.hhplus.tdd.point.service.PointIdempotencyStore;
+import io.hhplus.tdd.point.service.PointOperation;
+import io.hhplus.tdd.point.service.PointOperationResult;
 import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -13,15 +25,30 @@ import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 @WebMvcTest(controllers = PointController.class)
@@ -36,9 +63,30 @@ class PointControllerTest {
     @MockBean
     private PointService pointService;
 
+    @MockBean
+    private PointBatchService pointBatchService;
+
+    @MockBean
+    private PointIdempotencyStore pointIdempotencyStore;
+
+    @MockBean
+    private PointEventHub pointEventHub;
+
+    @MockBean
+    private PointAdmissionControl pointAdmissionControl;
+
     @MockBean
     private PointHistoryTable pointHistoryTable;
 
+    //요청 수 제한은 거절 테스트를 제외하고 그대로 통과
+    @BeforeEach
+    void setUp() {
+        when(pointAdmissionControl.execute(anyLong(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+        when(pointAdmissionControl.execute(anyList(), any()))
+                .thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
+    }
+
     @Test
     @DisplayName("GET /point/{id} 특정 유저의 포인트 조회")
     void selectTest() throws Exception {
@@ -76,6 +124,108 @@ class PointControllerTest {
                 .andExpect(jsonPath("$").isArray());
     }
 
+    @Test
+    @DisplayName("GET /point/{id}/histories 커서/기간/종류 조건과 limit(최대 1000건)을 그대로 서비스에 전달")
+    void historyQueryTest() throws Exception {
+
+        //given
+        long id = 1L;
+        PointHistoryQuery query = new PointHistoryQuery(3L, 10L, 20L, USE);
+
+        //when
+        when(pointService.selectPointHistory(id, query, 2))
+                .thenReturn(List.of(new PointHistory(4L, id, 30L, USE, 15L)));
+
+        //then
+        mockMvc.perform(get("/point/{id}/histories", id)
+                        .param("after", "3")
+                        .param("from", "10")
+                        .param("to", "20")
+                        .param("type", "USE")
+                        .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].id").value(4L))
+                .andExpect(jsonPath("$[0].type").value("USE"));
+        mockMvc.perform(get("/point/{id}/histories", id).param("limit", "5000"))
+                .andExpect(status().isOk());
+        verify(pointService).selectPointHistory(id, PointHistoryQuery.ALL, 1_000);
+    }
+
+    @Test
+    @DisplayName("GET /point/{id}/histories/stream 조건에 맞는 내역을 한 줄에 하나씩(NDJSON) 내려준다")
+    void historyStreamTest() throws Exception {
+
+        //given
+        long id = 1L;
+        PointHistoryQuery query = new PointHistoryQuery(1L, Long.MIN_VALUE, Long.MAX_VALUE, CHARGE);
+
+        //when
+        when(pointService.streamPointHistory(id, query)).thenReturn(Stream.of(
+                new PointHistory(2L, id, 100L, CHARGE, 10L),
+                new PointHistory(5L, id, 200L, CHARGE, 20L)
+        ));
+        MvcResult result = mockMvc.perform(get("/point/{id}/histories/stream", id)
+                        .param("after", "1")
+                        .param("type", "CHARGE"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        //then
+        String body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        List<String> lines = body.lines().toList();
+        assertThat(lines).hasSize(2);
+        assertThat(objectMapper.readValue(lines.get(1), PointHistory.class))
+                .isEqualTo(new PointHistory(5L, id, 200L, CHARGE, 20L));
+    }
+
+    @Test
+    @DisplayName("GET /point/{id}/summary 특정 유저의 충전/사용 요약 조회")
+    void summaryTest() throws Exception {
+
+        //given
+        long id = 1L;
+
+        //when
+        when(pointService.selectSummary(id)).thenReturn(new PointSummary(id, 1_000L, 300L, 3L, 30L));
+
+        //then
+        mockMvc.perform(get("/point/{id}/summary", id))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalCharged").value(1_000L))
+                .andExpect(jsonPath("$.totalUsed").value(300L))
+                .andExpect(jsonPath("$.transactionCount").value(3L))
+                .andExpect(jsonPath("$.lastActivityMillis").value(30L));
+    }
+
+    @Test
+    @DisplayName("GET /point/{id}/events 특정 유저의 포인트 변경 구독")
+    void eventsTest() throws Exception {
+
+        //given
+        long id = 1L;
+        SseEmitter emitter = new SseEmitter();
+        UserPoint userPoint = new UserPoint(id, 100L, 10L);
+        PointHistory pointHistory = new PointHistory(1L, id, 100L, CHARGE, 10L);
+
+        //when
+        when(pointEventHub.subscribe(id)).thenReturn(emitter);
+        MvcResult result = mockMvc.perform(get("/point/{id}/events", id))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        emitter.send(SseEmitter.event().name("point").data(new PointEvent(userPoint, pointHistory)));
+        emitter.complete();
+
+        //then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(content().string(containsString("event:point")))
+                .andExpect(content().string(containsString("\"point\":100")));
+    }
+
     @Test
     @DisplayName("PATCH /point/{id}/charge 특정 유저의 포인트 충전")
     void chargeTest() throws Exception {
@@ -86,21 +236,50 @@ class PointControllerTest {
         UserPoint mockUserPoint = new UserPoint(id, amount, System.currentTimeMillis());
 
         //when
-        when(pointService.charge(anyLong(), anyLong())).thenReturn(mockUserPoint);
+        when(pointService.chargeAsync(anyLong(), anyLong())).thenReturn(CompletableFuture.completedFuture(mockUserPoint));
 
         //JSON to String
         String jsonContent = objectMapper.writeValueAsString(amount);
 
-        //then
-        mockMvc.perform(patch("/point/{id}/charge", id)
+        //then (CompletableFuture 반환이므로 비동기 처리 후 결과 검증)
+        MvcResult mvcResult = mockMvc.perform(patch("/point/{id}/charge", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonContent))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk()) //200 response
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.id").value(id))
                 .andExpect(jsonPath("$.point").value(amount));
     }
 
+    @Test
+    @DisplayName("PATCH /point/{id}/charge Idempotency-Key 헤더가 있으면 중복 요청 저장소를 거쳐 충전")
+    void chargeWithIdempotencyKeyTest() throws Exception {
+
+        //given
+        long id = 1L;
+        long amount = 100L;
+        UserPoint userPoint = new UserPoint(id, amount, System.currentTimeMillis());
+
+        //when
+        when(pointIdempotencyStore.execute(eq("retry-1"), eq(id), eq(CHARGE), eq(amount), any()))
+                .thenReturn(CompletableFuture.completedFuture(userPoint));
+
+        //then
+        MvcResult mvcResult = mockMvc.perform(patch("/point/{id}/charge", id)
+                        .header("Idempotency-Key", "retry-1")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(amount)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.point").value(amount));
+        verify(pointService, never()).chargeAsync(anyLong(), anyLong());
+    }
+
     @Test
     @DisplayName("PATCH /point/{id}/use 특정 유저의 포인트 사용")
     void useTest() throws Exception {
@@ -110,16 +289,91 @@ class PointControllerTest {
         long amount = 100L;
 
         //when
-        when(pointService.use(id, amount)).thenReturn(new UserPoint(id, amount, System.currentTimeMillis()));
+        when(pointService.useAsync(id, amount))
+                .thenReturn(CompletableFuture.completedFuture(new UserPoint(id, amount, System.currentTimeMillis())));
 
         //JSON to String
         String jsonContent = objectMapper.writeValueAsString(amount);
 
         //then
-        mockMvc.perform(patch("/point/{id}/use", id)
+        MvcResult mvcResult = mockMvc.perform(patch("/point/{id}/use", id)
                         .contentType(MediaType.APPLICATION_JSON)
                         .content(jsonContent))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(mvcResult))
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$.id").value(id));
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("POST /point/batch 여러 유저의 포인트 일괄 충전/사용")
+    void batchTest() throws Exception {
+
+        //given
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, 100L, CHARGE),
+                new PointOperation(2L, 1_000L, USE)
+        );
+
+        //when
+        when(pointBatchService.apply(anyList())).thenReturn(List.of(
+                PointOperationResult.success(operations.get(0), 200L),
+                PointOperationResult.failure(operations.get(1), "잔여 포인트보다 많이 사용할 수 없습니다.")
+        ));
+
+        //then : 항목별 결과가 요청 순서대로 반환된다.
+        mockMvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$[0].success").value(true))
+                .andExpect(jsonPath("$[0].point").value(200L))
+                .andExpect(jsonPath("$[1].success").value(false))
+                .andExpect(jsonPath("$[1].message").value("잔여 포인트보다 많이 사용할 수 없습니다."));
+        verify(pointAdmissionControl).execute(eq(operations), any());
+    }
+
+    @Test
+    @DisplayName("POST /point/batch 최대 항목 수를 넘으면 처리하지 않고 400 을 반환")
+    void batchTooLargeTest() throws Exception {
+
+        //given
+        List<PointOperation> operations = List.of(
+                new PointOperation(1L, 100L, CHARGE),
+                new PointOperation(2L, 100L, CHARGE)
+        );
+
+        //when
+        doThrow(new PointBatchTooLargeException(2, 1)).when(pointBatchService).checkSize(anyList());
+
+        //then
+        mockMvc.perform(post("/point/batch")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(operations)))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.code").value("400"));
+        verify(pointBatchService, never()).apply(anyList());
+    }
+
+    @Test
+    @DisplayName("PATCH /point/{id}/use 요청 수 제한을 넘으면 429 와 Retry-After 를 반환")
+    void useRejectedTest() throws Exception {
+
+        //given
+        long id = 1L;
+
+        //when
+        when(pointAdmissionControl.execute(eq(id), any()))
+                .thenThrow(new PointAdmissionRejectedException("요청이 너무 많습니다. 잠시 후 다시 시도해 주세요.", 2L));
+
+        //then
+        mockMvc.perform(patch("/point/{id}/use", id)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(100L)))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "2"))
+                .andExpect(jsonPath("$.code").value("429"));
+        verify(pointService, never()).useAsync(anyLong(), anyLong());
+    }
+}
@@ -0,0 +1,148 @@
+package io.hhplus.tdd.point.event;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.UserPoint;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointEventHubTest {
+
+    private final PointEventHub pointEventHub = new PointEventHub(4, 0L, 0L);
+
+    @AfterEach
+    void tearDown() {
+        pointEventHub.close();
+    }
+
+    @Test
+    @DisplayName("구독한 유저의 변경만 반영 순서대로 전달된다")
+    void deliverInOrderTest() throws InterruptedException {
+        //given
+        RecordingEmitter emitter = new RecordingEmitter();
+        pointEventHub.subscribe(1L, emitter);
+
+        //when
+        for (long i = 1; i <= 3; i++) {
+            pointEventHub.onCommit(new UserPoint(1L, i * 100L, i), new PointHistory(i, 1L, 100L, CHARGE, i));
+            pointEventHub.onCommit(new UserPoint(2L, i * 100L, i), new PointHistory(i, 2L, 100L, CHARGE, i));
+        }
+
+        //then
+        assertThat(emitter.received.tryAcquire(3, 1, TimeUnit.SECONDS)).isTrue();
+        assertThat(emitter.events).extracting(event -> event.userPoint().point()).containsExactly(100L, 200L, 300L);
+    }
+
+    @Test
+    @DisplayName("전송이 밀린 느린 구독자는 연결을 끊고, 다른 구독자에게는 계속 전달된다")
+    void dropSlowSubscriberTest() throws InterruptedException {
+        //given : 첫 전송에서 멈춰 있는 구독자와 정상 구독자
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingEmitter slow = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.send(builder);
+            }
+        };
+        RecordingEmitter fast = new RecordingEmitter();
+        pointEventHub.subscribe(1L, slow);
+        pointEventHub.subscribe(1L, fast);
+
+        //when : 정상 구독자가 받을 때마다 다음 변경을 반영해 느린 구독자에게만 buffer(4) 보다 많이 쌓이도록 한다.
+        for (long i = 1; i <= 10; i++) {
+            pointEventHub.onCommit(new UserPoint(1L, i, i), new PointHistory(i, 1L, 1L, CHARGE, i));
+            assertThat(fast.received.tryAcquire(1, TimeUnit.SECONDS)).isTrue();
+        }
+        release.countDown();
+
+        //then
+        assertThat(fast.events).hasSize(10);
+        assertThat(pointEventHub.droppedCount()).isEqualTo(1L);
+        assertThat(pointEventHub.subscriberCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("느린 구독자의 응답 종료는 전송 스레드에서 하므로 진행 중인 전송이 막혀 있어도 반영 스레드는 기다리지 않는다")
+    void completeOffPublishingThreadTest() throws InterruptedException {
+        //given : 첫 전송에서 멈춰 있고, 종료(complete)도 그 전송이 끝나야 반환되는 구독자
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        AtomicReference<Thread> completedBy = new AtomicReference<>();
+        RecordingEmitter slow = new RecordingEmitter() {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                awaitRelease();
+                super.send(builder);
+            }
+
+            @Override
+            public void complete() {
+                completedBy.set(Thread.currentThread());
+                awaitRelease();
+                completed.countDown();
+            }
+
+            //종료가 반영 스레드에서 호출되면 반영이 2초 동안 막힌다.
+            private void awaitRelease() {
+                try {
+                    release.await(2, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        };
+        pointEventHub.subscribe(1L, slow);
+
+        //when : buffer(4) 보다 많이 반영
+        long startedAt = System.nanoTime();
+        for (long i = 1; i <= 10; i++) {
+            pointEventHub.onCommit(new UserPoint(1L, i, i), new PointHistory(i, 1L, 1L, CHARGE, i));
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+        long droppedBeforeRelease = pointEventHub.droppedCount();
+        release.countDown();
+
+        //then
+        assertThat(elapsedMillis).isLessThan(1_000L);
+        assertThat(droppedBeforeRelease).isEqualTo(1L);
+        assertThat(pointEventHub.subscriberCount()).isZero();
+        assertThat(completed.await(1, TimeUnit.SECONDS)).isTrue();
+        assertThat(completedBy.get()).isNotEqualTo(Thread.currentThread());
+    }
+
+    //send 로 전달된 이벤트를 기록하는 emitter (응답 없이 사용)
+    private static class RecordingEmitter extends SseEmitter {
+        private final List<PointEvent> events = new CopyOnWriteArrayList<>();
+        private final Semaphore received = new Semaphore(0);
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            builder.build().stream()
+                    .map(ResponseBodyEmitter.DataWithMediaType::getData)
+                    .filter(PointEvent.class::isInstance)
+                    .map(PointEvent.class::cast)
+                    .forEach(event -> {
+                        events.add(event);
+                        received.release();
+                    });
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package io.hhplus.tdd.point.expiry;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.AtomicPointUpdater;
+import io.hhplus.tdd.point.service.PointCommandApplier;
+import io.hhplus.tdd.point.service.PointCommandQueue;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointMutationProperties;
+import io.hhplus.tdd.point.service.PointService;
+import io.hhplus.tdd.point.service.UserLockManager;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.EXPIRE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class PointExpirySchedulerTest {
+
+    private static final long TTL_MILLIS = 10_000L;
+    private static final long TICK_MILLIS = 100L;
+
+    private final UserPointTable userPointTable = new UserPointTable();
+    private final UserPointRepository userPointRepository =
+            new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none());
+    private final PointHistoryRepository pointHistoryRepository =
+            new IndexedPointHistoryRepository(new SimulatedPointHistoryRepository(LatencyProfile.none()));
+    private final UserLockManager userLockManager = new UserLockManager();
+    private final PointLotLedger pointLotLedger = new PointLotLedger(TTL_MILLIS);
+    private final PointCommitPublisher pointCommitPublisher = new PointCommitPublisher(List.of(pointLotLedger));
+    private PointService pointService;
+    private PointExpiryScheduler pointExpiryScheduler;
+
+    @BeforeEach
+    void setUp() {
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointCommandQueue pointCommandQueue = new PointCommandQueue(new PointCommandApplier(userPointTable,
+                userPointRepository, pointHistoryRepository, pointMetrics, pointCommitPublisher),
+                pointMetrics, new PointMutationProperties(PointMutationProperties.Mode.LOCK, 1, 1, 0L));
+        pointService = new PointService(userPointTable, userPointRepository, pointHistoryRepository,
+                userLockManager, pointCommandQueue, pointMetrics, pointCommitPublisher,
+                new AtomicPointUpdater(userPointTable, userPointRepository, pointHistoryRepository,
+                        userLockManager, pointMetrics, pointCommitPublisher, false),
+                PointShardRouter.disabled(), HotUserRouter.disabled());
+        //만료 반영을 호출 스레드에서 바로 처리
+        pointExpiryScheduler = new PointExpiryScheduler(pointLotLedger, userPointRepository, pointHistoryRepository,
+                userLockManager, pointCommitPublisher, TICK_MILLIS, Runnable::run);
+    }
+
+    @Test
+    @DisplayName("사용은 오래된 충전 묶음부터 차감하고, 유효기간이 지나면 남은 포인트만 EXPIRE 내역과 함께 소멸한다")
+    void expireRemainingLotsTest() {
+        //given : 100 충전, 50 충전 후 120 사용 -> 첫 묶음 0, 둘째 묶음 30 남음
+        long id = 4L;
+        long chargedAt = System.currentTimeMillis();
+        pointService.charge(id, 100L);
+        pointService.charge(id, 50L);
+        pointService.use(id, 120L);
+        assertThat(pointLotLedger.remaining(id)).isEqualTo(30L);
+
+        //when : 유효기간 전에는 그대로, 지나면 소멸
+        pointExpiryScheduler.advance(chargedAt + TTL_MILLIS / 2);
+        long beforeExpiry = pointService.select(id).point();
+        pointExpiryScheduler.advance(System.currentTimeMillis() + TTL_MILLIS + TICK_MILLIS);
+
+        //then
+        assertThat(beforeExpiry).isEqualTo(30L);
+        assertThat(pointService.select(id).point()).isZero();
+        assertThat(pointLotLedger.remaining(id)).isZero();
+        assertThat(pointService.selectPointHistory(id)).extracting(PointHistory::type, PointHistory::amount)
+                .containsExactly(
+                        tuple(CHARGE, 100L),
+                        tuple(CHARGE, 50L),
+                        tuple(USE, 120L),
+                        tuple(EXPIRE, 30L));
+        assertThat(pointService.selectSummary(id).totalExpired()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("같은 틱에 만료되는 한 유저의 여러 묶음은 한 번의 잔고 갱신으로 반영한다")
+    void groupLotsOfSameUserTest() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            pointService.charge(5L, 10L);
+            pointService.charge(6L, 20L);
+        }
+
+        //when
+        pointExpiryScheduler.advance(System.currentTimeMillis() + TTL_MILLIS + TICK_MILLIS);
+
+        //then
+        assertThat(pointService.select(5L).point()).isZero();
+        assertThat(pointService.select(6L).point()).isZero();
+        assertThat(pointService.selectPointHistory(5L)).filteredOn(history -> history.type() == EXPIRE)
+                .extracting(PointHistory::amount).containsExactly(50L);
+        assertThat(pointLotLedger.userCount()).isZero();
+    }
+}
@@ -0,0 +1,60 @@
+package io.hhplus.tdd.point.expiry;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TimingWheelTest {
+
+    @Test
+    @DisplayName("여러 레벨에 걸친 마감 틱의 항목이 모두 정확히 마감 틱에 만료된다")
+    void expireExactlyAtDeadlineTest() {
+        //given : 1틱 ~ 64^4 틱 뒤까지 임의의 마감 틱
+        long start = 1_700_000_000L;
+        TimingWheel<Long> wheel = new TimingWheel<>(start);
+        Random random = new Random(21L);
+        int count = 10_000;
+        for (int i = 0; i < count; i++) {
+            long deadline = start + 1 + (long) (random.nextDouble() * Math.pow(64, random.nextInt(4) + 1));
+            wheel.schedule(deadline, deadline);
+        }
+
+        //when : 한 틱씩 진행하며 만료된 항목과 그 시점의 틱을 기록
+        List<long[]> expired = new ArrayList<>();
+        long end = start + (1L << 24) + 1;
+        for (long tick = start + 1; tick <= end; tick++) {
+            long now = tick;
+            wheel.advance(tick, deadline -> expired.add(new long[]{deadline, now}));
+        }
+
+        //then
+        assertThat(wheel.size()).isZero();
+        assertThat(expired).hasSize(count).allSatisfy(pair -> assertThat(pair[1]).isEqualTo(pair[0]));
+    }
+
+    @Test
+    @DisplayName("한 번에 여러 틱을 진행하거나 이미 지난 마감 틱을 등록해도 빠짐없이 만료된다")
+    void catchUpTest() {
+        //given
+        TimingWheel<String> wheel = new TimingWheel<>(100L);
+        wheel.schedule(50L, "past");
+        wheel.schedule(164L, "next-block");
+        wheel.schedule(100L + 64L * 64L * 3, "level-2");
+
+        //when
+        List<String> first = new ArrayList<>();
+        wheel.advance(200L, first::add);
+        List<String> second = new ArrayList<>();
+        wheel.advance(100L + 64L * 64L * 3, second::add);
+
+        //then
+        assertThat(first).containsExactly("past", "next-block");
+        assertThat(second).containsExactly("level-2");
+        assertThat(wheel.size()).isZero();
+    }
+}
@@ -0,0 +1,65 @@
+package io.hhplus.tdd.point.hot;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CountMinSketchTest {
+
+    @Test
+    @DisplayName("여러 스레드가 같은 유저를 동시에 증가시켜도 요청 수를 잃지 않는다")
+    void concurrentSameKeyTest() {
+        //given : 충돌이 없도록 넓은 sketch, 스레드 8개가 유저 3을 1,000번씩 증가
+        CountMinSketch sketch = new CountMinSketch(4, 1 << 16);
+        int threads = 8, requests = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        CompletableFuture.allOf(IntStream.range(0, threads)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < requests; i++) sketch.increment(3L);
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then
+        assertThat(sketch.estimate(3L)).isEqualTo((long) threads * requests);
+    }
+
+    @Test
+    @DisplayName("충돌이 많은 좁은 sketch 에 여러 스레드가 무작위로 증가시켜도 추정값은 실제 요청 수 이상이다")
+    void concurrentEstimateNotBelowCountTest() {
+        //given : 유저 500명을 64칸에 기록해 충돌이 잦도록
+        CountMinSketch sketch = new CountMinSketch(4, 64);
+        int users = 500, threads = 8, requests = 5_000;
+        AtomicLongArray counts = new AtomicLongArray(users);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        CompletableFuture.allOf(IntStream.range(0, threads)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < requests; i++) {
+                        //절반은 유저 0에 몰리도록
+                        int id = random.nextBoolean() ? 0 : random.nextInt(users);
+                        sketch.increment(id);
+                        counts.incrementAndGet(id);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then
+        for (int id = 0; id < users; id++) {
+            assertThat(sketch.estimate(id)).isGreaterThanOrEqualTo(counts.get(id));
+        }
+    }
+}
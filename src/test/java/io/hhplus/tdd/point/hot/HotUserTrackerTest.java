@@ -0,0 +1,122 @@
+package io.hhplus.tdd.point.hot;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotUserTrackerTest {
+
+    @Test
+    @DisplayName("구간 동안 요청이 기준 이상 몰린 유저만 hot user 로 분류하고, 기준의 절반 아래로 떨어지면 해제한다")
+    void detectHotUsersTest() {
+        //given : 1초 구간, 초당 100건 이상이면 hot
+        HotUserTracker tracker = new HotUserTracker(8, 4, 1 << 16, 1000L, 100L);
+
+        //when : 유저 1은 500건, 유저 2는 120건, 유저 3 ~ 5000은 1건씩
+        for (int i = 0; i < 500; i++) tracker.record(1L);
+        for (int i = 0; i < 120; i++) tracker.record(2L);
+        for (long id = 3L; id <= 5000L; id++) tracker.record(id);
+        boolean hotBeforeRotate = tracker.isHot(1L);
+        tracker.rotate();
+
+        //then
+        assertThat(hotBeforeRotate).isFalse();
+        assertThat(tracker.topUsers()).hasSize(2);
+        assertThat(tracker.topUsers().get(0)).isEqualTo(new HotUser(1L, 500L, true));
+        assertThat(tracker.topUsers().get(1).userId()).isEqualTo(2L);
+        assertThat(tracker.isHot(2L)).isTrue();
+        assertThat(tracker.isHot(3L)).isFalse();
+
+        //when : 다음 구간에서 유저 1은 60건(기준의 절반 이상), 유저 2는 10건
+        for (int i = 0; i < 60; i++) tracker.record(1L);
+        for (int i = 0; i < 10; i++) tracker.record(2L);
+        tracker.rotate();
+
+        //then
+        assertThat(tracker.isHot(1L)).isTrue();
+        assertThat(tracker.isHot(2L)).isFalse();
+    }
+
+    @Test
+    @DisplayName("상위 K 명보다 요청이 많은 유저가 생기면 가장 적은 유저를 밀어낸다")
+    void topKEvictionTest() {
+        //given : 상위 2명만 추적
+        HotUserTracker tracker = new HotUserTracker(2, 4, 1024, 1000L, 10L);
+
+        //when
+        for (int i = 0; i < 10; i++) tracker.record(1L);
+        for (int i = 0; i < 20; i++) tracker.record(2L);
+        for (int i = 0; i < 30; i++) tracker.record(3L);
+        tracker.rotate();
+
+        //then
+        assertThat(tracker.topUsers()).extracting(HotUser::userId).containsExactly(3L, 2L);
+    }
+
+    @Test
+    @DisplayName("hot user 가 상위 K 에서 밀려나도 기준의 절반 이상이면 hot 을 유지하고, 절반 아래로 떨어지면 해제한다")
+    void hysteresisAfterEvictionTest() {
+        //given : 상위 1명만 추적, 초당 10건 이상이면 hot, 유저 3이 hot user
+        HotUserTracker tracker = new HotUserTracker(1, 4, 1024, 1000L, 10L);
+        for (int i = 0; i < 20; i++) tracker.record(3L);
+        tracker.rotate();
+
+        //when : 유저 3은 6건(기준의 절반 이상)이지만 30건인 유저 4에게 상위 1명 자리를 뺏긴다.
+        for (int i = 0; i < 6; i++) tracker.record(3L);
+        for (int i = 0; i < 30; i++) tracker.record(4L);
+        tracker.rotate();
+
+        //then
+        assertThat(tracker.isHot(3L)).isTrue();
+        assertThat(tracker.isHot(4L)).isTrue();
+        assertThat(tracker.topUsers()).containsExactly(new HotUser(4L, 30L, true), new HotUser(3L, 6L, true));
+
+        //when : 유저 3은 2건(기준의 절반 아래)
+        for (int i = 0; i < 2; i++) tracker.record(3L);
+        for (int i = 0; i < 30; i++) tracker.record(4L);
+        tracker.rotate();
+
+        //then
+        assertThat(tracker.isHot(3L)).isFalse();
+        assertThat(tracker.topUsers()).containsExactly(new HotUser(4L, 30L, true));
+    }
+
+    @Test
+    @DisplayName("hot user 수, 전체/hot 요청 수, 상위 유저별 초당 요청 수를 기록하고 상위에서 빠진 유저의 값은 제거한다")
+    void metricsTest() {
+        //given
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        HotUserTracker tracker = new HotUserTracker(8, 4, 1024, 1000L, 10L);
+        tracker.bindTo(meterRegistry);
+
+        //when : 유저 3은 20건, 유저 4는 1건
+        for (int i = 0; i < 20; i++) tracker.record(3L);
+        tracker.record(4L);
+        tracker.rotate();
+
+        //then
+        assertThat(meterRegistry.get("point.hot.users").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.hot.requests").tag("type", "all").functionCounter().count())
+                .isEqualTo(21.0);
+        assertThat(meterRegistry.get("point.hot.requests").tag("type", "hot").functionCounter().count())
+                .isZero();
+        assertThat(meterRegistry.get("point.hot.rate").tag("user", "3").gauge().value()).isEqualTo(20.0);
+        assertThat(meterRegistry.find("point.hot.rate").tag("user", "4").gauge()).isNull();
+
+        //when : 다음 구간에서 유저 3은 1건(hot 해제), 유저 5는 20건
+        tracker.record(3L);
+        for (int i = 0; i < 20; i++) tracker.record(5L);
+        tracker.rotate();
+
+        //then
+        assertThat(meterRegistry.get("point.hot.users").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.hot.requests").tag("type", "all").functionCounter().count())
+                .isEqualTo(42.0);
+        assertThat(meterRegistry.get("point.hot.requests").tag("type", "hot").functionCounter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.find("point.hot.rate").tag("user", "3").gauge()).isNull();
+        assertThat(meterRegistry.get("point.hot.rate").tag("user", "5").gauge().value()).isEqualTo(20.0);
+    }
+}
@@ -0,0 +1,235 @@
+package io.hhplus.tdd.point.journal;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.service.PointCommand;
+import io.hhplus.tdd.point.service.PointCommandApplier;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    @DisplayName("재시작하면 스냅샷과 스냅샷 이후의 레코드로 잔고와 내역을 복구한다")
+    void recoverFromSnapshotAndTailTest() throws Exception {
+        //given : 세그먼트 하나에 10건씩 기록되도록 작게 설정, 스냅샷은 직접 호출
+        PointJournal journal = new PointJournal(directory, PointJournal.RECORD_SIZE * 10, 1L, 0L, true);
+        journal.recover(null);
+        long balance = 0L;
+        for (int i = 1; i <= 25; i++) {
+            balance += 100L;
+            journal.append(new PointHistory(i, 1L, 100L, CHARGE, i), balance);
+        }
+        journal.snapshot();
+        journal.append(new PointHistory(26L, 1L, 30L, USE, 26L), balance - 30L);
+        journal.append(new PointHistory(27L, 2L, 50L, CHARGE, 27L), 50L);
+        journal.close();
+
+        //when
+        List<PointHistory> histories = new ArrayList<>();
+        PointJournal restarted = new PointJournal(directory, PointJournal.RECORD_SIZE * 10, 1L, 0L, true);
+        Map<Long, Long> balances = restarted.recover(histories::add);
+        restarted.close();
+
+        //then
+        assertThat(balances).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2470L, 2L, 50L));
+        assertThat(histories).hasSize(27);
+        assertThat(histories.get(25)).isEqualTo(new PointHistory(26L, 1L, 30L, USE, 26L));
+    }
+
+    @Test
+    @DisplayName("내역을 복구하지 않으면 스냅샷에 모두 포함된 세그먼트를 지우고, 남은 세그먼트로 잔고를 복구한다")
+    void deleteCoveredSegmentsTest() throws Exception {
+        //given : 세그먼트 하나에 10건씩, 25건 기록 (세그먼트 1 ~ 10, 11 ~ 20, 21 ~)
+        PointJournal journal = new PointJournal(directory, PointJournal.RECORD_SIZE * 10, 1L, 0L, false);
+        journal.recover(null);
+        for (int i = 1; i <= 25; i++) {
+            journal.append(new PointHistory(i, 1L, 100L, CHARGE, i), i * 100L);
+        }
+
+        //when
+        journal.snapshot();
+        List<Path> afterSnapshot = segments();
+        journal.append(new PointHistory(26L, 2L, 50L, CHARGE, 26L), 50L);
+        journal.close();
+        PointJournal restarted = new PointJournal(directory, PointJournal.RECORD_SIZE * 10, 1L, 0L, false);
+        Map<Long, Long> balances = restarted.recover(null);
+        restarted.close();
+
+        //then : 기록 중이던 세그먼트만 남고, 재시작 후에는 새 세그먼트와 스냅샷 이후 레코드가 있는 세그먼트만 남는다.
+        assertThat(afterSnapshot).extracting(path -> path.getFileName().toString())
+                .containsExactly("segment-00000000000000000021.log");
+        assertThat(segments()).extracting(path -> path.getFileName().toString())
+                .containsExactly("segment-00000000000000000021.log", "segment-00000000000000000027.log");
+        assertThat(balances).containsExactlyInAnyOrderEntriesOf(Map.of(1L, 2500L, 2L, 50L));
+    }
+
+    @Test
+    @DisplayName("내역을 복구하면 스냅샷 이후에도 세그먼트를 보관한다")
+    void retainSegmentsTest() throws Exception {
+        //given
+        PointJournal journal = new PointJournal(directory, PointJournal.RECORD_SIZE * 10, 1L, 0L, true);
+        journal.recover(null);
+        for (int i = 1; i <= 25; i++) {
+            journal.append(new PointHistory(i, 1L, 100L, CHARGE, i), i * 100L);
+        }
+
+        //when
+        journal.snapshot();
+        journal.close();
+
+        //then
+        assertThat(segments()).hasSize(3);
+    }
+
+    @Test
+    @DisplayName("쓰다 만 마지막 레코드는 버리고 그 이후부터 다시 기록한다")
+    void discardTornRecordTest() throws Exception {
+        //given : 3건 기록 후 마지막 레코드 일부를 훼손
+        PointJournal journal = new PointJournal(directory, 1024, 1L, 0L, true);
+        journal.recover(null);
+        journal.append(new PointHistory(1L, 1L, 100L, CHARGE, 1L), 100L);
+        journal.append(new PointHistory(2L, 1L, 40L, USE, 2L), 60L);
+        journal.append(new PointHistory(3L, 1L, 10L, USE, 3L), 50L);
+        journal.close();
+        try (RandomAccessFile file = new RandomAccessFile(segments().get(0).toFile(), "rw")) {
+            file.seek(PointJournal.RECORD_SIZE * 2L + 20);
+            file.write(0x7f);
+        }
+
+        //when
+        PointJournal restarted = new PointJournal(directory, 1024, 1L, 0L, true);
+        Map<Long, Long> balances = restarted.recover(null);
+        restarted.append(new PointHistory(4L, 1L, 5L, USE, 4L), 55L);
+        restarted.close();
+
+        List<PointHistory> histories = new ArrayList<>();
+        PointJournal reopened = new PointJournal(directory, 1024, 1L, 0L, true);
+        reopened.recover(histories::add);
+        reopened.close();
+
+        //then
+        assertThat(balances).containsEntry(1L, 60L);
+        assertThat(histories).extracting(PointHistory::id).containsExactly(1L, 2L, 4L);
+    }
+
+    @Test
+    @DisplayName("잔고와 내역을 저장하기 전에 저널에 기록하고 디스크 반영을 기다린다")
+    void appendBeforeCommitTest() throws Exception {
+        //given : 내역 저장 시점에 이미 디스크에 반영된 레코드 수를 기록
+        PointJournal journal = new PointJournal(directory, 1024, 1L, 0L, false);
+        journal.recover(null);
+        UserPointTable userPointTable = new UserPointTable();
+        SimulatedUserPointRepository userPointRepository =
+                new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none());
+        List<Long> journaledAtSave = new ArrayList<>();
+        SimulatedPointHistoryRepository pointHistoryRepository = new SimulatedPointHistoryRepository(LatencyProfile.none()) {
+            @Override
+            public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+                journaledAtSave.add(journal.flushedSequence());
+                return super.save(userId, amount, type, updateMillis);
+            }
+        };
+        PointCommandApplier pointCommandApplier = new PointCommandApplier(userPointTable, userPointRepository,
+                pointHistoryRepository, new PointMetrics(new SimpleMeterRegistry()),
+                new PointCommitPublisher(List.of(journal)));
+        List<PointCommand> batch = List.of(PointCommand.of(3L, CHARGE, 100L), PointCommand.of(3L, USE, 30L));
+
+        //when
+        pointCommandApplier.apply(3L, batch);
+        journal.close();
+        PointJournal restarted = new PointJournal(directory, 1024, 1L, 0L, false);
+        Map<Long, Long> balances = restarted.recover(null);
+        restarted.close();
+
+        //then : 첫 내역을 저장할 때 이미 묶음의 두 레코드가 디스크에 반영되어 있다.
+        assertThat(journaledAtSave).containsExactly(2L, 2L);
+        assertThat(batch.get(1).result().join().point()).isEqualTo(70L);
+        assertThat(balances).containsEntry(3L, 70L);
+    }
+
+    @Test
+    @DisplayName("복구한 잔고는 테이블 지연 없이 적재하고, 유저의 첫 저장부터 테이블에 반영한다")
+    void restoreWithoutTableLatencyTest() {
+        //given
+        UserPointTableRepository userPointRepository = new UserPointTableRepository(new UserPointTable());
+
+        //when : 유저 1만 명 복구
+        long startedAt = System.nanoTime();
+        for (long id = 1L; id <= 10_000L; id++) {
+            userPointRepository.restore(id, id * 10L);
+        }
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000L;
+        UserPoint restored = userPointRepository.findById(1L);
+        userPointRepository.save(1L, restored.point() + 5L);
+
+        //then : 초기 데이터(유저 1 = 100)보다 복구한 잔고가 우선하고, 저장한 뒤에는 테이블 값을 조회
+        assertThat(elapsedMillis).isLessThan(1_000L);
+        assertThat(restored.point()).isEqualTo(10L);
+        assertThat(userPointRepository.findById(1L).point()).isEqualTo(15L);
+        assertThat(userPointRepository.findById(10_000L).point()).isEqualTo(100_000L);
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("레코드 100만 건 저널의 복구 시간 측정")
+    void recoveryTimeTest() throws Exception {
+        //given : 유저 10만 명, 레코드 100만 건 (스냅샷 없이 전체 재생)
+        int records = 1_000_000;
+        int users = 100_000;
+        PointJournal journal = new PointJournal(directory, 16 * 1024 * 1024, 1L, 0L, true);
+        journal.recover(null);
+        for (int i = 1; i <= records; i++) {
+            journal.write(new PointHistory(i, i % users, 10L, CHARGE, i), (long) (i / users + 1) * 10L);
+        }
+        journal.close();
+
+        //when
+        AtomicLong replayed = new AtomicLong();
+        PointJournal restarted = new PointJournal(directory, 16 * 1024 * 1024, 1L, 0L, true);
+        long startedAt = System.nanoTime();
+        Map<Long, Long> balances = restarted.recover(history -> replayed.incrementAndGet());
+        long elapsedMillis = Math.max(1L, (System.nanoTime() - startedAt) / 1_000_000L);
+        restarted.close();
+
+        //then
+        System.out.printf("레코드 %d건 복구 : %dms (%d건/초)%n", records, elapsedMillis, records * 1000L / elapsedMillis);
+        assertThat(replayed).hasValue(records);
+        assertThat(balances).hasSize(users).containsEntry(1L, 100L);
+        assertThat(elapsedMillis).isLessThan(5_000L);
+    }
+
+    private List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(path -> path.getFileName().toString().startsWith("segment-")).sorted().toList();
+        }
+    }
+}
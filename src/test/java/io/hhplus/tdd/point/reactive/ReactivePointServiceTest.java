@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.reactive;
+
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.service.PointService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactivePointServiceTest {
+
+    private final PointService pointService = mock(PointService.class);
+    private final ReactivePointService reactivePointService =
+            new ReactivePointService(pointService, Schedulers.newBoundedElastic(8, 1000, "point-reactive-test"));
+
+    @AfterEach
+    void tearDown() {
+        reactivePointService.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 충전/사용은 겹치지 않고 요청 순서대로, 다른 유저의 요청은 동시에 처리한다")
+    void serializePerUserTest() {
+        //given : 호출마다 10ms 걸리고, 유저별 동시 처리 수와 전체 동시 처리 수를 기록
+        ConcurrentHashMap<Long, AtomicInteger> running = new ConcurrentHashMap<>();
+        AtomicInteger maxPerUser = new AtomicInteger();
+        AtomicInteger total = new AtomicInteger();
+        AtomicInteger maxTotal = new AtomicInteger();
+        List<Long> user1Amounts = new CopyOnWriteArrayList<>();
+        when(pointService.charge(anyLong(), anyLong())).thenAnswer(invocation -> {
+            long id = invocation.getArgument(0);
+            long amount = invocation.getArgument(1);
+            AtomicInteger counter = running.computeIfAbsent(id, key -> new AtomicInteger());
+            maxPerUser.accumulateAndGet(counter.incrementAndGet(), Math::max);
+            maxTotal.accumulateAndGet(total.incrementAndGet(), Math::max);
+            if (id == 1L) user1Amounts.add(amount);
+            Thread.sleep(10L);
+            total.decrementAndGet();
+            counter.decrementAndGet();
+            return new UserPoint(id, amount, System.currentTimeMillis());
+        });
+
+        //when : 유저 1, 2에 5건씩 구독 (같은 유저는 구독 순서대로 처리)
+        List<Mono<UserPoint>> results = new ArrayList<>();
+        for (long amount = 1L; amount <= 5L; amount++) {
+            results.add(reactivePointService.charge(1L, amount));
+            results.add(reactivePointService.charge(2L, amount));
+        }
+        List<UserPoint> userPoints = results.stream().map(Mono::toFuture).toList()
+                .stream().map(CompletableFuture::join).toList();
+
+        //then
+        assertThat(userPoints).hasSize(10);
+        assertThat(maxPerUser).hasValue(1);
+        assertThat(maxTotal.get()).isGreaterThan(1);
+        assertThat(user1Amounts).containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("앞 요청이 실패해도 같은 유저의 다음 요청은 이어서 처리한다")
+    void continueAfterFailureTest() {
+        //given : 잔고 부족으로 사용 실패
+        when(pointService.use(1L, 100L)).thenThrow(new IllegalArgumentException("잔고가 부족합니다."));
+        when(pointService.charge(1L, 10L)).thenReturn(new UserPoint(1L, 10L, 0L));
+
+        //when
+        Mono<UserPoint> failed = reactivePointService.use(1L, 100L);
+        Mono<UserPoint> charged = reactivePointService.charge(1L, 10L);
+        Throwable thrown = catchThrowable(failed::block);
+
+        //then
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+        assertThat(charged.block().point()).isEqualTo(10L);
+    }
+}
@@ -0,0 +1,169 @@
+package io.hhplus.tdd.point.reconcile;
+
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistoryScanner;
+import io.hhplus.tdd.point.repository.PointHistoryStoreProperties;
+import io.hhplus.tdd.point.repository.PointOpeningBalances;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.service.UserLockManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.EXPIRE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointReconciliationServiceTest {
+
+    private final UserPointRepository userPointRepository =
+            new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none());
+    private final PointHistoryScanner pointHistoryRepository = new IndexedPointHistoryRepository(
+            new SimulatedPointHistoryRepository(LatencyProfile.none()), PointHistoryStoreProperties.Type.COLUMNAR);
+    private final PointOpeningBalances pointOpeningBalances = new PointOpeningBalances();
+
+    @Test
+    @DisplayName("내역 합계와 다른 잔고를 찾고, repair 이면 잔고를 내역 합계로 보정한다")
+    void reconcileAndRepairTest() {
+        //given : 초기 데이터 유저 1, 2 외에 3번은 일치, 4번은 잔고가 30 많고, 5번은 잔고가 저장되지 않음
+        pointHistoryRepository.save(3L, 100L, CHARGE, 1L);
+        pointHistoryRepository.save(3L, 40L, USE, 2L);
+        pointHistoryRepository.save(3L, 10L, EXPIRE, 3L);
+        userPointRepository.save(3L, 50L);
+        pointHistoryRepository.save(4L, 200L, CHARGE, 4L);
+        userPointRepository.save(4L, 230L);
+        pointHistoryRepository.save(5L, 70L, CHARGE, 5L);
+        PointReconciliationService service = service(true);
+
+        //when
+        PointReconciliationReport report = service.reconcile(false);
+        PointReconciliationReport repaired = service.reconcile(true);
+
+        //then
+        assertThat(report.users()).isEqualTo(5L);
+        assertThat(report.histories()).isEqualTo(5L);
+        assertThat(report.mismatches()).containsExactlyInAnyOrder(
+                new PointBalanceMismatch(4L, 230L, 0L, 200L, false),
+                new PointBalanceMismatch(5L, 0L, 0L, 70L, false));
+        assertThat(repaired.repaired()).isEqualTo(2L);
+        assertThat(userPointRepository.findById(4L).point()).isEqualTo(200L);
+        assertThat(userPointRepository.findById(5L).point()).isEqualTo(70L);
+        assertThat(service.reconcile(false).mismatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("내역 없이 적재된 기초 잔고(초기 데이터, 내역 없이 복구한 잔고)는 내역 합계에 더해 비교하고 보정으로 지우지 않는다")
+    void openingBalanceTest() {
+        //given : 유저 1(초기 100)은 10 충전, 유저 2(초기 50)는 내역 없음, 유저 3은 내역 없이 80 으로 복구된 뒤 20 사용
+        pointHistoryRepository.save(1L, 10L, CHARGE, 1L);
+        userPointRepository.save(1L, 110L);
+        userPointRepository.restore(3L, 80L);
+        pointOpeningBalances.put(3L, 80L);
+        pointHistoryRepository.save(3L, 20L, USE, 2L);
+        userPointRepository.save(3L, 60L);
+
+        //when
+        PointReconciliationReport report = service(true).reconcile(true);
+
+        //then
+        assertThat(report.users()).isEqualTo(3L);
+        assertThat(report.mismatched()).isZero();
+        assertThat(userPointRepository.findById(1L).point()).isEqualTo(110L);
+        assertThat(userPointRepository.findById(2L).point()).isEqualTo(50L);
+        assertThat(userPointRepository.findById(3L).point()).isEqualTo(60L);
+    }
+
+    @Test
+    @DisplayName("내역 없이 잔고만 있는 유저도 불일치로 찾되, 잔고의 근거가 없으므로 보정하지 않는다")
+    void balanceWithoutHistoryTest() {
+        //given : 유저 6은 내역 없이 잔고 30
+        userPointRepository.save(6L, 30L);
+
+        //when
+        PointReconciliationReport report = service(true).reconcile(true);
+
+        //then
+        assertThat(report.mismatches()).containsExactly(new PointBalanceMismatch(6L, 30L, 0L, 0L, false));
+        assertThat(report.repaired()).isZero();
+        assertThat(userPointRepository.findById(6L).point()).isEqualTo(30L);
+    }
+
+    @Test
+    @DisplayName("보정할 수 없는 설정에서는 repair 요청을 거절한다")
+    void repairNotAllowedTest() {
+        //given
+        PointReconciliationService service = service(false);
+
+        //when, then
+        assertThatThrownBy(() -> service.reconcile(true)).isInstanceOf(IllegalStateException.class);
+        assertThat(service.reconcile(false).mismatched()).isZero();
+    }
+
+    @Test
+    @DisplayName("전체 내역을 훑을 수 없는 저장소(write-behind)에서는 대사하지 않는다")
+    void scannerRequiredTest() {
+        //given
+        PointReconciliationService service = new PointReconciliationService(userPointRepository, null,
+                pointOpeningBalances, new UserLockManager(), 64, 100, false, false);
+
+        //when, then
+        assertThatThrownBy(() -> service.reconcile(false)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("잔고가 유저 락 밖에서 바뀌는 CAS 모드에서는 불일치를 믿을 수 없으므로 대사하지 않는다")
+    void lockFreeBalanceRejectedTest() {
+        //given
+        PointReconciliationService service = new PointReconciliationService(userPointRepository,
+                pointHistoryRepository, pointOpeningBalances, new UserLockManager(), 64, 100, false, true);
+
+        //when, then
+        assertThatThrownBy(() -> service.reconcile(false))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("point.mutation.mode=cas");
+    }
+
+    @Test
+    @Tag("benchmark")
+    @DisplayName("내역 1000만 건, 유저 10만 명의 대사 시간 측정")
+    void reconcileTenMillionHistoriesTest() {
+        //given : 초기 데이터가 없는 유저 3 ~ 100,002 의 잔고는 내역 합계와 같게 저장, 한 명만 어긋나게
+        int users = 100_000;
+        int histories = 10_000_000;
+        long[] balances = new long[users + 3];
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < histories; i++) {
+            int userId = i % users + 3;
+            long amount = random.nextLong(1L, 1_000L);
+            boolean charge = balances[userId] < amount || random.nextBoolean();
+            balances[userId] += charge ? amount : -amount;
+            pointHistoryRepository.save(userId, amount, charge ? CHARGE : USE, i);
+        }
+        for (int userId = 3; userId < users + 3; userId++) {
+            userPointRepository.save(userId, balances[userId]);
+        }
+        userPointRepository.save(7L, balances[7] + 1L);
+
+        //when
+        PointReconciliationReport report = service(true).reconcile(false);
+
+        //then
+        System.out.printf("내역 %d건 대사 : 합산 %dms, 전체 %dms (코어 %d개)%n", report.histories(),
+                report.scanMillis(), report.elapsedMillis(), Runtime.getRuntime().availableProcessors());
+        assertThat(report.histories()).isEqualTo(histories);
+        assertThat(report.mismatches()).extracting(PointBalanceMismatch::userId).containsExactly(7L);
+        assertThat(report.elapsedMillis()).isLessThan(10_000L);
+    }
+
+    private PointReconciliationService service(boolean repairable) {
+        return new PointReconciliationService(userPointRepository, pointHistoryRepository, pointOpeningBalances,
+                new UserLockManager(), 64, 100, repairable, false);
+    }
+}
@@ -0,0 +1,71 @@
+package io.hhplus.tdd.point.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CachedUserPointRepositoryTest {
+
+    //원본 저장소 조회 횟수를 세기 위한 저장소
+    private static class CountingRepository implements UserPointRepository {
+        private final Map<Long, UserPoint> table = new HashMap<>();
+        private int selectCount;
+
+        @Override
+        public UserPoint findById(long id) {
+            selectCount++;
+            return table.getOrDefault(id, UserPoint.empty(id));
+        }
+
+        @Override
+        public UserPoint save(long id, long point) {
+            UserPoint userPoint = new UserPoint(id, point, System.currentTimeMillis());
+            table.put(id, userPoint);
+            return userPoint;
+        }
+
+        @Override
+        public LongStream userIds() {
+            return table.keySet().stream().mapToLong(Long::longValue);
+        }
+    }
+
+    @Test
+    @DisplayName("같은 유저를 반복 조회하면 원본 저장소는 한 번만 조회한다")
+    void readThroughTest() {
+        //given
+        CountingRepository delegate = new CountingRepository();
+        CachedUserPointRepository repository = new CachedUserPointRepository(delegate, 100);
+
+        //when
+        for (int i = 0; i < 10; i++) {
+            repository.findById(1L);
+        }
+
+        //then
+        assertThat(delegate.selectCount).isEqualTo(1);
+        assertThat(repository.stats().hitCount()).isEqualTo(9);
+        assertThat(repository.stats().missCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("저장하면 캐시도 갱신되어 조회 시 마지막으로 저장한 포인트를 반환한다")
+    void writeThroughTest() {
+        //given
+        CountingRepository delegate = new CountingRepository();
+        CachedUserPointRepository repository = new CachedUserPointRepository(delegate, 100);
+        repository.findById(1L);
+
+        //when
+        repository.save(1L, 500L);
+
+        //then : 원본 저장소를 다시 조회하지 않고 저장한 값을 반환
+        assertThat(repository.findById(1L).point()).isEqualTo(500L);
+        assertThat(delegate.selectCount).isEqualTo(1);
+    }
+}
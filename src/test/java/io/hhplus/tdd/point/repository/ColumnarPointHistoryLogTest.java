@@ -0,0 +1,67 @@
+package io.hhplus.tdd.point.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ColumnarPointHistoryLogTest {
+
+    @Test
+    @DisplayName("봉인된 청크와 열린 청크에 걸친 내역을 객체 로그와 같은 순서와 값으로 조회한다")
+    void sameAsObjectLogTest() {
+        //given : 청크 여러 개 + 열린 청크, 시각이 거꾸로 가거나 금액이 큰 내역 포함
+        ColumnarPointHistoryLog columnar = new ColumnarPointHistoryLog(1L);
+        PointHistoryLog object = new PointHistoryLog();
+        Random random = new Random(22L);
+        long id = 0L, millis = 1_700_000_000_000L;
+        int rows = ColumnarPointHistoryLog.CHUNK_ROWS * 3 + 17;
+        for (int i = 0; i < rows; i++) {
+            id += 1 + random.nextInt(100_000);
+            millis += random.nextInt(2_000) - 100;
+            long amount = i % 50 == 0 ? Long.MAX_VALUE : random.nextInt(1_000_000);
+            PointHistory history = new PointHistory(id, 1L, amount,
+                    TransactionType.values()[random.nextInt(TransactionType.values().length)], millis);
+            columnar.append(history);
+            object.append(history);
+        }
+
+        //when
+        long after = object.snapshot().get(ColumnarPointHistoryLog.CHUNK_ROWS + 10).id();
+
+        //then
+        assertThat(columnar.snapshot()).isEqualTo(object.snapshot());
+        assertThat(columnar.streamAfter(after).toList()).isEqualTo(object.streamAfter(after).toList());
+        assertThat(columnar.streamAfter(id)).isEmpty();
+        assertThat(columnar.summary(1L)).isEqualTo(object.summary(1L));
+    }
+
+    @Test
+    @DisplayName("추가 중에 조회해도 조회 시점까지의 내역이 빠짐없이 순서대로 조회된다")
+    void readWhileAppendingTest() {
+        //given
+        ColumnarPointHistoryLog log = new ColumnarPointHistoryLog(1L);
+        int rows = 20_000;
+
+        //when
+        CompletableFuture<Void> writer = CompletableFuture.runAsync(() -> {
+            for (long i = 1; i <= rows; i++) {
+                log.append(new PointHistory(i, 1L, i, TransactionType.CHARGE, i));
+            }
+        });
+        while (!writer.isDone()) {
+            List<PointHistory> snapshot = log.snapshot();
+
+            //then : 1부터 끊김 없이 이어진다.
+            for (int i = 0; i < snapshot.size(); i++) {
+                assertThat(snapshot.get(i).id()).isEqualTo(i + 1L);
+            }
+        }
+        writer.join();
+        assertThat(log.snapshot()).hasSize(rows);
+    }
+}
@@ -0,0 +1,46 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IndexedPointHistoryRepositoryTest {
+
+    @Test
+    @DisplayName("여러 유저의 내역을 동시에 저장해도 테이블의 id 가 중복되거나 유실되지 않는다")
+    void concurrentSaveOnTableTest() {
+        //given : 기본 구성과 같은 PointHistoryTable 기반 저장소
+        IndexedPointHistoryRepository repository =
+                new IndexedPointHistoryRepository(new PointHistoryTableRepository(new PointHistoryTable()));
+        int users = 8, perUser = 3;
+        ExecutorService executor = Executors.newFixedThreadPool(users);
+
+        //when : 유저마다 한 스레드가 저장
+        CompletableFuture.allOf(LongStream.rangeClosed(1, users)
+                .mapToObj(userId -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < perUser; i++) {
+                        repository.save(userId, 10L, CHARGE, System.currentTimeMillis());
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then
+        List<Long> ids = LongStream.rangeClosed(1, users)
+                .mapToObj(repository::findAllByUserId)
+                .flatMap(List::stream)
+                .map(PointHistory::id)
+                .toList();
+        assertThat(ids).hasSize(users * perUser).doesNotHaveDuplicates();
+        assertThat(ids).allMatch(id -> id >= 1L && id <= (long) users * perUser);
+    }
+}
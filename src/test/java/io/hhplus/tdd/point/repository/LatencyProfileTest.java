@@ -0,0 +1,63 @@
+package io.hhplus.tdd.point.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LatencyProfileTest {
+
+    @Test
+    @DisplayName("none 은 대기하지 않고, fixed/uniform 은 설정한 범위의 시간만큼 대기한다")
+    void fixedAndUniformTest() {
+        //given
+        LatencyProfile fixed = LatencyProfile.fixed(Duration.ofMillis(5));
+        LatencyProfile uniform = LatencyProfile.uniform(Duration.ofMillis(1), Duration.ofMillis(3));
+
+        //when, then
+        assertThat(LatencyProfile.none().nextNanos()).isZero();
+        assertThat(LatencyProfile.uniformMillis(0L)).isSameAs(LatencyProfile.NONE);
+        assertThat(fixed.nextNanos()).isEqualTo(5_000_000L);
+        assertThat(IntStream.range(0, 1_000).mapToLong(i -> uniform.nextNanos()))
+                .allSatisfy(nanos -> assertThat(nanos).isBetween(1_000_000L, 3_000_000L));
+    }
+
+    @Test
+    @DisplayName("recorded 는 표본 파일에 기록된 지연 시간 중 하나만 사용한다")
+    void recordedTest(@TempDir Path directory) throws Exception {
+        //given : 마이크로초 단위 표본
+        Path samples = Files.writeString(directory.resolve("latency.txt"), "# fsync\n120\n\n450\n3000\n");
+
+        //when
+        LatencyProfile recorded = LatencyProfile.recorded(samples);
+
+        //then
+        assertThat(IntStream.range(0, 1_000).mapToLong(i -> recorded.nextNanos()).distinct().sorted().boxed().toList())
+                .isEqualTo(List.of(120_000L, 450_000L, 3_000_000L));
+    }
+
+    @Test
+    @DisplayName("simulated 모드는 테이블 대신 메모리 저장소를 사용하고, 프로필이 없으면 테이블과 같은 분포를 쓴다")
+    void simulatedModeTest() {
+        //given
+        LatencyProperties.Profile none = new LatencyProperties.Profile(LatencyProperties.Type.NONE,
+                Duration.ZERO, Duration.ZERO, Duration.ZERO, null, null);
+        LatencyProperties properties = new LatencyProperties(LatencyProperties.Mode.SIMULATED, none, none, null);
+
+        //when
+        UserPointRepository repository = properties.userPointRepository(null);
+        repository.save(1L, 100L);
+
+        //then
+        assertThat(repository).isInstanceOf(SimulatedUserPointRepository.class);
+        assertThat(repository.findById(1L).point()).isEqualTo(100L);
+        assertThat(properties.historyInsertProfile().nextNanos()).isLessThan(300_000_000L);
+    }
+}
@@ -0,0 +1,111 @@
+package io.hhplus.tdd.point.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointHistoryLogTest {
+
+    @Test
+    @DisplayName("청크 크기를 넘어서 추가해도 추가한 순서대로 조회된다")
+    void appendAcrossChunksTest() {
+        //given
+        PointHistoryLog log = new PointHistoryLog();
+
+        //when
+        for (long i = 1; i <= 200; i++) {
+            log.append(new PointHistory(i, 1L, i, CHARGE, i));
+        }
+
+        //then
+        List<PointHistory> snapshot = log.snapshot();
+        assertThat(snapshot).hasSize(200);
+        assertThat(snapshot).extracting(PointHistory::id).containsExactlyElementsOf(
+                IntStream.rangeClosed(1, 200).mapToObj(Long::valueOf).toList());
+    }
+
+    @Test
+    @DisplayName("추가할 때마다 충전/사용 합계와 마지막 내역 시각이 갱신된다")
+    void summaryTest() {
+        //given
+        PointHistoryLog log = new PointHistoryLog();
+
+        //when
+        log.append(new PointHistory(1L, 1L, 1_000L, CHARGE, 10L));
+        log.append(new PointHistory(2L, 1L, 300L, USE, 20L));
+        log.append(new PointHistory(3L, 1L, 500L, CHARGE, 30L));
+
+        //then
+        assertThat(log.summary(1L)).isEqualTo(new PointSummary(1L, 1_500L, 300L, 3L, 30L));
+        assertThat(log.summary(1L)).isEqualTo(PointSummary.of(1L, log.snapshot()));
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 동시에 추가해도 유실되는 내역이 없다")
+    void concurrentAppendTest() {
+        //given
+        PointHistoryLog log = new PointHistoryLog();
+        int threads = 8, perThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when : 추가하는 중에 조회도 함께 수행
+        CompletableFuture.allOf(IntStream.range(0, threads)
+                .mapToObj(t -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < perThread; i++) {
+                        log.append(new PointHistory((long) t * perThread + i, 1L, 1L, CHARGE, i));
+                        assertThat(log.snapshot()).doesNotContainNull();
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+        executor.shutdown();
+
+        //then
+        assertThat(log.snapshot()).hasSize(threads * perThread);
+        assertThat(log.snapshot()).extracting(PointHistory::id).doesNotHaveDuplicates();
+    }
+
+    @Test
+    @DisplayName("커서(after) 이후의 내역만 조건에 맞게 조회된다")
+    void streamAfterCursorTest() {
+        //given : 홀수 id 는 충전, 짝수 id 는 사용
+        PointHistoryLog log = new PointHistoryLog();
+        for (long i = 1; i <= 150; i++) {
+            log.append(new PointHistory(i, 1L, i, i % 2 == 1 ? CHARGE : USE, i * 10));
+        }
+
+        //when : id 100 이후, 사용 내역만 5건
+        PointHistoryQuery query = PointHistoryQuery.of(100L, null, null, USE);
+        List<PointHistory> page = log.streamAfter(query.after()).filter(query::matches).limit(5).toList();
+
+        //then
+        assertThat(page).extracting(PointHistory::id).containsExactly(102L, 104L, 106L, 108L, 110L);
+    }
+
+    @Test
+    @DisplayName("updateMillis 범위에 포함되는 내역만 조회된다")
+    void timeRangeQueryTest() {
+        //given
+        PointHistoryLog log = new PointHistoryLog();
+        for (long i = 1; i <= 10; i++) {
+            log.append(new PointHistory(i, 1L, i, CHARGE, i * 10));
+        }
+
+        //when
+        PointHistoryQuery query = PointHistoryQuery.of(null, 30L, 50L, null);
+
+        //then
+        assertThat(log.streamAfter(query.after()).filter(query::matches))
+                .extracting(PointHistory::id)
+                .containsExactly(3L, 4L, 5L);
+    }
+}
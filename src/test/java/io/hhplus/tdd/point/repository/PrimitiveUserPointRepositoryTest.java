@@ -0,0 +1,112 @@
+package io.hhplus.tdd.point.repository;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrimitiveUserPointRepositoryTest {
+
+    @Test
+    @DisplayName("저장한 포인트를 조회하고, 저장한 적 없는 유저는 0 포인트로 조회된다")
+    void saveAndFindTest() {
+        //given
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+
+        //when
+        UserPoint saved = repository.save(3L, 100L);
+
+        //then
+        assertThat(repository.findById(3L)).isEqualTo(saved);
+        assertThat(repository.findById(4L).point()).isZero();
+        assertThat(repository.size()).isEqualTo(3L);
+    }
+
+    @Test
+    @DisplayName("UserPointTable 과 같은 초기 데이터(유저 1 = 100, 유저 2 = 50)로 시작한다")
+    void seedTest() {
+        //given
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+        SimulatedUserPointRepository simulated =
+                new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none());
+
+        //then
+        assertThat(repository.findById(1L).point()).isEqualTo(100L);
+        assertThat(repository.findById(2L).point()).isEqualTo(50L);
+        assertThat(simulated.findById(1L).point()).isEqualTo(100L);
+        assertThat(simulated.findById(2L).point()).isEqualTo(50L);
+        assertThat(repository.userIds()).containsExactlyInAnyOrder(1L, 2L);
+        assertThat(simulated.userIds()).containsExactlyInAnyOrder(1L, 2L);
+    }
+
+    @Test
+    @DisplayName("저장한 유저 id 를 모두 돌려준다 (대사용)")
+    void userIdsTest() {
+        //given : 미리 할당한 크기보다 많은 유저를 저장해 세그먼트가 확장되도록
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+        for (long id = 3; id < 10_003; id++) {
+            repository.save(id, id);
+        }
+
+        //then
+        assertThat(repository.userIds().sorted().toArray())
+                .isEqualTo(LongStream.range(1, 10_003).toArray());
+    }
+
+    @Test
+    @DisplayName("여러 스레드가 미리 할당한 크기보다 많은 유저를 저장해도 모두 조회된다")
+    void concurrentSaveWithResizeTest() {
+        //given
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(0);
+        int users = 100_000, threads = 8;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        CompletableFuture.allOf(IntStream.range(0, threads)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (long id = thread; id < users; id += threads) {
+                        repository.save(id, id * 10);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then
+        assertThat(repository.size()).isEqualTo(users);
+        for (long id = 0; id < users; id++) {
+            assertThat(repository.findById(id).point()).isEqualTo(id * 10);
+        }
+    }
+
+    @Test
+    @DisplayName("한 유저를 여러 스레드가 동시에 갱신해도 갱신이 유실되지 않고, 실패한 갱신은 반영되지 않는다")
+    void atomicUpdateTest() {
+        //given
+        PrimitiveUserPointRepository repository = new PrimitiveUserPointRepository(16);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        //when
+        CompletableFuture.allOf(IntStream.range(0, 8)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    for (int i = 0; i < 10_000; i++) {
+                        repository.update(3L, point -> point + 1);
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then
+        assertThat(repository.findById(3L).point()).isEqualTo(80_000L);
+        assertThatThrownBy(() -> repository.update(3L, point -> {
+            throw new IllegalArgumentException("잔여 포인트보다 많이 사용할 수 없습니다.");
+        })).isInstanceOf(IllegalArgumentException.class);
+        assertThat(repository.findById(3L).point()).isEqualTo(80_000L);
+    }
+}
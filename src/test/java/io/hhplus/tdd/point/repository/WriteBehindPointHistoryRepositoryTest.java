@@ -0,0 +1,197 @@
+package io.hhplus.tdd.point.repository;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class WriteBehindPointHistoryRepositoryTest {
+
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+
+    @Test
+    @DisplayName("저장 스레드가 저장하기 전에도 조회 결과에 대기 중인 내역이 포함된다")
+    void readYourWritesTest() throws Exception {
+        //given
+        long id = 1L;
+        WriteBehindPointHistoryRepository repository =
+                new WriteBehindPointHistoryRepository(new PointHistoryTableRepository(pointHistoryTable), 100, 10);
+
+        //when
+        repository.save(id, 100L, CHARGE, 1L);
+        repository.save(id, 50L, USE, 2L);
+        repository.save(2L, 10L, CHARGE, 3L);
+
+        //저장 여부와 관계없이 요청한 순서대로 조회되어야 한다.
+        List<PointHistory> histories = repository.findAllByUserId(id);
+        assertThat(histories).extracting(PointHistory::amount).containsExactly(100L, 50L);
+        assertThat(histories).extracting(PointHistory::type).containsExactly(CHARGE, USE);
+        repository.close();
+    }
+
+    @Test
+    @DisplayName("조건/커서 조회는 id 가 부여된 저장 완료 내역만 내려주고, 저장된 뒤에는 커서대로 이어서 조회된다")
+    void streamExcludesPendingTest() throws Exception {
+        //given : 저장 스레드가 첫 내역 저장에서 멈춰 있어 모든 내역이 대기 중
+        CountDownLatch release = new CountDownLatch(1);
+        FlakyRepository table = new FlakyRepository(0) {
+            @Override
+            public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.save(userId, amount, type, updateMillis);
+            }
+        };
+        WriteBehindPointHistoryRepository repository =
+                new WriteBehindPointHistoryRepository(new IndexedPointHistoryRepository(table), 100, 10);
+        repository.save(1L, 100L, CHARGE, 1L);
+        repository.save(1L, 30L, USE, 2L);
+        repository.save(1L, 20L, USE, 3L);
+
+        //when
+        List<PointHistory> pendingUses;
+        try (Stream<PointHistory> histories = repository.streamByUserId(1L, PointHistoryQuery.of(null, null, null, USE))) {
+            pendingUses = histories.toList();
+        }
+        List<PointHistory> all = repository.findAllByUserId(1L);
+        release.countDown();
+        repository.close();
+        List<PointHistory> afterFirst;
+        try (Stream<PointHistory> histories = repository.streamByUserId(1L, PointHistoryQuery.of(1L, null, null, null))) {
+            afterFirst = histories.toList();
+        }
+
+        //then
+        assertThat(pendingUses).isEmpty();
+        assertThat(all).extracting(PointHistory::amount).containsExactly(100L, 30L, 20L);
+        assertThat(afterFirst).extracting(PointHistory::id).containsExactly(2L, 3L);
+    }
+
+    @Test
+    @DisplayName("종료 시 대기 중인 내역을 모두 테이블에 저장한다")
+    void flushOnCloseTest() throws Exception {
+        //given
+        long id = 1L;
+        WriteBehindPointHistoryRepository repository =
+                new WriteBehindPointHistoryRepository(new PointHistoryTableRepository(pointHistoryTable), 100, 10);
+        for (int i = 1; i <= 5; i++) {
+            repository.save(id, i, CHARGE, i);
+        }
+
+        //when
+        repository.close();
+
+        //then
+        assertThat(repository.pendingCount()).isZero();
+        assertThat(pointHistoryTable.selectAllByUserId(id))
+                .extracting(PointHistory::amount)
+                .containsExactly(1L, 2L, 3L, 4L, 5L);
+    }
+
+    @Test
+    @DisplayName("저장에 실패한 내역은 버리지 않고 성공할 때까지 다시 저장한다")
+    void retryFailedSaveTest() throws Exception {
+        //given : 처음 두 번은 실패하는 저장소
+        FlakyRepository delegate = new FlakyRepository(2);
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 10);
+
+        //when
+        repository.save(1L, 100L, CHARGE, 1L);
+        repository.save(1L, 30L, USE, 2L);
+        repository.close();
+
+        //then : 실패한 내역도 순서대로 저장
+        assertThat(delegate.saved).extracting(PointHistory::amount).containsExactly(100L, 30L);
+        assertThat(repository.unsaved()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("종료할 때까지 저장하지 못한 내역은 조회 결과에 남기고 close 가 예외로 알린다")
+    void surfaceUnsavedOnCloseTest() {
+        //given : 항상 실패하는 저장소
+        WriteBehindPointHistoryRepository repository =
+                new WriteBehindPointHistoryRepository(new FlakyRepository(Integer.MAX_VALUE), 100, 10);
+        repository.save(1L, 100L, CHARGE, 1L);
+
+        //when
+        Throwable thrown = catchThrowable(repository::close);
+
+        //then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(repository.unsaved()).extracting(PointHistory::amount).containsExactly(100L);
+        assertThat(repository.findAllByUserId(1L)).extracting(PointHistory::amount).containsExactly(100L);
+    }
+
+    @Test
+    @DisplayName("종료와 동시에 들어온 저장 요청도 유실되지 않는다")
+    void saveRacingCloseTest() throws Exception {
+        //given
+        FlakyRepository delegate = new FlakyRepository(0);
+        WriteBehindPointHistoryRepository repository = new WriteBehindPointHistoryRepository(delegate, 100, 10);
+        int threads = 8;
+        int savesPerThread = 1_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch started = new CountDownLatch(threads);
+
+        //when : 저장하는 도중 종료
+        for (int t = 0; t < threads; t++) {
+            executor.execute(() -> {
+                started.countDown();
+                for (int i = 0; i < savesPerThread; i++) {
+                    repository.save(1L, 1L, CHARGE, i);
+                }
+            });
+        }
+        started.await();
+        repository.close();
+        executor.shutdown();
+        assertThat(executor.awaitTermination(10, TimeUnit.SECONDS)).isTrue();
+
+        //then
+        assertThat(delegate.saved).hasSize(threads * savesPerThread);
+    }
+
+    //failures 번 실패한 뒤부터 저장하는 메모리 저장소
+    private static class FlakyRepository implements PointHistoryRepository {
+
+        private final AtomicInteger failures;
+        private final AtomicLong cursor = new AtomicLong();
+        private final List<PointHistory> saved = new CopyOnWriteArrayList<>();
+
+        private FlakyRepository(int failures) {
+            this.failures = new AtomicInteger(failures);
+        }
+
+        @Override
+        public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+            if (failures.getAndUpdate(left -> Math.max(0, left - 1)) > 0) {
+                throw new IllegalStateException("저장 실패");
+            }
+            PointHistory history = new PointHistory(cursor.incrementAndGet(), userId, amount, type, updateMillis);
+            saved.add(history);
+            return history;
+        }
+
+        @Override
+        public List<PointHistory> findAllByUserId(long userId) {
+            return saved.stream().filter(history -> history.userId() == userId).toList();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.PointHistoryTableRepository;
+import io.hhplus.tdd.point.repository.PointSummary;
+import io.hhplus.tdd.point.repository.PrimitiveUserPointRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class AtomicPointUpdaterTest {
+
+    private final UserPointTable userPointTable = new UserPointTable();
+    private final PrimitiveUserPointRepository userPointRepository = new PrimitiveUserPointRepository(16);
+    //기본 설정과 같은 내역 저장소 (유저별 인덱스 -> PointHistoryTable)
+    private final PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(
+            new PointHistoryTableRepository(new PointHistoryTable()));
+    private final AtomicPointUpdater atomicPointUpdater = new AtomicPointUpdater(userPointTable,
+            userPointRepository, pointHistoryRepository, new UserLockManager(),
+            new PointMetrics(new SimpleMeterRegistry()), PointCommitPublisher.none(), true);
+
+    @Test
+    @DisplayName("여러 스레드가 무작위로 충전/사용해도 잔고는 성공한 요청의 합과 같고, 유저별 내역은 id 순서대로 쌓인다")
+    void randomizedChargeAndUseTest() {
+        //given : 초기 데이터가 없는 유저 2명(3, 4)에게 스레드 4개가 충전/사용을 무작위로 요청
+        //        (잔고 부족 실패가 섞이도록 사용 금액을 크게, 테이블 지연이 있으므로 요청 수는 작게)
+        int users = 2, threads = 4, requests = 10;
+        AtomicLongArray expected = new AtomicLongArray(users + 3);
+        AtomicLong negative = new AtomicLong();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+
+        //when
+        CompletableFuture.allOf(IntStream.range(0, threads)
+                .mapToObj(thread -> CompletableFuture.runAsync(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < requests; i++) {
+                        long id = random.nextInt(users) + 3;
+                        boolean charge = random.nextBoolean();
+                        long amount = random.nextLong(1L, charge ? 100L : 150L);
+                        try {
+                            long point = atomicPointUpdater.apply(id, charge ? CHARGE : USE, amount).point();
+                            if (point < 0) negative.incrementAndGet();
+                            expected.addAndGet((int) id, charge ? amount : -amount);
+                        } catch (IllegalArgumentException e) {
+                            //잔고 부족으로 실패한 요청은 반영되지 않아야 한다.
+                        }
+                    }
+                }, executor))
+                .toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //then : 내역의 합과 요약도 잔고와 일치하고, 테이블이 부여한 id 가 겹치지 않으며 유저별로 오름차순
+        assertThat(negative).hasValue(0L);
+        for (long id = 3; id < users + 3; id++) {
+            long point = userPointRepository.findById(id).point();
+            PointSummary summary = pointHistoryRepository.summarize(id);
+            List<PointHistory> histories = pointHistoryRepository.findAllByUserId(id);
+            long historySum = histories.stream()
+                    .mapToLong(history -> history.type() == CHARGE ? history.amount() : -history.amount())
+                    .sum();
+
+            assertThat(point).isEqualTo(expected.get((int) id)).isNotNegative();
+            assertThat(historySum).isEqualTo(point);
+            assertThat(summary.totalCharged() - summary.totalUsed()).isEqualTo(point);
+            assertThat(histories).extracting(PointHistory::id).isSorted().doesNotHaveDuplicates();
+            if (histories.size() > 1) {
+                PointHistoryQuery afterFirst = new PointHistoryQuery(histories.get(0).id(), Long.MIN_VALUE,
+                        Long.MAX_VALUE, null);
+                assertThat(pointHistoryRepository.streamByUserId(id, afterFirst))
+                        .containsExactlyElementsOf(histories.subList(1, histories.size()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("내역 저장에 실패하면 반영한 잔고 변경을 되돌리고 예외를 전달한다")
+    void revertWhenHistorySaveFailsTest() {
+        //given : 충전 내역 저장만 실패하는 저장소, 유저 3의 잔고 100
+        PointHistoryRepository failingHistories = new IndexedPointHistoryRepository(
+                new SimulatedPointHistoryRepository(LatencyProfile.none()) {
+                    @Override
+                    public PointHistory save(long userId, long amount, TransactionType type, long updateMillis) {
+                        if (type == CHARGE) throw new IllegalStateException("내역 저장 실패");
+                        return super.save(userId, amount, type, updateMillis);
+                    }
+                });
+        AtomicPointUpdater updater = new AtomicPointUpdater(userPointTable, userPointRepository, failingHistories,
+                new UserLockManager(), new PointMetrics(new SimpleMeterRegistry()), PointCommitPublisher.none(), true);
+        userPointRepository.save(3L, 100L);
+
+        //when
+        Throwable thrown = catchThrowable(() -> updater.apply(3L, CHARGE, 50L));
+        long used = updater.apply(3L, USE, 30L).point();
+
+        //then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class).hasMessage("내역 저장 실패");
+        assertThat(used).isEqualTo(70L);
+        assertThat(userPointRepository.findById(3L).point()).isEqualTo(70L);
+        assertThat(failingHistories.findAllByUserId(3L)).extracting(PointHistory::type).containsExactly(USE);
+    }
+
+    @Test
+    @DisplayName("원자적 갱신을 지원하지 않는 저장소로는 CAS 모드를 켤 수 없다")
+    void requireAtomicRepositoryTest() {
+        //when, then
+        assertThatThrownBy(() -> new AtomicPointUpdater(userPointTable, new UserPointTableRepository(userPointTable),
+                pointHistoryRepository, new UserLockManager(), new PointMetrics(new SimpleMeterRegistry()),
+                PointCommitPublisher.none(), true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+}
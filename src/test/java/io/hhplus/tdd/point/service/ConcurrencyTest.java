@@ -1,14 +1,19 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.UserPointTable;
 import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.catchThrowable;
@@ -17,12 +22,13 @@ import static org.assertj.core.api.Assertions.catchThrowable;
 public class ConcurrencyTest {
 
     private final PointService pointService;
-    private final UserPointTable userPointTable;
+    //테이블에 직접 저장하면 조회 캐시를 거치지 않으므로 저장소를 통해 초기 포인트를 설정
+    private final UserPointRepository userPointRepository;
 
     @Autowired
-    public ConcurrencyTest(PointService pointService, UserPointTable userPointTable) {
+    public ConcurrencyTest(PointService pointService, UserPointRepository userPointRepository) {
         this.pointService = pointService;
-        this.userPointTable = userPointTable;
+        this.userPointRepository = userPointRepository;
     }
 
     @Test
@@ -30,7 +36,7 @@ public class ConcurrencyTest {
     void pointChargeAndUseTest() {
         //given
         long id = 1L;
-        userPointTable.insertOrUpdate(id, 0L);
+        userPointRepository.save(id, 0L);
 
         //비동기 처리
         CompletableFuture.allOf(
@@ -55,7 +61,7 @@ public class ConcurrencyTest {
     void pointGreaterThanBalanceTest() {
         //given
         long id = 1L;
-        userPointTable.insertOrUpdate(id, 100L);
+        userPointRepository.save(id, 100L);
 
         //비동기 처리
         CompletableFuture<Void> future = CompletableFuture.allOf(
@@ -76,4 +82,55 @@ public class ConcurrencyTest {
                 .isInstanceOf(CompletionException.class)
                 .hasCauseInstanceOf(IllegalArgumentException.class);;
     }
+
+    @Test
+    @DisplayName("같은 유저에 대한 충전/사용 요청이 동시에 들어와도 순차 처리된다")
+    void sameUserChargeAndUseConcurrentlyTest() {
+        //given
+        long id = 3L;
+        userPointRepository.save(id, 0L);
+        int count = 5;
+        ExecutorService executor = Executors.newFixedThreadPool(count * 2);
+
+        //충전 5회(100), 사용 5회(10)를 동시에 요청
+        //사용이 충전보다 먼저 실행될 수 있으므로 잔고가 부족하지 않도록 미리 충전
+        pointService.charge(id, 50L);
+        List<CompletableFuture<UserPoint>> futures = LongStream.range(0, count)
+                .boxed()
+                .flatMap(i -> Stream.of(
+                        CompletableFuture.supplyAsync(() -> pointService.charge(id, 100L), executor),
+                        CompletableFuture.supplyAsync(() -> pointService.use(id, 10L), executor)
+                ))
+                .toList();
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+
+        //갱신 유실(lost update) 없이 모든 요청이 반영되어야 한다.
+        assertThat(pointService.select(id).point()).isEqualTo(50L + (100L - 10L) * count);
+    }
+
+    @Test
+    @DisplayName("서로 다른 유저의 충전 요청은 유저 락을 기다리지 않고, 내역 테이블 저장만 순차로 처리된다")
+    void differentUsersChargeInParallelTest() {
+        //given
+        int userCount = 10;
+        List<Long> ids = LongStream.rangeClosed(101, 100 + userCount).boxed().toList();
+        ids.forEach(id -> userPointRepository.save(id, 0L));
+        ExecutorService executor = Executors.newFixedThreadPool(userCount);
+
+        //when
+        long start = System.currentTimeMillis();
+        CompletableFuture.allOf(ids.stream()
+                .map(id -> CompletableFuture.supplyAsync(() -> pointService.charge(id, 100L), executor))
+                .toArray(CompletableFuture[]::new)
+        ).join();
+        long elapsed = System.currentTimeMillis() - start;
+        executor.shutdown();
+
+        //충전 1건의 지연은 조회(0~200) + 내역(0~300) + 저장(0~300)ms
+        //내역 테이블 저장은 테이블 락으로 순차 처리되어 평균 150ms * 10명 = 약 1.5초 (최대 3초)
+        //조회/저장은 유저별로 병렬이므로 내역 합계에 최대 500ms 정도만 더해진다. (전역 락이라면 최대 8초, 평균 4초)
+        assertThat(elapsed).isLessThan(3_500L);
+        ids.forEach(id -> assertThat(pointService.select(id).point()).isEqualTo(100L));
+    }
 }
@@ -0,0 +1,73 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.hot.HotUserTracker;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HotUserPathTest {
+
+    @Test
+    @DisplayName("hot user 경로와 유저 락 경로가 섞여도 같은 유저의 잔고와 내역이 어긋나지 않는다")
+    void hotUserPathConsistencyTest() {
+        //given : 조회/저장에 1ms 씩 걸리는 저장소, 유저 3의 요청 20건이 이미 기록된 추적기
+        UserPointTable userPointTable = new UserPointTable();
+        LatencyProfile latency = LatencyProfile.fixed(Duration.ofMillis(1));
+        UserPointRepository userPointRepository = new SimulatedUserPointRepository(latency, latency);
+        PointHistoryRepository pointHistoryRepository = new IndexedPointHistoryRepository(
+                new SimulatedPointHistoryRepository(LatencyProfile.none()));
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointCommitPublisher pointCommitPublisher = PointCommitPublisher.none();
+        UserLockManager userLockManager = new UserLockManager();
+        PointCommandApplier pointCommandApplier = new PointCommandApplier(userPointTable, userPointRepository,
+                pointHistoryRepository, pointMetrics, pointCommitPublisher);
+        HotUserTracker tracker = new HotUserTracker(8, 4, 1024, 1000L, 10L);
+        for (int i = 0; i < 20; i++) tracker.record(3L);
+        HotUserRouter hotUserRouter = new HotUserRouter(tracker, new PointCommandQueue(pointCommandApplier,
+                pointMetrics, new PointMutationProperties(PointMutationProperties.Mode.COALESCE, 4, 100, 1L),
+                false, userLockManager));
+        PointService pointService = new PointService(userPointTable, userPointRepository, pointHistoryRepository,
+                userLockManager,
+                new PointCommandQueue(pointCommandApplier, pointMetrics,
+                        new PointMutationProperties(PointMutationProperties.Mode.LOCK, 1, 1, 0L)),
+                pointMetrics, pointCommitPublisher,
+                new AtomicPointUpdater(userPointTable, userPointRepository, pointHistoryRepository,
+                        userLockManager, pointMetrics, pointCommitPublisher, false),
+                PointShardRouter.disabled(), hotUserRouter);
+
+        //when : 200건 충전 중 100번째 요청에서 구간을 넘겨 hot user 로 전환 (앞 요청은 유저 락 경로에서 처리 중)
+        ExecutorService executor = Executors.newFixedThreadPool(16);
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            if (i == 100) tracker.rotate();
+            results.add(CompletableFuture.supplyAsync(() -> pointService.charge(3L, 10L), executor));
+        }
+        CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)).join();
+        executor.shutdown();
+        hotUserRouter.close();
+
+        //then
+        assertThat(tracker.isHot(3L)).isTrue();
+        assertThat(userPointRepository.findById(3L).point()).isEqualTo(2_000L);
+        assertThat(pointHistoryRepository.findAllByUserId(3L)).hasSize(200);
+    }
+}
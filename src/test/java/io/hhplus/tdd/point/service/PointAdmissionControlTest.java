@@ -0,0 +1,121 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PointAdmissionControlTest {
+
+    private final long id = 1L;
+
+    @Test
+    @DisplayName("한 유저의 요청은 burst 만큼만 허용되고, 다른 유저의 요청은 영향을 받지 않는다")
+    void userRateLimitTest() {
+        //given : 초당 1건, 한 번에 최대 3건
+        PointAdmissionControl control = new PointAdmissionControl(
+                new PointAdmissionProperties(true, 1.0, 3, 100, 60L, 1_000L));
+
+        //when
+        for (int i = 0; i < 3; i++) {
+            control.execute(id, PointAdmissionControlTest::completed);
+        }
+
+        //then
+        assertThatThrownBy(() -> control.execute(id, PointAdmissionControlTest::completed))
+                .isInstanceOf(PointAdmissionRejectedException.class)
+                .satisfies(e -> assertThat(((PointAdmissionRejectedException) e).retryAfterSeconds()).isEqualTo(1L));
+        assertThat(control.execute(2L, PointAdmissionControlTest::completed)).isCompleted();
+    }
+
+    @Test
+    @DisplayName("동시 처리 수를 넘는 요청은 기다리지 않고 거절되고, 처리가 끝나면 다시 허용된다")
+    void concurrencyLimitTest() {
+        //given : 동시 처리 1건, 처리 중인 요청 하나
+        PointAdmissionControl control = new PointAdmissionControl(
+                new PointAdmissionProperties(true, 1_000.0, 1_000, 1, 60L, 1_000L));
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        control.execute(id, () -> inFlight);
+
+        //when, then
+        assertThatThrownBy(() -> control.execute(2L, PointAdmissionControlTest::completed))
+                .isInstanceOf(PointAdmissionRejectedException.class);
+        inFlight.complete(UserPoint.empty(id));
+        assertThat(control.execute(2L, PointAdmissionControlTest::completed)).isCompleted();
+        assertThat(control.inFlight()).isZero();
+    }
+
+    @Test
+    @DisplayName("일괄 처리는 항목마다 유저의 요청 한 건으로 계산하고, 거절되면 앞 유저가 당겨 쓴 요청을 돌려준다")
+    void batchUserRateLimitTest() {
+        //given : 초당 1건, 한 번에 최대 3건, 유저 2는 이미 3건 요청
+        PointAdmissionControl control = new PointAdmissionControl(
+                new PointAdmissionProperties(true, 1.0, 3, 100, 60L, 1_000L));
+        for (int i = 0; i < 3; i++) {
+            control.execute(2L, PointAdmissionControlTest::completed);
+        }
+        List<PointOperation> operations = List.of(
+                new PointOperation(id, 10L, CHARGE),
+                new PointOperation(id, 10L, USE),
+                new PointOperation(2L, 10L, CHARGE));
+
+        //when, then : 유저 2가 거절되어 요청 전체가 거절되고, 유저 1의 2건은 돌려받아 다시 3건까지 허용
+        assertThatThrownBy(() -> control.execute(operations, () -> "done"))
+                .isInstanceOf(PointAdmissionRejectedException.class);
+        assertThat(control.inFlight()).isZero();
+        assertThat(control.execute(operations.subList(0, 2), () -> "done")).isEqualTo("done");
+        control.execute(id, PointAdmissionControlTest::completed);
+        assertThatThrownBy(() -> control.execute(id, PointAdmissionControlTest::completed))
+                .isInstanceOf(PointAdmissionRejectedException.class);
+    }
+
+    @Test
+    @DisplayName("일괄 처리에서 한 유저의 항목이 burst 를 넘으면 다시 시도해도 허용될 수 없으므로 400 으로 거절하고 요청 수를 쓰지 않는다")
+    void batchOverUserBurstTest() {
+        //given : 초당 1건, 한 번에 최대 3건, 유저 1의 항목 4건
+        PointAdmissionControl control = new PointAdmissionControl(
+                new PointAdmissionProperties(true, 1.0, 3, 100, 60L, 1_000L));
+        List<PointOperation> operations = List.of(
+                new PointOperation(2L, 10L, CHARGE),
+                new PointOperation(id, 10L, CHARGE),
+                new PointOperation(id, 10L, USE),
+                new PointOperation(id, 10L, CHARGE),
+                new PointOperation(id, 10L, USE));
+
+        //when, then
+        assertThatThrownBy(() -> control.execute(operations, () -> "done"))
+                .isInstanceOf(PointBatchTooLargeException.class)
+                .hasMessage("한 유저당 한 번에 처리할 수 있는 항목은 최대 3건입니다. : userId=1, 4");
+        assertThat(control.inFlight()).isZero();
+        assertThat(control.execute(operations.subList(0, 4), () -> "done")).isEqualTo("done");
+    }
+
+    @Test
+    @DisplayName("동시 처리 수 초과로 거절된 요청은 유저의 요청 수에 포함되지 않는다")
+    void concurrencyRejectionKeepsUserTokensTest() {
+        //given : 초당 1건, 한 번에 최대 1건, 동시 처리 1건이 처리 중
+        PointAdmissionControl control = new PointAdmissionControl(
+                new PointAdmissionProperties(true, 1.0, 1, 1, 60L, 1_000L));
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        control.execute(2L, () -> inFlight);
+
+        //when : 유저 1의 요청이 동시 처리 수 초과로 거절된 뒤 처리 중이던 요청이 끝남
+        assertThatThrownBy(() -> control.execute(id, PointAdmissionControlTest::completed))
+                .isInstanceOf(PointAdmissionRejectedException.class);
+        inFlight.complete(UserPoint.empty(2L));
+
+        //then : 유저 1은 아직 한 건도 쓰지 않았으므로 허용
+        assertThat(control.execute(id, PointAdmissionControlTest::completed)).isCompleted();
+    }
+
+    private static CompletableFuture<UserPoint> completed() {
+        return CompletableFuture.completedFuture(UserPoint.empty(1L));
+    }
+}
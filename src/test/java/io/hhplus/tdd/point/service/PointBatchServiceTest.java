@@ -0,0 +1,163 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryTableRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.shard.LocalPointShard;
+import io.hhplus.tdd.point.shard.PointShardRing;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.stream.LongStream;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.EXPIRE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PointBatchServiceTest {
+
+    private final UserPointTable userPointTable = new UserPointTable();
+    private final UserPointTableRepository userPointRepository = new UserPointTableRepository(userPointTable);
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final PointHistoryTableRepository pointHistoryRepository =
+            new PointHistoryTableRepository(new PointHistoryTable());
+    private final PointCommandApplier pointCommandApplier = new PointCommandApplier(userPointTable,
+            userPointRepository, pointHistoryRepository, pointMetrics, PointCommitPublisher.none());
+    private final PointCommandQueue pointCommandQueue = new PointCommandQueue(pointCommandApplier, pointMetrics,
+            new PointMutationProperties(PointMutationProperties.Mode.LOCK, 4, 100, 0L));
+    private final UserLockManager userLockManager = new UserLockManager();
+    private final AtomicPointUpdater atomicPointUpdater = new AtomicPointUpdater(userPointTable,
+            userPointRepository, pointHistoryRepository, userLockManager, pointMetrics, PointCommitPublisher.none(),
+            false);
+    private final PointBatchService pointBatchService = new PointBatchService(pointCommandApplier,
+            atomicPointUpdater, PointShardRouter.disabled(), pointCommandQueue, userLockManager,
+            Executors.newFixedThreadPool(4), 100, 10);
+
+    @AfterEach
+    void tearDown() {
+        pointBatchService.close();
+        pointCommandQueue.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 항목은 요청 순서대로 처리되고 실패한 항목만 실패로 반환된다")
+    void applyInOrderPerUserTest() {
+        //given : 유저 10 은 0 포인트, 유저 11 은 0 포인트
+        userPointRepository.save(10L, 0L);
+        userPointRepository.save(11L, 0L);
+        List<PointOperation> operations = List.of(
+                new PointOperation(10L, 100L, CHARGE),
+                new PointOperation(11L, 50L, USE),      //잔고 부족
+                new PointOperation(10L, 30L, USE),
+                new PointOperation(11L, 0L, CHARGE),    //0원 충전
+                new PointOperation(10L, 10L, CHARGE),
+                new PointOperation(11L, 20L, null)      //종류 없음
+        );
+
+        //when
+        List<PointOperationResult> results = pointBatchService.apply(operations);
+
+        //then : 요청 순서대로 결과 반환
+        assertThat(results).extracting(PointOperationResult::success)
+                .containsExactly(true, false, true, false, true, false);
+        assertThat(results.get(0).point()).isEqualTo(100L);
+        assertThat(results.get(2).point()).isEqualTo(70L);
+        assertThat(results.get(4).point()).isEqualTo(80L);
+        assertThat(results.get(1).message()).isEqualTo("잔여 포인트보다 많이 사용할 수 없습니다.");
+
+        //실패한 항목은 잔고에 반영되지 않는다.
+        assertThat(userPointRepository.findById(10L).point()).isEqualTo(80L);
+        assertThat(userPointRepository.findById(11L).point()).isZero();
+    }
+
+    @Test
+    @DisplayName("최대 항목 수를 넘는 요청은 어떤 항목도 처리하지 않고 거절한다")
+    void rejectTooLargeBatchTest() {
+        //given : 최대 10건, 유저 12 는 0 포인트
+        userPointRepository.save(12L, 0L);
+        List<PointOperation> operations = LongStream.range(0, 11)
+                .mapToObj(i -> new PointOperation(12L, 10L, CHARGE))
+                .toList();
+
+        //when
+        Throwable thrown = catchThrowable(() -> pointBatchService.apply(operations));
+
+        //then
+        assertThat(thrown).isInstanceOf(PointBatchTooLargeException.class);
+        assertThat(userPointRepository.findById(12L).point()).isZero();
+        assertThat(pointBatchService.apply(operations.subList(0, 10))).allMatch(PointOperationResult::success);
+    }
+
+    @Test
+    @DisplayName("소멸(EXPIRE) 항목은 처리하지 않고 실패로 반환하며 잔고와 내역을 바꾸지 않는다")
+    void rejectExpireOperationTest() {
+        //given : 유저 15 는 100 포인트
+        userPointRepository.save(15L, 100L);
+        List<PointOperation> operations = List.of(
+                new PointOperation(15L, 100L, EXPIRE),
+                new PointOperation(15L, 10L, USE)
+        );
+
+        //when
+        List<PointOperationResult> results = pointBatchService.apply(operations);
+
+        //then
+        assertThat(results).extracting(PointOperationResult::success).containsExactly(false, true);
+        assertThat(results.get(0).message()).contains("EXPIRE");
+        assertThat(results.get(1).point()).isEqualTo(90L);
+        assertThat(pointHistoryRepository.findAllByUserId(15L)).extracting(PointHistory::type)
+                .containsExactly(USE);
+    }
+
+    @Test
+    @DisplayName("샤드 모드에서는 같은 유저의 항목이 요청 순서대로 유저의 샤드에서 처리된다")
+    void applyOnShardsTest() throws Exception {
+        //given : 스레드가 여러 개인 샤드 2개 (같은 유저의 항목이 동시에 처리되면 순서가 어긋난다.)
+        List<LocalPointShard> shards = new ArrayList<>();
+        for (int i = 0; i < 2; i++) {
+            shards.add(LocalPointShard.of("shard-" + i, new UserPointTable(),
+                    new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none()),
+                    new SimulatedPointHistoryRepository(LatencyProfile.none()), pointMetrics,
+                    PointCommitPublisher.none(), 4, 100));
+        }
+        PointShardRouter router = new PointShardRouter(new PointShardRing(shards, 160));
+        PointBatchService shardBatchService = new PointBatchService(pointCommandApplier, atomicPointUpdater,
+                router, pointCommandQueue, userLockManager, Executors.newFixedThreadPool(4), 100, 10);
+        List<PointOperation> operations = List.of(
+                new PointOperation(13L, 100L, CHARGE),
+                new PointOperation(14L, 50L, USE),      //잔고 부족
+                new PointOperation(13L, 30L, USE),
+                new PointOperation(14L, 40L, CHARGE),
+                new PointOperation(13L, 80L, USE),      //잔고 부족
+                new PointOperation(14L, 40L, USE),
+                new PointOperation(13L, 20L, null)      //종류 없음
+        );
+
+        //when
+        List<PointOperationResult> results = shardBatchService.apply(operations);
+
+        //then : 공용 저장소는 사용하지 않는다.
+        assertThat(results).extracting(PointOperationResult::success)
+                .containsExactly(true, false, true, true, false, true, false);
+        assertThat(results).extracting(PointOperationResult::point)
+                .containsExactly(100L, 0L, 70L, 40L, 0L, 0L, 0L);
+        assertThat(router.route(13L).select(13L).join().point()).isEqualTo(70L);
+        assertThat(router.route(14L).select(14L).join().point()).isZero();
+        assertThat(userPointRepository.findById(13L).point()).isZero();
+        shardBatchService.close();
+        router.close();
+    }
+}
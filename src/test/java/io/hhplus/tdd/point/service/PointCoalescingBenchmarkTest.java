@@ -0,0 +1,93 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.repository.PointHistoryTableRepository;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 한 유저에게 동시에 100건의 충전 요청이 들어올 때 요청별 지연 시간 비교
+ * - LOCK : 요청마다 조회/저장을 따로 수행 (요청 수만큼 대기열이 길어진다)
+ * - COALESCE : 대기 시간 동안 모인 요청을 한 번의 조회/저장으로 처리
+ * 실행 : ./gradlew benchmark
+ */
+@Tag("benchmark")
+class PointCoalescingBenchmarkTest {
+
+    private static final int REQUESTS = 100;
+    private final long id = 1L;
+
+    @Test
+    @DisplayName("한 유저에 대한 동시 요청 100건 - LOCK")
+    void lockModeLatency() {
+        long[] latencies = run(PointMutationProperties.Mode.LOCK);
+        print("LOCK", latencies);
+    }
+
+    @Test
+    @DisplayName("한 유저에 대한 동시 요청 100건 - COALESCE")
+    void coalesceModeLatency() {
+        long[] latencies = run(PointMutationProperties.Mode.COALESCE);
+        print("COALESCE", latencies);
+    }
+
+    private long[] run(PointMutationProperties.Mode mode) {
+        UserPointTable userPointTable = new UserPointTable();
+        userPointTable.insertOrUpdate(id, 0L);
+        UserPointTableRepository userPointRepository = new UserPointTableRepository(userPointTable);
+        PointHistoryTableRepository pointHistoryRepository = new PointHistoryTableRepository(new PointHistoryTable());
+        PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+        PointCommitPublisher pointCommitPublisher = PointCommitPublisher.none();
+        PointCommandQueue pointCommandQueue = new PointCommandQueue(new PointCommandApplier(userPointTable,
+                userPointRepository, pointHistoryRepository, pointMetrics, pointCommitPublisher),
+                pointMetrics, new PointMutationProperties(mode, 16, REQUESTS, 5L));
+        UserLockManager userLockManager = new UserLockManager();
+        PointService pointService = new PointService(userPointTable, userPointRepository, pointHistoryRepository,
+                userLockManager, pointCommandQueue, pointMetrics, pointCommitPublisher,
+                new AtomicPointUpdater(userPointTable, userPointRepository, pointHistoryRepository,
+                        userLockManager, pointMetrics, pointCommitPublisher, false),
+                PointShardRouter.disabled(), HotUserRouter.disabled());
+
+        ExecutorService clients = Executors.newFixedThreadPool(REQUESTS);
+        try {
+            CompletableFuture<?>[] futures = IntStream.range(0, REQUESTS)
+                    .mapToObj(i -> CompletableFuture.supplyAsync(() -> {
+                        long start = System.nanoTime();
+                        pointService.charge(id, 10L);
+                        return (System.nanoTime() - start) / 1_000_000L;
+                    }, clients))
+                    .toArray(CompletableFuture[]::new);
+            CompletableFuture.allOf(futures).join();
+
+            //모든 요청이 반영되었는지 확인
+            assertThat(userPointTable.selectById(id).point()).isEqualTo(10L * REQUESTS);
+            return Arrays.stream(futures).mapToLong(future -> (Long) future.join()).sorted().toArray();
+        } finally {
+            clients.shutdown();
+            pointCommandQueue.close();
+        }
+    }
+
+    private void print(String mode, long[] sortedLatencies) {
+        System.out.printf("[%s] requests=%d p50=%dms p99=%dms max=%dms%n",
+                mode,
+                sortedLatencies.length,
+                sortedLatencies[sortedLatencies.length / 2],
+                sortedLatencies[(int) Math.ceil(sortedLatencies.length * 0.99) - 1],
+                sortedLatencies[sortedLatencies.length - 1]);
+    }
+}
@@ -0,0 +1,86 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.database.PointHistoryTable;
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryTableRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointTableRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PointCommandQueueTest {
+
+    private final UserPointTable userPointTable = new UserPointTable();
+    private final PointHistoryTable pointHistoryTable = new PointHistoryTable();
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+    private final PointCommandQueue pointCommandQueue = new PointCommandQueue(
+            new PointCommandApplier(
+                    userPointTable,
+                    new UserPointTableRepository(userPointTable),
+                    new PointHistoryTableRepository(pointHistoryTable),
+                    pointMetrics,
+                    PointCommitPublisher.none()),
+            pointMetrics,
+            new PointMutationProperties(PointMutationProperties.Mode.ACTOR, 4, 100, 0L)
+    );
+
+    @AfterEach
+    void tearDown() {
+        pointCommandQueue.close();
+    }
+
+    @Test
+    @DisplayName("같은 유저의 명령은 요청한 순서대로 처리되고 각 요청은 자신의 결과를 받는다")
+    void sameUserCommandsInOrderTest() {
+        //given
+        long id = 10L;
+        List<CompletableFuture<UserPoint>> results = new ArrayList<>();
+
+        //when : 충전 100 -> 사용 30 -> 사용 100(잔고 부족) -> 충전 10
+        results.add(pointCommandQueue.submit(id, CHARGE, 100L));
+        results.add(pointCommandQueue.submit(id, USE, 30L));
+        results.add(pointCommandQueue.submit(id, USE, 100L));
+        results.add(pointCommandQueue.submit(id, CHARGE, 10L));
+
+        //then
+        assertThat(results.get(0).join().point()).isEqualTo(100L);
+        assertThat(results.get(1).join().point()).isEqualTo(70L);
+        assertThat(catchThrowable(results.get(2)::join)).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(results.get(3).join().point()).isEqualTo(80L);
+
+        //실패한 명령은 잔고와 내역에 반영되지 않는다.
+        assertThat(userPointTable.selectById(id).point()).isEqualTo(80L);
+        assertThat(pointHistoryTable.selectAllByUserId(id))
+                .extracting(PointHistory::amount)
+                .containsExactly(100L, 30L, 10L);
+    }
+
+    @Test
+    @DisplayName("모든 명령이 처리되면 유저의 명령 큐가 제거된다")
+    void idleMailboxRemovedTest() {
+        //when
+        CompletableFuture.allOf(
+                pointCommandQueue.submit(11L, CHARGE, 100L),
+                pointCommandQueue.submit(12L, CHARGE, 100L)
+        ).join();
+
+        //then : 완료 직후 큐 정리가 끝나기까지 잠시 대기
+        long deadline = System.currentTimeMillis() + 1_000L;
+        while (pointCommandQueue.size() > 0 && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+        assertThat(pointCommandQueue.size()).isZero();
+    }
+}
@@ -0,0 +1,91 @@
+package io.hhplus.tdd.point.service;
+
+import io.hhplus.tdd.point.repository.TransactionType;
+import io.hhplus.tdd.point.repository.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PointIdempotencyStoreTest {
+
+    private final PointIdempotencyStore pointIdempotencyStore = new PointIdempotencyStore(Duration.ofMinutes(1), 1_000L);
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("같은 키의 재요청은 다시 실행하지 않고 처음 요청의 결과를 반환한다")
+    void sameKeyReturnsFirstResultTest() {
+        //given
+        UserPoint first = new UserPoint(1L, 100L, 1L);
+
+        //when
+        UserPoint result = execute("key-1", CHARGE, CompletableFuture.completedFuture(first)).join();
+        UserPoint retried = execute("key-1", CHARGE, CompletableFuture.completedFuture(new UserPoint(1L, 200L, 2L))).join();
+
+        //then
+        assertThat(executions).hasValue(1);
+        assertThat(retried).isEqualTo(result).isEqualTo(first);
+    }
+
+    @Test
+    @DisplayName("처음 요청이 처리 중이면 같은 키의 요청은 실행하지 않고 처음 요청의 결과를 기다린다")
+    void duplicateWaitsForInFlightTest() {
+        //given : 처음 요청이 아직 완료되지 않은 상태
+        CompletableFuture<UserPoint> inFlight = new CompletableFuture<>();
+        CompletableFuture<UserPoint> first = execute("key-1", CHARGE, inFlight);
+
+        //when
+        CompletableFuture<UserPoint> duplicate = execute("key-1", CHARGE, CompletableFuture.completedFuture(null));
+        assertThat(duplicate).isNotDone();
+        inFlight.complete(new UserPoint(1L, 100L, 1L));
+
+        //then
+        assertThat(executions).hasValue(1);
+        assertThat(duplicate.join()).isEqualTo(first.join());
+    }
+
+    @Test
+    @DisplayName("실패한 요청은 보관하지 않으므로 같은 키로 다시 요청하면 다시 실행한다")
+    void failedRequestIsRetriedTest() {
+        //given
+        execute("key-1", USE, CompletableFuture.failedFuture(new IllegalArgumentException("잔여 포인트보다 많이 사용할 수 없습니다.")));
+
+        //when
+        UserPoint retried = execute("key-1", USE, CompletableFuture.completedFuture(new UserPoint(1L, 0L, 1L))).join();
+
+        //then
+        assertThat(executions).hasValue(2);
+        assertThat(retried.point()).isZero();
+    }
+
+    @Test
+    @DisplayName("같은 키로 다른 금액을 요청하면 실패하고, 다른 종류(충전/사용)의 요청은 별개의 키로 처리한다")
+    void keyScopeTest() {
+        //given
+        execute("key-1", CHARGE, CompletableFuture.completedFuture(new UserPoint(1L, 100L, 1L)));
+
+        //when
+        Throwable throwable = catchThrowable(() -> pointIdempotencyStore.execute("key-1", 1L, CHARGE, 50L,
+                () -> CompletableFuture.completedFuture(null)).join());
+        execute("key-1", USE, CompletableFuture.completedFuture(new UserPoint(1L, 0L, 2L)));
+
+        //then
+        assertThat(throwable).hasCauseInstanceOf(IllegalArgumentException.class);
+        assertThat(executions).hasValue(2);
+    }
+
+    private CompletableFuture<UserPoint> execute(String key, TransactionType type,
+                                                 CompletableFuture<UserPoint> result) {
+        return pointIdempotencyStore.execute(key, 1L, type, 100L, () -> {
+            executions.incrementAndGet();
+            return result;
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package io.hhplus.tdd.point.service;
+
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
+import static io.hhplus.tdd.point.repository.TransactionType.USE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.catchThrowable;
+
+class PointMetricsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final PointMetrics pointMetrics = new PointMetrics(meterRegistry);
+
+    @Test
+    @DisplayName("처리 종류별 Timer 는 생성 시점에 등록되고, 처리할 때마다 같은 Timer 에 기록된다")
+    void recordServiceTimerTest() {
+        //given
+        Timer charge = meterRegistry.get("point.service").tag("operation", PointMetrics.CHARGE).timer();
+
+        //when
+        pointMetrics.record(PointMetrics.CHARGE, () -> 1L);
+        pointMetrics.record(PointMetrics.CHARGE, () -> 2L);
+        pointMetrics.record(PointMetrics.SELECT, () -> 3L);
+
+        //then
+        assertThat(meterRegistry.get("point.service").timers()).hasSize(5);
+        assertThat(charge.count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("point.service").tag("operation", PointMetrics.SELECT).timer().count())
+                .isEqualTo(1L);
+        assertThat(meterRegistry.get("point.service").tag("operation", PointMetrics.USE).timer().count())
+                .isZero();
+    }
+
+    @Test
+    @DisplayName("비동기 처리는 결과가 완료될 때 기록된다")
+    void recordAsyncTest() {
+        //given
+        CompletableFuture<Long> result = new CompletableFuture<>();
+        Timer use = meterRegistry.get("point.service").tag("operation", PointMetrics.USE).timer();
+
+        //when
+        CompletableFuture<Long> recorded = pointMetrics.recordAsync(PointMetrics.USE, () -> result);
+        long countBeforeComplete = use.count();
+        result.complete(1L);
+
+        //then
+        assertThat(recorded.join()).isEqualTo(1L);
+        assertThat(countBeforeComplete).isZero();
+        assertThat(use.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("락/큐 대기 시간과 거절 사유별 횟수를 기록한다")
+    void recordWaitAndRejectedTest() {
+        //when
+        pointMetrics.recordLockWait(1_000L);
+        pointMetrics.recordQueueWait(2_000L);
+        pointMetrics.recordQueueWait(3_000L);
+        pointMetrics.rejected(CHARGE, 0L);
+        pointMetrics.rejected(USE, 150L);
+        pointMetrics.rejected(USE, 200L);
+        pointMetrics.rejected(USE, -10L);
+
+        //then
+        assertThat(meterRegistry.get("point.wait").tag("type", "lock").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("point.wait").tag("type", "queue").timer().count()).isEqualTo(2L);
+        assertThat(meterRegistry.get("point.rejected").tag("reason", "invalid_charge").counter().count())
+                .isEqualTo(1.0);
+        assertThat(meterRegistry.get("point.rejected").tag("reason", "insufficient_balance").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get("point.rejected").tag("reason", "invalid_use").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("비동기 처리가 결과를 만들기 전에 예외를 던져도 처리 시간을 기록한다")
+    void recordAsyncThrowTest() {
+        //given
+        Timer charge = meterRegistry.get("point.service").tag("operation", PointMetrics.CHARGE).timer();
+
+        //when
+        Throwable thrown = catchThrowable(() -> pointMetrics.<Long>recordAsync(PointMetrics.CHARGE, () -> {
+            throw new IllegalStateException("명령 큐가 종료되었습니다.");
+        }));
+
+        //then
+        assertThat(thrown).isInstanceOf(IllegalStateException.class);
+        assertThat(charge.count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("정의되지 않은 처리 종류는 Timer 를 새로 만들지 않고 거절한다")
+    void unknownOperationTest() {
+        //when, then
+        assertThatThrownBy(() -> pointMetrics.record("unknown", () -> 1L))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(meterRegistry.find("point.service").tag("operation", "unknown").timer()).isNull();
+    }
+}
@@ -1,18 +1,32 @@
 package io.hhplus.tdd.point.service;
 
-import io.hhplus.tdd.database.PointHistoryTable;
 import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.hot.HotUserRouter;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
 import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
 import io.hhplus.tdd.point.repository.TransactionType;
 import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.UserPointRepository;
+import io.hhplus.tdd.point.shard.LocalPointShard;
+import io.hhplus.tdd.point.shard.PointShardRing;
+import io.hhplus.tdd.point.shard.PointShardRouter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import static io.hhplus.tdd.point.repository.TransactionType.CHARGE;
 import static io.hhplus.tdd.point.repository.TransactionType.USE;
@@ -31,12 +45,40 @@ public class PointServiceTest {
     private UserPointTable userPointTable;
 
     @Mock
-    private PointHistoryTable pointHistoryTable;
+    private UserPointRepository userPointRepository;
+
+    @Mock
+    private PointHistoryRepository pointHistoryRepository;
+
+    @Spy
+    private UserLockManager userLockManager = new UserLockManager();
+
+    //mock 의 isEnabled 는 false 이므로 LOCK 모드로 동작
+    @Mock
+    private PointCommandQueue pointCommandQueue;
+
+    @Spy
+    private PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Mock
+    private PointCommitPublisher pointCommitPublisher;
+
+    //mock 의 isEnabled 는 false 이므로 CAS 경로를 사용하지 않는다.
+    @Mock
+    private AtomicPointUpdater atomicPointUpdater;
+
+    //mock 의 isEnabled 는 false 이므로 샤드로 넘기지 않는다.
+    @Mock
+    private PointShardRouter pointShardRouter;
+
+    //mock 의 route 는 false 이므로 hot user 경로로 넘기지 않는다.
+    @Mock
+    private HotUserRouter hotUserRouter;
 
     private final long id = 1L;
 
     private void getUserPoint(long amount) {
-        when(userPointTable.selectById(id)).thenReturn(new UserPoint(id, amount, System.currentTimeMillis()));
+        when(userPointRepository.findById(id)).thenReturn(new UserPoint(id, amount, System.currentTimeMillis()));
     }
 
     @Test
@@ -59,7 +101,7 @@ public class PointServiceTest {
         List<PointHistory> expectedHistory = List.of(history1, history2);
 
         //when
-        when(pointHistoryTable.selectAllByUserId(anyLong())).thenReturn(expectedHistory);
+        when(pointHistoryRepository.findAllByUserId(anyLong())).thenReturn(expectedHistory);
 
         //then
         List<PointHistory> pointHistory = pointService.selectPointHistory(id);
@@ -74,7 +116,7 @@ public class PointServiceTest {
         long amount = 100L;
         getUserPoint(amount);
 
-        when(pointHistoryTable.insert(eq(id), anyLong(), any(), anyLong()))
+        when(pointHistoryRepository.save(eq(id), anyLong(), any(), anyLong()))
                 .thenAnswer(invocationOnMock -> {
                     long inId = invocationOnMock.getArgument(0);
                     long inAmount = invocationOnMock.getArgument(1);
@@ -86,13 +128,13 @@ public class PointServiceTest {
 
         //포인트 충전 검증
         pointService.charge(id, 100L);
-        verify(pointHistoryTable, times(1)).insert(eq(id), anyLong(), eq(CHARGE), anyLong());
+        verify(pointHistoryRepository, times(1)).save(eq(id), anyLong(), eq(CHARGE), anyLong());
         pointService.charge(id, 200L);
-        verify(pointHistoryTable, times(2)).insert(eq(id), anyLong(), eq(CHARGE), anyLong());
+        verify(pointHistoryRepository, times(2)).save(eq(id), anyLong(), eq(CHARGE), anyLong());
 
         //포인트 사용 검증
         pointService.use(id, 100L);
-        verify(pointHistoryTable, times(1)).insert(eq(id), anyLong(), eq(USE), anyLong());
+        verify(pointHistoryRepository, times(1)).save(eq(id), anyLong(), eq(USE), anyLong());
     }
 
     // -------------------------------------------------------------------------
@@ -121,7 +163,7 @@ public class PointServiceTest {
         getUserPoint(base);
 
         //when
-        when(userPointTable.insertOrUpdate(anyLong(), anyLong())).thenAnswer(invocationOnMock -> {
+        when(userPointRepository.save(anyLong(), anyLong())).thenAnswer(invocationOnMock -> {
             long invocationID = invocationOnMock.getArgument(0);
             long invocationAmount = invocationOnMock.getArgument(1);
             return new UserPoint(invocationID, invocationAmount, System.currentTimeMillis());
@@ -155,7 +197,7 @@ public class PointServiceTest {
                 .hasMessage("잔여 포인트보다 많이 사용할 수 없습니다.");
 
         //잔여 포인트는 변하지 않아야 된다.
-        assertThat(userPointTable.selectById(id).point()).isEqualTo(base);
+        assertThat(userPointRepository.findById(id).point()).isEqualTo(base);
     }
 
     //성공 TC
@@ -169,12 +211,12 @@ public class PointServiceTest {
 
         //when
         long useAmount = 50L;
-        when(userPointTable.insertOrUpdate(id, useAmount)).thenAnswer(invocationOnMock -> {
+        when(userPointRepository.save(id, useAmount)).thenAnswer(invocationOnMock -> {
            long inId = invocationOnMock.getArgument(0);
            long inAmount = invocationOnMock.getArgument(1);
 
            //포인트 변경
-           long baseAmount = userPointTable.selectById(inId).point();
+           long baseAmount = userPointRepository.findById(inId).point();
            long updateAmount = baseAmount - inAmount;
            return new UserPoint(inId, updateAmount, System.currentTimeMillis());
         });
@@ -186,4 +228,44 @@ public class PointServiceTest {
         //잔여 포인트 -= 포인트 검증
         assertThat(userPoint.point()).isEqualTo(base - useAmount);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("샤드 모드에서는 유저가 배정된 샤드의 저장소에서만 충전/사용/조회하고 공용 저장소는 사용하지 않는다")
+    void routeToShardTest() throws Exception {
+        //given : 지연 없는 저장소를 가진 샤드 4개
+        Map<String, UserPointRepository> repositories = new HashMap<>();
+        List<LocalPointShard> shards = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            UserPointRepository repository = new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none());
+            repositories.put("shard-" + i, repository);
+            shards.add(LocalPointShard.of("shard-" + i, new UserPointTable(), repository,
+                    new IndexedPointHistoryRepository(new SimulatedPointHistoryRepository(LatencyProfile.none())),
+                    pointMetrics, PointCommitPublisher.none(), 2, 100));
+        }
+        PointShardRouter router = new PointShardRouter(new PointShardRing(shards, 160));
+        PointService shardedService = new PointService(userPointTable, userPointRepository, pointHistoryRepository,
+                userLockManager, pointCommandQueue, pointMetrics, pointCommitPublisher, atomicPointUpdater,
+                router, HotUserRouter.disabled());
+
+        //when : 유저 3 ~ 22 에게 100 충전 후 30 사용
+        for (long userId = 3; userId < 23; userId++) {
+            shardedService.charge(userId, 100L);
+            shardedService.use(userId, 30L);
+        }
+
+        //then : 배정된 샤드에만 잔고가 있고, 잔고 부족은 원래 예외로 전달된다.
+        for (long userId = 3; userId < 23; userId++) {
+            String shardId = router.route(userId).id();
+            assertThat(shardedService.select(userId).point()).isEqualTo(70L);
+            assertThat(shardedService.selectPointHistory(userId)).extracting(PointHistory::type)
+                    .containsExactly(CHARGE, USE);
+            for (Map.Entry<String, UserPointRepository> entry : repositories.entrySet()) {
+                assertThat(entry.getValue().findById(userId).point())
+                        .isEqualTo(entry.getKey().equals(shardId) ? 70L : 0L);
+            }
+        }
+        assertThatThrownBy(() -> shardedService.use(3L, 100L)).isInstanceOf(IllegalArgumentException.class);
+        verifyNoInteractions(userPointRepository, pointHistoryRepository, userPointTable);
+        router.close();
+    }
+}
@@ -0,0 +1,89 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.database.UserPointTable;
+import io.hhplus.tdd.point.repository.IndexedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.LatencyProfile;
+import io.hhplus.tdd.point.repository.PointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedPointHistoryRepository;
+import io.hhplus.tdd.point.repository.SimulatedUserPointRepository;
+import io.hhplus.tdd.point.repository.UserPoint;
+import io.hhplus.tdd.point.repository.WriteBehindPointHistoryRepository;
+import io.hhplus.tdd.point.service.PointAdmissionRejectedException;
+import io.hhplus.tdd.point.service.PointCommitPublisher;
+import io.hhplus.tdd.point.service.PointMetrics;
+import io.hhplus.tdd.point.service.PointService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LocalPointShardTest {
+
+    private final PointMetrics pointMetrics = new PointMetrics(new SimpleMeterRegistry());
+
+    @Test
+    @DisplayName("대기 큐가 가득 차면 재시도할 수 있는 거절(429)로 바로 실패하고, 앞 요청은 정상 처리된다")
+    void rejectWhenQueueFullTest() throws Exception {
+        //given : 처리 스레드 1개, 대기 큐 1칸, 첫 요청은 풀어줄 때까지 처리 중
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PointService pointService = mock(PointService.class);
+        when(pointService.charge(anyLong(), anyLong())).thenAnswer(invocation -> {
+            started.countDown();
+            release.await();
+            return new UserPoint(invocation.getArgument(0), invocation.getArgument(1), 0L);
+        });
+        LocalPointShard shard = new LocalPointShard("shard-0", pointService, pointMetrics, 1, 1);
+
+        //when
+        CompletableFuture<UserPoint> running = shard.charge(3L, 10L);
+        started.await();
+        CompletableFuture<UserPoint> queued = shard.charge(4L, 20L);
+        CompletableFuture<UserPoint> rejected = shard.charge(5L, 30L);
+        Throwable thrown = catchThrowable(rejected::join);
+        release.countDown();
+
+        //then
+        assertThat(thrown).hasCauseInstanceOf(PointAdmissionRejectedException.class);
+        assertThat(((PointAdmissionRejectedException) thrown.getCause()).retryAfterSeconds()).isPositive();
+        assertThat(running.join().point()).isEqualTo(10L);
+        assertThat(queued.join().point()).isEqualTo(20L);
+        assertThat(shard.requestCount()).isEqualTo(3L);
+        shard.close();
+    }
+
+    @Test
+    @DisplayName("종료하면 대기 중인 요청을 처리한 뒤 write-behind 저장소를 닫아 남은 내역을 저장하고, 이후 요청은 거절한다")
+    void closeFlushesResourcesTest() throws Exception {
+        //given
+        //Simulated 저장소는 id 부여만 하므로 조회할 수 있도록 인덱스로 감싼다.
+        PointHistoryRepository stored = new IndexedPointHistoryRepository(
+                new SimulatedPointHistoryRepository(LatencyProfile.none()));
+        LocalPointShard shard = LocalPointShard.of("shard-0", new UserPointTable(),
+                new SimulatedUserPointRepository(LatencyProfile.none(), LatencyProfile.none()),
+                new WriteBehindPointHistoryRepository(stored, 1024, 16),
+                pointMetrics, PointCommitPublisher.none(), 2, 100);
+        CompletableFuture<?>[] charges = new CompletableFuture<?>[10];
+        for (int i = 0; i < charges.length; i++) {
+            charges[i] = shard.charge(3L, 10L);
+        }
+
+        //when
+        shard.close();
+        Throwable thrown = catchThrowable(() -> shard.charge(3L, 10L).join());
+
+        //then
+        assertThat(CompletableFuture.allOf(charges)).isCompleted();
+        assertThat(stored.findAllByUserId(3L)).hasSize(10);
+        assertThat(thrown).hasCauseInstanceOf(RejectedExecutionException.class);
+    }
+}
@@ -0,0 +1,104 @@
+package io.hhplus.tdd.point.shard;
+
+import io.hhplus.tdd.point.repository.PointHistory;
+import io.hhplus.tdd.point.repository.PointHistoryQuery;
+import io.hhplus.tdd.point.repository.PointSummary;
+import io.hhplus.tdd.point.repository.UserPoint;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PointShardRingTest {
+
+    private static final int USERS = 100_000;
+
+    @Test
+    @DisplayName("유저는 샤드에 고르게 나뉘고, 같은 유저는 항상 같은 샤드로 간다")
+    void balancedRoutingTest() {
+        //given
+        PointShardRing ring = new PointShardRing(shards(8), 160);
+
+        //when
+        Map<String, Integer> counts = new HashMap<>();
+        for (long userId = 1; userId <= USERS; userId++) {
+            counts.merge(ring.route(userId).id(), 1, Integer::sum);
+        }
+
+        //then : 평균(12,500명)에서 20% 이상 벗어나는 샤드가 없다.
+        assertThat(counts).hasSize(8);
+        assertThat(counts.values()).allSatisfy(count -> assertThat(count).isBetween(10_000, 15_000));
+        assertThat(ring.route(42L).id()).isEqualTo(new PointShardRing(shards(8), 160).route(42L).id());
+    }
+
+    @Test
+    @DisplayName("샤드를 하나 추가하면 새 샤드로 가는 유저만 옮겨진다")
+    void minimalMovementTest() {
+        //given
+        PointShardRing before = new PointShardRing(shards(8), 160);
+        PointShardRing after = new PointShardRing(shards(9), 160);
+
+        //when
+        int moved = 0;
+        for (long userId = 1; userId <= USERS; userId++) {
+            String from = before.route(userId).id();
+            String to = after.route(userId).id();
+            if (!from.equals(to)) {
+                moved++;
+                assertThat(to).isEqualTo("shard-8");
+            }
+        }
+
+        //then : 약 1/9 만 옮겨진다.
+        assertThat(moved).isBetween(USERS / 9 * 7 / 10, USERS / 9 * 13 / 10);
+    }
+
+    private static List<PointShard> shards(int count) {
+        return IntStream.range(0, count).<PointShard>mapToObj(i -> new NamedShard("shard-" + i)).toList();
+    }
+
+    //배정 결과만 확인하므로 id 만 있는 샤드
+    private record NamedShard(String id) implements PointShard {
+
+        @Override
+        public CompletableFuture<UserPoint> select(long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<UserPoint> charge(long userId, long amount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<UserPoint> use(long userId, long amount) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<List<PointHistory>> histories(long userId, PointHistoryQuery query, int limit) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public CompletableFuture<PointSummary> summary(long userId) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public int queueDepth() {
+            return 0;
+        }
+
+        @Override
+        public long requestCount() {
+            return 0L;
+        }
+    }
+}